@@ -0,0 +1,279 @@
+package com.jframe.json.processor;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.*;
+
+/**
+ * 生成JSONCodec源码
+ * @author jiangjian45
+ * Created at 2026/10/20 13:45
+ */
+final class CodecWriter {
+    /**
+     * 可直接从token读取/写出的标量类型：包装类型 -> {快速读取条件, 快速读取表达式, 写出方法, 写出时的取值后缀}
+     */
+    private static final Map<String, String[]> SCALARS = new HashMap<String, String[]>();
+
+    static {
+        SCALARS.put("java.lang.Integer", new String[]{"t.isNumeric()", "p.getIntValue()", "writeNumber", ".intValue()"});
+        SCALARS.put("java.lang.Long", new String[]{"t.isNumeric()", "p.getLongValue()", "writeNumber", ".longValue()"});
+        SCALARS.put("java.lang.Double", new String[]{"t.isNumeric()", "p.getDoubleValue()", "writeNumber", ".doubleValue()"});
+        SCALARS.put("java.lang.Float", new String[]{"t.isNumeric()", "p.getFloatValue()", "writeNumber", ".floatValue()"});
+        SCALARS.put("java.lang.Short", new String[]{"t.isNumeric()", "p.getShortValue()", "writeNumber", ".shortValue()"});
+        SCALARS.put("java.lang.Byte", new String[]{"t.isNumeric()", "p.getByteValue()", "writeNumber", ".intValue()"});
+        SCALARS.put("java.lang.Boolean", new String[]{"t.isBoolean()", "t == JsonToken.VALUE_TRUE", "writeBoolean", ".booleanValue()"});
+        SCALARS.put("java.lang.String", new String[]{"t == JsonToken.VALUE_STRING", "p.getText()", "writeString", ""});
+        SCALARS.put("java.math.BigDecimal", new String[]{"t.isNumeric()", "p.getDecimalValue()", "writeNumber", ""});
+    }
+
+    private static final Map<TypeKind, String> BOXES = new EnumMap<TypeKind, String>(TypeKind.class);
+
+    static {
+        BOXES.put(TypeKind.INT, "java.lang.Integer");
+        BOXES.put(TypeKind.LONG, "java.lang.Long");
+        BOXES.put(TypeKind.DOUBLE, "java.lang.Double");
+        BOXES.put(TypeKind.FLOAT, "java.lang.Float");
+        BOXES.put(TypeKind.SHORT, "java.lang.Short");
+        BOXES.put(TypeKind.BYTE, "java.lang.Byte");
+        BOXES.put(TypeKind.BOOLEAN, "java.lang.Boolean");
+        BOXES.put(TypeKind.CHAR, "java.lang.Character");
+    }
+
+    private final String packageName;
+    private final String codecName;
+    private final String typeName;
+    private final List<Property> properties;
+    private final StringBuilder out = new StringBuilder(4096);
+
+    CodecWriter(String packageName, String codecName, String typeName, List<Property> properties) {
+        this.packageName = packageName;
+        this.codecName = codecName;
+        this.typeName = typeName;
+        this.properties = properties;
+    }
+
+    String source() {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        line("import com.fasterxml.jackson.core.JsonGenerator;");
+        line("import com.fasterxml.jackson.core.JsonParser;");
+        line("import com.fasterxml.jackson.core.JsonToken;");
+        line("import com.fasterxml.jackson.core.io.SerializedString;");
+        line("import com.fasterxml.jackson.core.type.TypeReference;");
+        line("import com.fasterxml.jackson.databind.DeserializationContext;");
+        line("import com.fasterxml.jackson.databind.JavaType;");
+        line("import com.fasterxml.jackson.databind.SerializerProvider;");
+        line("import com.fasterxml.jackson.databind.type.TypeFactory;");
+        line("import com.jframe.json.JSONCodec;");
+        line("");
+        line("import java.io.IOException;");
+        line("");
+        line("/**");
+        line(" * Generated by json-facade-processor for " + typeName + ", do not edit.");
+        line(" */");
+        line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line("public final class " + codecName + " implements JSONCodec<" + typeName + "> {");
+        constants();
+        writeMethod();
+        readMethod();
+        indexMethod();
+        line("}");
+        return out.toString();
+    }
+
+    private void constants() {
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            line("    private static final SerializedString NAME_" + i + " = new SerializedString(" + literal(property.name) + ");");
+            if (scalar(property.type) == null) {
+                line("    private static final JavaType TYPE_" + i + " = " + javaType(property.type) + ";");
+            }
+        }
+        line("");
+    }
+
+    private void writeMethod() {
+        line("    @Override");
+        line("    public void write(JsonGenerator gen, " + typeName + " value, SerializerProvider provider) throws IOException {");
+        line("        gen.writeStartObject(value);");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (property.getter == null) {
+                continue;
+            }
+            TypeMirror type = property.type;
+            String getter = "value." + property.getter;
+            if (type.getKind().isPrimitive()) {
+                line("        gen.writeFieldName(NAME_" + i + ");");
+                if (type.getKind() == TypeKind.BOOLEAN) {
+                    line("        gen.writeBoolean(" + getter + ");");
+                } else if (type.getKind() == TypeKind.CHAR) {
+                    line("        gen.writeString(String.valueOf(" + getter + "));");
+                } else if (type.getKind() == TypeKind.BYTE) {
+                    line("        gen.writeNumber((int) " + getter + ");");
+                } else {
+                    line("        gen.writeNumber(" + getter + ");");
+                }
+                continue;
+            }
+            String[] scalar = scalar(type);
+            line("        {");
+            line("            " + type + " v = " + getter + ";");
+            line("            if (v != null) {");
+            line("                gen.writeFieldName(NAME_" + i + ");");
+            if (scalar != null) {
+                line("                gen." + scalar[2] + "(v" + scalar[3] + ");");
+            } else {
+                line("                provider.defaultSerializeValue(v, gen);");
+            }
+            line("            }");
+            line("        }");
+        }
+        line("        gen.writeEndObject();");
+        line("    }");
+        line("");
+    }
+
+    private void readMethod() {
+        line("    @Override");
+        line("    public " + typeName + " read(JsonParser p, DeserializationContext ctxt) throws IOException {");
+        line("        JsonToken t = p.currentToken();");
+        line("        String name;");
+        line("        if (t == JsonToken.START_OBJECT) {");
+        line("            name = p.nextFieldName();");
+        line("        } else if (t == JsonToken.FIELD_NAME) {");
+        line("            name = p.getCurrentName();");
+        line("        } else if (t == JsonToken.VALUE_NULL) {");
+        line("            return null;");
+        line("        } else {");
+        line("            return (" + typeName + ") ctxt.handleUnexpectedToken(" + typeName + ".class, p);");
+        line("        }");
+        line("        " + typeName + " bean = new " + typeName + "();");
+        line("        for (; name != null; name = p.nextFieldName()) {");
+        line("            t = p.nextToken();");
+        line("            switch (index(name)) {");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (property.setter == null) {
+                continue;
+            }
+            line("                case " + i + ": {");
+            readProperty(i, property);
+            line("                    break;");
+            line("                }");
+        }
+        line("                default:");
+        line("                    p.skipChildren();");
+        line("            }");
+        line("        }");
+        line("        return bean;");
+        line("    }");
+        line("");
+    }
+
+    private void readProperty(int index, Property property) {
+        TypeMirror type = property.type;
+        boolean primitive = type.getKind().isPrimitive();
+        String boxed = primitive ? BOXES.get(type.getKind()) : null;
+        String[] scalar = scalar(type);
+        String valueType = primitive ? boxed : type.toString();
+
+        line("                    " + valueType + " v = null;");
+        line("                    if (t != JsonToken.VALUE_NULL) {");
+        if (scalar != null) {
+            String className = primitive ? boxed : type.toString();
+            String fast = "java.lang.String".equals(className) || "java.math.BigDecimal".equals(className)
+                    ? scalar[1] : className + ".valueOf(" + scalar[1] + ")";
+            line("                        v = " + scalar[0] + " ? " + fast + " : ctxt.readValue(p, " + className + ".class);");
+        } else if (primitive) {
+            line("                        v = ctxt.readValue(p, " + boxed + ".class);");
+        } else {
+            line("                        v = ctxt.readValue(p, TYPE_" + index + ");");
+        }
+        line("                    }");
+        String assign = Property.FIELD_ASSIGN.equals(property.setter)
+                ? "bean." + property.field + " = v;"
+                : "bean." + property.setter + "(v);";
+        if (primitive) {
+            line("                    if (v != null) {");
+            line("                        " + assign);
+            line("                    }");
+        } else {
+            line("                    " + assign);
+        }
+    }
+
+    /**
+     * 属性名先精确匹配，再按小写匹配，与门面默认的大小写不敏感保持一致
+     */
+    private void indexMethod() {
+        line("    private static int index(String name) {");
+        line("        switch (name) {");
+        for (int i = 0; i < properties.size(); i++) {
+            line("            case " + literal(properties.get(i).name) + ":");
+            line("                return " + i + ";");
+        }
+        line("            default:");
+        line("                break;");
+        line("        }");
+        line("        switch (name.toLowerCase()) {");
+        Set<String> lowerNames = new HashSet<String>();
+        for (int i = 0; i < properties.size(); i++) {
+            String lowerName = properties.get(i).name.toLowerCase();
+            if (lowerNames.add(lowerName)) {
+                line("            case " + literal(lowerName) + ":");
+                line("                return " + i + ";");
+            }
+        }
+        line("            default:");
+        line("                return -1;");
+        line("        }");
+        line("    }");
+    }
+
+    private static String[] scalar(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return SCALARS.get(BOXES.get(type.getKind()));
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return SCALARS.get(type.toString());
+        }
+        return null;
+    }
+
+    private static String javaType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return "TypeFactory.defaultInstance().constructType(" + BOXES.get(type.getKind()) + ".class)";
+        }
+        if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return "TypeFactory.defaultInstance().constructType(" + type + ".class)";
+        }
+        return "TypeFactory.defaultInstance().constructType(new TypeReference<" + type + ">() { })";
+    }
+
+    /**
+     * java字符串字面量，@JsonProperty指定的属性名可能包含引号等字符
+     */
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7E) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void line(String line) {
+        out.append(line).append('\n');
+    }
+}
@@ -0,0 +1,363 @@
+package com.jframe.json.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * 为{@code @JSONCompiled}标记的类生成JSONCodec实现：
+ * 属性名预编码为SerializedString，属性按声明顺序逐个读写，不使用反射。
+ * 属性的发现与命名同jackson的默认规则，支持{@code @JsonProperty}与{@code @JsonIgnore}，
+ * 其他jackson注解或生成的代码无法访问的成员在编译时报错，输出与jackson不一致的代码不会被生成
+ * @author jiangjian45
+ * Created at 2026/10/20 13:10
+ */
+public class JSONCompiledProcessor extends AbstractProcessor {
+    private static final String ANNOTATION = "com.jframe.json.JSONCompiled";
+    private static final String CODEC_SUFFIX = "_JSONCodec";
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson.annotation.";
+    private static final String JACKSON_DATABIND_ANNOTATION_PACKAGE = "com.fasterxml.jackson.databind.annotation.";
+    private static final String JACKSON_ANNOTATIONS_INSIDE = "com.fasterxml.jackson.annotation.JacksonAnnotationsInside";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                try {
+                    generate(type);
+                } catch (IllegalStateException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), type);
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "can not write codec, " + e, type);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || type.getKind() != ElementKind.CLASS) {
+            throw new IllegalStateException("@JSONCompiled only supports concrete classes");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new IllegalStateException("@JSONCompiled does not support generic classes");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new IllegalStateException("@JSONCompiled does not support inner classes, make it static");
+        }
+        if (!hasDefaultConstructor(type)) {
+            throw new IllegalStateException("@JSONCompiled requires a non-private no-arg constructor");
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String codecName = codecSimpleName(type);
+        String typeName = type.getQualifiedName().toString();
+        List<Property> properties = properties(type);
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? codecName : packageName + "." + codecName, type);
+        try (Writer out = file.openWriter()) {
+            out.write(new CodecWriter(packageName, codecName, typeName, properties).source());
+        }
+    }
+
+    private static String codecSimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, ((TypeElement) enclosing).getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(CODEC_SUFFIX).toString();
+    }
+
+    private static boolean hasDefaultConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按jackson的默认规则收集属性：public字段、public getter与任意可见性的setter，{@code @JsonProperty}标记的成员同样可见。
+     * 顺序与jackson相同：字段按声明顺序(父类在前)，然后是只有方法的属性，最后是被{@code @JsonProperty}重命名的属性
+     */
+    private List<Property> properties(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<TypeElement>();
+        for (TypeElement t = type; t != null && !"java.lang.Object".equals(t.getQualifiedName().toString()); t = superclass(t)) {
+            hierarchy.add(0, t);
+        }
+        Map<String, Accessors> accessors = new LinkedHashMap<String, Accessors>();
+        for (TypeElement t : hierarchy) {
+            checkAnnotations(t, false);
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                checkAnnotations(field, true);
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    accessors(accessors, field.getSimpleName().toString()).field = field;
+                }
+            }
+        }
+        for (TypeElement t : hierarchy) {
+            for (ExecutableElement constructor : ElementFilter.constructorsIn(t.getEnclosedElements())) {
+                checkAnnotations(constructor, false);
+            }
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                checkAnnotations(method, true);
+                if (!method.getModifiers().contains(Modifier.STATIC)) {
+                    addMethod(accessors, method);
+                }
+            }
+        }
+
+        List<Property> properties = new ArrayList<Property>();
+        List<Property> renamed = new ArrayList<Property>();
+        Set<String> names = new HashSet<String>();
+        for (Map.Entry<String, Accessors> entry : accessors.entrySet()) {
+            Property property = property(type, entry.getKey(), entry.getValue());
+            if (property == null) {
+                continue;
+            }
+            if (!names.add(property.name)) {
+                throw new IllegalStateException("duplicate property name \"" + property.name + "\"");
+            }
+            (property.name.equals(entry.getKey()) ? properties : renamed).add(property);
+        }
+        properties.addAll(renamed);
+        return properties;
+    }
+
+    private static Accessors accessors(Map<String, Accessors> accessors, String name) {
+        Accessors result = accessors.get(name);
+        if (result == null) {
+            result = new Accessors();
+            accessors.put(name, result);
+        }
+        return result;
+    }
+
+    /**
+     * getter只有public或带{@code @JsonProperty}时可见，setter不限可见性，子类的方法覆盖父类
+     */
+    private static void addMethod(Map<String, Accessors> accessors, ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        int parameters = method.getParameters().size();
+        String property = null;
+        if (parameters == 0 && method.getReturnType().getKind() != TypeKind.VOID) {
+            if (name.startsWith("get") && name.length() > 3 && !"getClass".equals(name)) {
+                property = propertyName(name, 3);
+            } else if (name.startsWith("is") && name.length() > 2 && isBoolean(method.getReturnType())) {
+                property = propertyName(name, 2);
+            }
+            if (property != null && (method.getModifiers().contains(Modifier.PUBLIC) || annotation(method, JSON_PROPERTY) != null)) {
+                accessors(accessors, property).getter = method;
+                return;
+            }
+        } else if (parameters == 1 && name.startsWith("set") && name.length() > 3) {
+            property = propertyName(name, 3);
+            accessors(accessors, property).setter = method;
+            return;
+        }
+        if (property == null && (annotation(method, JSON_PROPERTY) != null || annotation(method, JSON_IGNORE) != null)) {
+            throw new IllegalStateException("@JSONCompiled only supports @JsonProperty and @JsonIgnore on fields, getters and setters, found on "
+                    + name + "()");
+        }
+    }
+
+    private Property property(TypeElement type, String implicitName, Accessors accessors) {
+        VariableElement field = accessors.field;
+        ExecutableElement getter = accessors.getter;
+        ExecutableElement setter = accessors.setter;
+        boolean fieldVisible = field != null && !field.getModifiers().contains(Modifier.TRANSIENT)
+                && (field.getModifiers().contains(Modifier.PUBLIC) || annotation(field, JSON_PROPERTY) != null);
+        if (!fieldVisible && getter == null && setter == null) {
+            return null;
+        }
+        if (ignored(field) || ignored(getter) || ignored(setter)) {
+            return null;
+        }
+        String name = implicitName;
+        String access = "AUTO";
+        for (Element element : new Element[]{field, getter, setter}) {
+            AnnotationMirror property = annotation(element, JSON_PROPERTY);
+            if (property == null) {
+                continue;
+            }
+            if (value(property, "index") != null) {
+                throw new IllegalStateException("@JSONCompiled does not support @JsonProperty(index) on " + implicitName);
+            }
+            Object explicitName = value(property, "value");
+            if (explicitName != null && !explicitName.toString().isEmpty()) {
+                if (!name.equals(implicitName) && !name.equals(explicitName)) {
+                    throw new IllegalStateException("conflicting @JsonProperty names on " + implicitName);
+                }
+                name = explicitName.toString();
+            }
+            Object explicitAccess = value(property, "access");
+            if (explicitAccess != null) {
+                access = ((VariableElement) explicitAccess).getSimpleName().toString();
+            }
+        }
+
+        String getterExpression = null;
+        if (!"WRITE_ONLY".equals(access)) {
+            if (getter != null) {
+                getterExpression = accessible(getter).getSimpleName() + "()";
+            } else if (fieldVisible) {
+                getterExpression = accessible(field).getSimpleName().toString();
+            }
+        }
+        String setterName = null;
+        if (!"READ_ONLY".equals(access)) {
+            if (setter != null) {
+                setterName = accessible(setter).getSimpleName().toString();
+            } else if (fieldVisible && !field.getModifiers().contains(Modifier.FINAL)) {
+                accessible(field);
+                setterName = Property.FIELD_ASSIGN;
+            } else if (field != null && getterExpression != null) {
+                // jackson此时通过反射直接给字段赋值，生成的代码做不到
+                throw new IllegalStateException("@JSONCompiled requires a setter for " + implicitName
+                        + ", jackson would set the field through reflection");
+            }
+        }
+        if (getterExpression == null && setterName == null) {
+            return null;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        TypeMirror propertyType;
+        if (field != null) {
+            propertyType = processingEnv.getTypeUtils().asMemberOf(declaredType, field);
+        } else if (getter != null) {
+            propertyType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, getter)).getReturnType();
+        } else {
+            propertyType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, setter)).getParameterTypes().get(0);
+        }
+        return new Property(name, field == null ? null : field.getSimpleName().toString(), propertyType,
+                getterExpression, setterName);
+    }
+
+    /**
+     * 除{@code @JsonProperty}与{@code @JsonIgnore}外的jackson注解都会改变绑定方式，生成的代码无法保持一致，直接报错
+     *
+     * @param member 是否为字段或方法，只有字段与方法允许使用上述两个注解
+     */
+    private static void checkAnnotations(Element element, boolean member) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+            if (member && (JSON_PROPERTY.equals(name) || JSON_IGNORE.equals(name))) {
+                continue;
+            }
+            if (name.startsWith(JACKSON_ANNOTATION_PACKAGE) || name.startsWith(JACKSON_DATABIND_ANNOTATION_PACKAGE)
+                    || annotation(annotationType, JACKSON_ANNOTATIONS_INSIDE) != null) {
+                throw new IllegalStateException("@JSONCompiled does not support @" + annotationType.getSimpleName()
+                        + " on " + element + ", remove @JSONCompiled to let jackson bind the class");
+            }
+        }
+        if (element instanceof ExecutableElement) {
+            for (VariableElement parameter : ((ExecutableElement) element).getParameters()) {
+                checkAnnotations(parameter, false);
+            }
+        }
+    }
+
+    private static <E extends Element> E accessible(E element) {
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new IllegalStateException("@JSONCompiled can not access private member " + element);
+        }
+        return element;
+    }
+
+    private static boolean ignored(Element element) {
+        AnnotationMirror ignore = annotation(element, JSON_IGNORE);
+        return ignore != null && !Boolean.FALSE.equals(value(ignore, "value"));
+    }
+
+    private static AnnotationMirror annotation(Element element, String name) {
+        if (element == null) {
+            return null;
+        }
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 注解中显式指定的值，未指定时为null
+     */
+    private static Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN
+                || type.getKind() == TypeKind.DECLARED && "java.lang.Boolean".equals(type.toString());
+    }
+
+    /**
+     * jackson默认的命名方式：去掉前缀后开头连续的大写字母都转为小写，如getURLValue对应urlvalue
+     */
+    private static String propertyName(String methodName, int prefixLength) {
+        StringBuilder name = new StringBuilder(methodName.length() - prefixLength);
+        int i = prefixLength;
+        for (; i < methodName.length(); i++) {
+            char c = methodName.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                break;
+            }
+            name.append(lower);
+        }
+        return name.append(methodName, i, methodName.length()).toString();
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * 同一个属性名对应的字段、getter与setter
+     */
+    private static final class Accessors {
+        VariableElement field;
+        ExecutableElement getter;
+        ExecutableElement setter;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jframe.json.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 待生成代码的属性
+ * @author jiangjian45
+ * Created at 2026/10/20 13:30
+ */
+final class Property {
+    /**
+     * 以"="表示直接给字段赋值
+     */
+    static final String FIELD_ASSIGN = "=";
+
+    /**
+     * json中的属性名，已应用{@code @JsonProperty}的重命名
+     */
+    final String name;
+    /**
+     * 对应的java字段名，没有字段时为null
+     */
+    final String field;
+    final TypeMirror type;
+    /**
+     * 取值表达式，如getName()或name，为null时该属性不输出
+     */
+    final String getter;
+    /**
+     * setter方法名或{@link #FIELD_ASSIGN}，为null时该属性不读取
+     */
+    final String setter;
+
+    Property(String name, String field, TypeMirror type, String getter, String setter) {
+        this.name = name;
+        this.field = field;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+}
@@ -0,0 +1,242 @@
+package com.jframe.json.processor;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jframe.json.JSON;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+/**
+ * 运行时编译带{@code @JSONCompiled}的类，生成的代码与jackson的反射绑定输出必须完全一致
+ * @author jiangjian45
+ * Created at 2026/10/22 14:20
+ */
+public class JSONCompiledProcessorTest {
+    /**
+     * 与门面相同的输出规则，未注册生成的代码
+     */
+    private static final ObjectMapper JACKSON = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final String BASE = "package fixture;\n"
+            + "public class Base {\n"
+            + "    public long id;\n"
+            + "    private String createdBy;\n"
+            + "    public String getCreatedBy() { return createdBy; }\n"
+            + "    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }\n"
+            + "}\n";
+
+    private static final String ITEM = "package fixture;\n"
+            + "public class Item {\n"
+            + "    public String sku;\n"
+            + "    public int count;\n"
+            + "}\n";
+
+    private static final String ORDER = "package fixture;\n"
+            + "import com.fasterxml.jackson.annotation.JsonIgnore;\n"
+            + "import com.fasterxml.jackson.annotation.JsonProperty;\n"
+            + "import java.math.BigDecimal;\n"
+            + "import java.util.List;\n"
+            + "import java.util.Map;\n"
+            + "@com.jframe.json.JSONCompiled\n"
+            + "public class Order extends Base {\n"
+            + "    public enum Status { NEW, PAID }\n"
+            + "    private String no;\n"
+            + "    @JsonProperty(\"buyer_name\")\n"
+            + "    private String buyer;\n"
+            + "    public int quantity;\n"
+            + "    public double rate;\n"
+            + "    public char grade;\n"
+            + "    public byte level;\n"
+            + "    private boolean paid;\n"
+            + "    public Integer score;\n"
+            + "    public BigDecimal amount;\n"
+            + "    public Status status;\n"
+            + "    public List<Item> items;\n"
+            + "    public Map<String, Integer> counters;\n"
+            + "    @JsonIgnore\n"
+            + "    public String secret;\n"
+            + "    @JsonProperty(access = JsonProperty.Access.READ_ONLY)\n"
+            + "    public String version = \"v1\";\n"
+            + "    String internal = \"hidden\";\n"
+            + "    private String remark;\n"
+            + "    public String getNo() { return no; }\n"
+            + "    public void setNo(String no) { this.no = no; }\n"
+            + "    public String getBuyer() { return buyer; }\n"
+            + "    public void setBuyer(String buyer) { this.buyer = buyer; }\n"
+            + "    public boolean isPaid() { return paid; }\n"
+            + "    public void setPaid(boolean paid) { this.paid = paid; }\n"
+            + "    @JsonProperty(\"note\\\"s\")\n"
+            + "    public String getRemark() { return remark; }\n"
+            + "    public void setRemark(String remark) { this.remark = remark; }\n"
+            + "    public String getURLValue() { return \"/orders/\" + no; }\n"
+            + "}\n";
+
+    private static final String INPUT = "{\"id\":7,\"createdBy\":\"ops\",\"no\":\"A-1\",\"buyer_name\":\"张三\",\"quantity\":3,"
+            + "\"rate\":0.125,\"grade\":\"B\",\"level\":-2,\"paid\":true,\"amount\":12.50,\"status\":\"PAID\","
+            + "\"items\":[{\"sku\":\"s1\",\"count\":2},{\"sku\":null,\"count\":0}],\"counters\":{\"a\":1},"
+            + "\"secret\":\"x\",\"version\":\"v2\",\"internal\":\"changed\",\"note\\\"s\":\"fast\"}";
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("processor-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        delete(dir.toFile());
+    }
+
+    @Test
+    public void matchesJackson() throws Exception {
+        assertEquals(Collections.emptyList(), compile(BASE, ITEM, ORDER));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("fixture.Order");
+            assertNotNull(loader.loadClass("fixture.Order_JSONCodec"));
+
+            Object order = JACKSON.readValue(INPUT, type);
+            String expected = JACKSON.writeValueAsString(order);
+            assertEquals(expected, JSON.toJSONString(order));
+            assertEquals(expected, JACKSON.writeValueAsString(JSON.parseObject(INPUT, type)));
+
+            // 所有可为null的属性都为null
+            Object empty = type.getDeclaredConstructor().newInstance();
+            assertEquals(JACKSON.writeValueAsString(empty), JSON.toJSONString(empty));
+        }
+    }
+
+    @Test
+    public void rejectsUnsupportedAnnotations() throws Exception {
+        assertRejected("@JsonFormat", "public class A {\n"
+                + "    @com.fasterxml.jackson.annotation.JsonFormat(pattern = \"yyyy\")\n"
+                + "    public java.util.Date date;\n"
+                + "}\n");
+        assertRejected("@JsonIgnoreProperties", "@com.fasterxml.jackson.annotation.JsonIgnoreProperties({\"a\"})\n"
+                + "public class A {\n"
+                + "    public String a;\n"
+                + "}\n");
+        assertRejected("@JsonCreator", "public class A {\n"
+                + "    public String a;\n"
+                + "    public A() { }\n"
+                + "    @com.fasterxml.jackson.annotation.JsonCreator\n"
+                + "    public A(@com.fasterxml.jackson.annotation.JsonProperty(\"a\") String a) { this.a = a; }\n"
+                + "}\n");
+        assertRejected("@JsonSerialize", "public class A {\n"
+                + "    @com.fasterxml.jackson.databind.annotation.JsonSerialize(using = com.fasterxml.jackson.databind.ser.std.ToStringSerializer.class)\n"
+                + "    public Long a;\n"
+                + "}\n");
+    }
+
+    @Test
+    public void rejectsInaccessibleMembers() throws Exception {
+        assertRejected("requires a setter for a", "public class A {\n"
+                + "    private String a;\n"
+                + "    public String getA() { return a; }\n"
+                + "}\n");
+        assertRejected("can not access private member", "public class A {\n"
+                + "    @com.fasterxml.jackson.annotation.JsonProperty\n"
+                + "    private String a;\n"
+                + "}\n");
+        assertRejected("can not access private member", "public class A {\n"
+                + "    private String a;\n"
+                + "    public String getA() { return a; }\n"
+                + "    private void setA(String a) { this.a = a; }\n"
+                + "}\n");
+    }
+
+    private void assertRejected(String message, String body) throws IOException {
+        String source = "package fixture;\n@com.jframe.json.JSONCompiled\n" + body;
+        List<String> errors = compile(source);
+        assertEquals(errors.toString(), 1, errors.size());
+        assertTrue(errors.get(0), errors.get(0).contains(message));
+    }
+
+    /**
+     * 编译到临时目录，返回错误信息
+     */
+    private List<String> compile(String... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        List<JavaFileObject> units = new ArrayList<JavaFileObject>();
+        for (String source : sources) {
+            units.add(new Source(source));
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-d", dir.toString(), "-classpath", System.getProperty("java.class.path")), null, units);
+            task.setProcessors(Collections.singletonList(new JSONCompiledProcessor()));
+            task.call();
+        }
+        List<String> errors = new ArrayList<String>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String code) {
+            super(URI.create("string:///" + className(code).replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        private static String className(String code) {
+            String packageName = code.substring("package ".length(), code.indexOf(';'));
+            int start = code.indexOf("public class ") + "public class ".length();
+            int end = start;
+            while (Character.isJavaIdentifierPart(code.charAt(end))) {
+                end++;
+            }
+            return packageName + "." + code.substring(start, end);
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.jframe.json;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 初始化/预热各阶段耗时，按阶段执行顺序排列
+ * @author jiangjian45
+ * Created at 2026/10/20 15:10
+ */
+public final class BootstrapReport {
+    private final Map<String, Long> phases = new LinkedHashMap<String, Long>();
+    private final List<String> warmed = new ArrayList<String>();
+    private final List<String> skipped = new ArrayList<String>();
+    private final List<String> unregisteredModules = new ArrayList<String>();
+
+    BootstrapReport() {
+    }
+
+    void phase(String name, long startNanos) {
+        phases.put(name, System.nanoTime() - startNanos);
+    }
+
+    void warmed(String className) {
+        warmed.add(className);
+    }
+
+    void skipped(String className, String reason) {
+        skipped.add(className + " (" + reason + ")");
+    }
+
+    void unregisteredModule(String className) {
+        unregisteredModules.add(className);
+    }
+
+    /**
+     * 各阶段耗时，单位纳秒
+     */
+    public Map<String, Long> getPhases() {
+        return Collections.unmodifiableMap(phases);
+    }
+
+    /**
+     * 已预热的类
+     */
+    public List<String> getWarmed() {
+        return Collections.unmodifiableList(warmed);
+    }
+
+    /**
+     * 预热失败的类及原因
+     */
+    public List<String> getSkipped() {
+        return Collections.unmodifiableList(skipped);
+    }
+
+    /**
+     * classpath中通过ServiceLoader声明、但未通过json.facade.modules注册的jackson模块
+     */
+    public List<String> getUnregisteredModules() {
+        return Collections.unmodifiableList(unregisteredModules);
+    }
+
+    public long getTotalNanos() {
+        long total = 0;
+        for (Long nanos : phases.values()) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("BootstrapReport{");
+        for (Map.Entry<String, Long> entry : phases.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(TimeUnit.NANOSECONDS.toMicros(entry.getValue())).append("us, ");
+        }
+        sb.append("total=").append(TimeUnit.NANOSECONDS.toMicros(getTotalNanos())).append("us");
+        sb.append(", warmed=").append(warmed.size());
+        if (!skipped.isEmpty()) {
+            sb.append(", skipped=").append(skipped);
+        }
+        if (!unregisteredModules.isEmpty()) {
+            sb.append(", unregisteredModules=").append(unregisteredModules);
+        }
+        return sb.append('}').toString();
+    }
+}
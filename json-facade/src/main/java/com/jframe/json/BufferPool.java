@@ -0,0 +1,35 @@
+package com.jframe.json;
+
+/**
+ * 解析/序列化时使用的byte[]/char[]缓冲区池，替代jackson基于ThreadLocal的BufferRecycler。
+ * slot为jackson BufferRecycler中的缓冲区类型，例如{@code BufferRecycler.BYTE_READ_IO_BUFFER}。
+ * 实现必须线程安全，同一个缓冲区在归还前不能再次分配出去
+ * @author jiangjian45
+ * Created at 2026/10/20 17:00
+ */
+public interface BufferPool {
+    /**
+     * 获取长度不小于minSize的缓冲区，池中没有可用的缓冲区时返回null，由调用方新建
+     */
+    byte[] allocBytes(int slot, int minSize);
+
+    /**
+     * 归还缓冲区，池已满时可直接丢弃
+     */
+    void releaseBytes(int slot, byte[] buffer);
+
+    /**
+     * 获取长度不小于minSize的缓冲区，池中没有可用的缓冲区时返回null，由调用方新建
+     */
+    char[] allocChars(int slot, int minSize);
+
+    /**
+     * 归还缓冲区，池已满时可直接丢弃
+     */
+    void releaseChars(int slot, char[] buffer);
+
+    /**
+     * 命中率等统计数据
+     */
+    BufferPoolStats stats();
+}
@@ -0,0 +1,59 @@
+package com.jframe.json;
+
+/**
+ * 缓冲区池的统计快照
+ * @author jiangjian45
+ * Created at 2026/10/20 17:05
+ */
+public final class BufferPoolStats {
+    private final long hits;
+    private final long misses;
+    private final long releases;
+    private final long drops;
+
+    public BufferPoolStats(long hits, long misses, long releases, long drops) {
+        this.hits = hits;
+        this.misses = misses;
+        this.releases = releases;
+        this.drops = drops;
+    }
+
+    /**
+     * 从池中取到缓冲区的次数
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * 池中没有可用缓冲区、需要新建的次数
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * 缓冲区放回池中的次数
+     */
+    public long getReleases() {
+        return releases;
+    }
+
+    /**
+     * 池已满或缓冲区过大而丢弃的次数
+     */
+    public long getDrops() {
+        return drops;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0D : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPoolStats{hits=" + hits + ", misses=" + misses + ", releases=" + releases + ", drops=" + drops
+                + ", hitRate=" + String.format("%.4f", getHitRate()) + '}';
+    }
+}
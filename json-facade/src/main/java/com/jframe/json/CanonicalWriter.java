@@ -0,0 +1,292 @@
+package com.jframe.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * 规范化JSON输出，相同内容的文档输出的字节完全一致：
+ * <ul>
+ *     <li>对象的key按UTF-16码元排序，值为null的key不输出(与toJSONString一致)，数组中的null保留</li>
+ *     <li>数字去掉末尾的0，1、1.0、1.00输出均为1，指数在[-7, 21)之外时输出为{@code 有效数字e指数}</li>
+ *     <li>字符串只转义引号、反斜杠和控制字符，其余字符按UTF-8原样输出</li>
+ * </ul>
+ * 输出直接写入{@link Sink}，计算hash时不产生中间的String或排序后的树。
+ * JSONObject/JSONArray、Map、List、数组、字符串、数字、布尔值直接处理，其他对象先按{@link JSON}的配置转换为Map/List
+ * @author jiangjian45
+ * Created at 2026/10/20 21:00
+ */
+final class CanonicalWriter {
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final int MIN_PLAIN_EXPONENT = -7;
+    private static final int MAX_PLAIN_EXPONENT = 21;
+    /**
+     * 不超过该长度的区间直接插入排序
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 8;
+
+    /**
+     * 规范化输出的接收方
+     */
+    interface Sink {
+        void write(int b);
+
+        void write(byte[] bytes, int offset, int length);
+    }
+
+    private CanonicalWriter() {
+    }
+
+    static void write(Object value, Sink sink) {
+        if (value == null) {
+            sink.write(NULL, 0, NULL.length);
+        } else if (value instanceof String) {
+            writeString((String) value, sink);
+        } else if (value instanceof Boolean) {
+            byte[] bytes = (Boolean) value ? TRUE : FALSE;
+            sink.write(bytes, 0, bytes.length);
+        } else if (value instanceof Number) {
+            writeNumber((Number) value, sink);
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value, sink);
+        } else if (value instanceof Collection) {
+            writeCollection((Collection<?>) value, sink);
+        } else if (value instanceof Object[]) {
+            writeCollection(Arrays.asList((Object[]) value), sink);
+        } else if (value instanceof Character) {
+            writeString(value.toString(), sink);
+        } else if (value instanceof byte[]) {
+            writeString(Base64.getEncoder().encodeToString((byte[]) value), sink);
+        } else {
+            Object converted = JSON.mapper().convertValue(value, Object.class);
+            if (converted == null || converted instanceof Map || converted instanceof List || converted instanceof String
+                    || converted instanceof Number || converted instanceof Boolean) {
+                write(converted, sink);
+            } else {
+                writeString(converted.toString(), sink);
+            }
+        }
+    }
+
+    private static void writeMap(Map<?, ?> map, Sink sink) {
+        // 只复制当前层的key/value引用，不复制子树
+        String[] keys = new String[map.size()];
+        Object[] values = new Object[keys.length];
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() == null || count == keys.length) {
+                continue;
+            }
+            values[count] = entry.getValue();
+            keys[count++] = String.valueOf(entry.getKey());
+        }
+        sortByKey(keys, values, count);
+
+        sink.write('{');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sink.write(',');
+            }
+            writeString(keys[i], sink);
+            sink.write(':');
+            write(values[i], sink);
+        }
+        sink.write('}');
+    }
+
+    /**
+     * keys与values按key一起排序，不创建下标数组与比较器。排序是稳定的，
+     * 不同的key对象(如1与"1")转为相同的字符串时保持原有顺序
+     */
+    private static void sortByKey(String[] keys, Object[] values, int count) {
+        for (int i = 1; i < count; i++) {
+            if (keys[i - 1].compareTo(keys[i]) > 0) {
+                mergeSort(keys.clone(), values.clone(), keys, values, 0, count);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 将srcKeys/srcValues中[low, high)的有序结果写入keys/values，两组数组在递归中交替作为来源
+     */
+    private static void mergeSort(String[] srcKeys, Object[] srcValues, String[] keys, Object[] values, int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                String key = keys[i];
+                Object value = values[i];
+                int j = i - 1;
+                for (; j >= low && keys[j].compareTo(key) > 0; j--) {
+                    keys[j + 1] = keys[j];
+                    values[j + 1] = values[j];
+                }
+                keys[j + 1] = key;
+                values[j + 1] = value;
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        mergeSort(keys, values, srcKeys, srcValues, low, mid);
+        mergeSort(keys, values, srcKeys, srcValues, mid, high);
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && srcKeys[p].compareTo(srcKeys[q]) <= 0) {
+                keys[i] = srcKeys[p];
+                values[i] = srcValues[p++];
+            } else {
+                keys[i] = srcKeys[q];
+                values[i] = srcValues[q++];
+            }
+        }
+    }
+
+    private static void writeCollection(Collection<?> collection, Sink sink) {
+        sink.write('[');
+        boolean first = true;
+        for (Object element : collection) {
+            if (!first) {
+                sink.write(',');
+            }
+            first = false;
+            write(element, sink);
+        }
+        sink.write(']');
+    }
+
+    private static void writeNumber(Number number, Sink sink) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            writeAscii(Long.toString(number.longValue()), sink);
+            return;
+        }
+        BigDecimal decimal;
+        if (number instanceof BigInteger) {
+            // 整数与等值的小数、科学计数法输出一致
+            decimal = new BigDecimal((BigInteger) number);
+        } else if (number instanceof BigDecimal) {
+            decimal = (BigDecimal) number;
+        } else if (number instanceof JSONNumber) {
+            decimal = ((JSONNumber) number).decimalValue();
+        } else if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                // 与jackson默认输出一致，写为字符串
+                writeString(Double.toString(d), sink);
+                return;
+            }
+            decimal = new BigDecimal(number instanceof Float ? Float.toString(number.floatValue()) : Double.toString(d));
+        } else {
+            decimal = TypeUtils.castToBigDecimal(number);
+        }
+        writeAscii(normalize(decimal), sink);
+    }
+
+    private static String normalize(BigDecimal decimal) {
+        if (decimal.signum() == 0) {
+            return "0";
+        }
+        BigDecimal stripped = decimal.stripTrailingZeros();
+        // 科学计数法的指数
+        int exponent = stripped.precision() - stripped.scale() - 1;
+        if (exponent >= MIN_PLAIN_EXPONENT && exponent < MAX_PLAIN_EXPONENT) {
+            return stripped.toPlainString();
+        }
+        return stripped.unscaledValue().toString() + 'e' + (-stripped.scale());
+    }
+
+    private static void writeAscii(String text, Sink sink) {
+        for (int i = 0, length = text.length(); i < length; i++) {
+            sink.write(text.charAt(i));
+        }
+    }
+
+    private static void writeString(String text, Sink sink) {
+        sink.write('"');
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    sink.write('\\');
+                    sink.write(c);
+                } else if (c >= 0x20) {
+                    sink.write(c);
+                } else {
+                    writeControl(c, sink);
+                }
+            } else if (c < 0x800) {
+                sink.write(0xC0 | (c >> 6));
+                sink.write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                sink.write(0xF0 | (codePoint >> 18));
+                sink.write(0x80 | ((codePoint >> 12) & 0x3F));
+                sink.write(0x80 | ((codePoint >> 6) & 0x3F));
+                sink.write(0x80 | (codePoint & 0x3F));
+            } else {
+                // 孤立的代理字符替换为U+FFFD
+                char ch = Character.isSurrogate(c) ? '\uFFFD' : c;
+                sink.write(0xE0 | (ch >> 12));
+                sink.write(0x80 | ((ch >> 6) & 0x3F));
+                sink.write(0x80 | (ch & 0x3F));
+            }
+        }
+        sink.write('"');
+    }
+
+    private static void writeControl(char c, Sink sink) {
+        sink.write('\\');
+        switch (c) {
+            case '\b':
+                sink.write('b');
+                break;
+            case '\t':
+                sink.write('t');
+                break;
+            case '\n':
+                sink.write('n');
+                break;
+            case '\f':
+                sink.write('f');
+                break;
+            case '\r':
+                sink.write('r');
+                break;
+            default:
+                sink.write('u');
+                sink.write('0');
+                sink.write('0');
+                sink.write(HEX[c >> 4]);
+                sink.write(HEX[c & 0xF]);
+        }
+    }
+
+    /**
+     * 收集为byte[]
+     */
+    static final class ByteSink implements Sink {
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        @Override
+        public void write(int b) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (size + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(size << 1, size + length));
+            }
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+}
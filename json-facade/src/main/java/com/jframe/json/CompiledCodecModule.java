@@ -0,0 +1,150 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+
+import java.io.IOException;
+
+/**
+ * 将编译期生成的{@link JSONCodec}注册到jackson，嵌套在其他对象中的DTO同样生效
+ * @author jiangjian45
+ * Created at 2026/10/20 11:20
+ */
+final class CompiledCodecModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+    private static final String CODEC_SUFFIX = "_JSONCodec";
+
+    private static final ClassValue<JSONCodec<?>> CODECS = new ClassValue<JSONCodec<?>>() {
+        @Override
+        protected JSONCodec<?> computeValue(Class<?> type) {
+            return loadCodec(type);
+        }
+    };
+
+    CompiledCodecModule() {
+        super("json-facade-compiled");
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        // 包装jackson构建的bean序列化器，有过滤器时交给它写出
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                JSONCodec<Object> codec = codec(beanDesc.getBeanClass());
+                return codec == null ? serializer : new CodecSerializer(codec, (JsonSerializer<Object>) serializer);
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+                JSONCodec<Object> codec = codec(type.getRawClass());
+                return codec == null ? null : new CodecDeserializer(codec);
+            }
+        });
+    }
+
+    /**
+     * 查找类对应的生成代码，未标记{@link JSONCompiled}或未生成时返回null
+     */
+    static JSONCodec<Object> codec(Class<?> clazz) {
+        return (JSONCodec<Object>) CODECS.get(clazz);
+    }
+
+    private static JSONCodec<?> loadCodec(Class<?> clazz) {
+        if (!clazz.isAnnotationPresent(JSONCompiled.class)) {
+            return null;
+        }
+        String name = clazz.getName();
+        int packageEnd = name.lastIndexOf('.');
+        String codecName = name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_') + CODEC_SUFFIX;
+        try {
+            Class<?> codecClass = Class.forName(codecName, true, clazz.getClassLoader());
+            return (JSONCodec<?>) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 生成的代码不经过字段写出器，有{@link FilterChain}时改用jackson的bean序列化器，过滤器同样生效
+     */
+    private static final class CodecSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+        private final JSONCodec<Object> codec;
+        private final JsonSerializer<Object> beanSerializer;
+
+        CodecSerializer(JSONCodec<Object> codec, JsonSerializer<Object> beanSerializer) {
+            this.codec = codec;
+            this.beanSerializer = beanSerializer;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+            if (!(beanSerializer instanceof ContextualSerializer)) {
+                return this;
+            }
+            JsonSerializer<?> contextual = ((ContextualSerializer) beanSerializer).createContextual(prov, property);
+            return contextual == beanSerializer ? this : new CodecSerializer(codec, (JsonSerializer<Object>) contextual);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (beanSerializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) beanSerializer).resolve(provider);
+            }
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return beanSerializer.handledType();
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return beanSerializer.isEmpty(provider, value);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (FilterChain.of(provider) == null) {
+                codec.write(gen, value, provider);
+            } else {
+                beanSerializer.serialize(value, gen, provider);
+            }
+        }
+
+        /**
+         * 生成的代码不写类型信息，多态类型交给bean序列化器
+         */
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSer) throws IOException {
+            beanSerializer.serializeWithType(value, gen, provider, typeSer);
+        }
+    }
+
+    private static final class CodecDeserializer extends JsonDeserializer<Object> {
+        private final JSONCodec<Object> codec;
+
+        CodecDeserializer(JSONCodec<Object> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return codec.read(p, ctxt);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.jframe.json;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 流式读写的压缩格式，见{@link JSON#parseObject(InputStream, Compression, Feature...)}与
+ * {@link JSON#writeCompressed(OutputStream, Object, Compression)}
+ * @author jiangjian45
+ * Created at 2026/10/21 20:00
+ */
+public enum Compression {
+    /**
+     * 不压缩
+     */
+    NONE {
+        @Override
+        InputStream decompress(InputStream in) {
+            return in;
+        }
+
+        @Override
+        OutputStream compress(OutputStream out) {
+            return out;
+        }
+    },
+    /**
+     * gzip(RFC 1952)，支持多个member拼接
+     */
+    GZIP {
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        @Override
+        OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+    },
+    /**
+     * 带zlib头的deflate(RFC 1950)，即HTTP Content-Encoding中的deflate
+     */
+    DEFLATE {
+        @Override
+        InputStream decompress(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+
+        @Override
+        OutputStream compress(OutputStream out) {
+            return new DeflaterOutputStream(out);
+        }
+    },
+    /**
+     * zstd，需要classpath中有com.github.luben:zstd-jni，本包不直接依赖
+     */
+    ZSTD {
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return (InputStream) newZstdStream("com.github.luben.zstd.ZstdInputStream", InputStream.class, in);
+        }
+
+        @Override
+        OutputStream compress(OutputStream out) throws IOException {
+            return (OutputStream) newZstdStream("com.github.luben.zstd.ZstdOutputStream", OutputStream.class, out);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int PARALLEL_BLOCK_SIZE = 128 * 1024;
+
+    /**
+     * 解压in，关闭返回的流时释放解压器但不关闭in
+     */
+    InputStream open(InputStream in) throws IOException {
+        return decompress(new FilterInputStream(in) {
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    /**
+     * 压缩到out，关闭返回的流时写出压缩格式的结尾并flush，不关闭out
+     *
+     * @param threads 大于1时使用{@link ParallelGzipOutputStream}，仅支持GZIP
+     */
+    OutputStream open(OutputStream out, int threads) throws IOException {
+        OutputStream target = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        if (threads > 1) {
+            if (this != GZIP) {
+                throw new IllegalArgumentException("parallel compression only supports GZIP.");
+            }
+            return new ParallelGzipOutputStream(target, PARALLEL_BLOCK_SIZE, threads);
+        }
+        return compress(target);
+    }
+
+    /**
+     * 包装为解压的输入流，关闭返回的流时关闭in
+     */
+    abstract InputStream decompress(InputStream in) throws IOException;
+
+    /**
+     * 包装为压缩的输出流，关闭返回的流时写出结尾并关闭out
+     */
+    abstract OutputStream compress(OutputStream out) throws IOException;
+
+    private static Object newZstdStream(String className, Class<?> parameterType, Object stream) throws IOException {
+        Constructor<?> constructor;
+        try {
+            constructor = Class.forName(className, true, Compression.class.getClassLoader()).getConstructor(parameterType);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            throw new JsonConvertException("ZSTD requires com.github.luben:zstd-jni on the classpath.");
+        }
+        try {
+            return constructor.newInstance(stream);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new JsonConvertException(e);
+        } catch (ReflectiveOperationException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jframe.json;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JSONObject/JSONArray的并发模式
+ * @author jiangjian45
+ * Created at 2026/10/19 13:40
+ */
+public enum Concurrency {
+    /**
+     * 非线程安全，使用HashMap/ArrayList
+     */
+    NONE,
+    /**
+     * 线程安全，使用ConcurrentHashMap/CopyOnWriteArrayList，嵌套容器同样为并发容器。
+     * ConcurrentHashMap不支持null值，put null等同于remove
+     */
+    CONCURRENT;
+
+    Map<String, Object> newMap(int initialCapacity) {
+        if (this == CONCURRENT) {
+            return new ConcurrentHashMap<String, Object>(initialCapacity);
+        }
+        return new HashMap<String, Object>(initialCapacity);
+    }
+
+    /**
+     * 以已填充好的元素构造数组容器，避免CopyOnWriteArrayList逐个add时的重复复制
+     */
+    List<Object> newList(List<Object> elements) {
+        if (this == CONCURRENT) {
+            return new CopyOnWriteArrayList<Object>(elements);
+        }
+        return elements;
+    }
+
+    static Concurrency of(Map<?, ?> map) {
+        if (map instanceof JSONObject) {
+            return ((JSONObject) map).getConcurrency();
+        }
+        return map instanceof ConcurrentMap ? CONCURRENT : NONE;
+    }
+
+    static Concurrency of(List<?> list) {
+        if (list instanceof JSONArray) {
+            return ((JSONArray) list).getConcurrency();
+        }
+        return list instanceof CopyOnWriteArrayList ? CONCURRENT : NONE;
+    }
+}
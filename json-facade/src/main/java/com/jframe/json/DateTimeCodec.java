@@ -0,0 +1,153 @@
+package com.jframe.json;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 时间解析与格式化，线程安全。
+ * 默认格式yyyy-MM-dd HH:mm:ss及其常见变体走手写的定长解析，其余格式回退到DateTimeFormatter
+ * @author jiangjian45
+ * Created at 2026/10/19 15:10
+ */
+final class DateTimeCodec {
+    /**
+     * 默认时间格式
+     */
+    static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_PATTERN);
+
+    /**
+     * 默认时区，与原SimpleDateFormat一致取JVM默认时区
+     */
+    static final ZoneId DEFAULT_ZONE = ZoneId.systemDefault();
+
+    private DateTimeCodec() {
+    }
+
+    /**
+     * 按默认格式输出，不经过DateTimeFormatter
+     */
+    static String format(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return DEFAULT_FORMATTER.format(dateTime);
+        }
+        char[] chars = new char[19];
+        chars[0] = (char) ('0' + year / 1000);
+        chars[1] = (char) ('0' + year / 100 % 10);
+        chars[2] = (char) ('0' + year / 10 % 10);
+        chars[3] = (char) ('0' + year % 10);
+        chars[4] = '-';
+        write2(chars, 5, dateTime.getMonthValue());
+        chars[7] = '-';
+        write2(chars, 8, dateTime.getDayOfMonth());
+        chars[10] = ' ';
+        write2(chars, 11, dateTime.getHour());
+        chars[13] = ':';
+        write2(chars, 14, dateTime.getMinute());
+        chars[16] = ':';
+        write2(chars, 17, dateTime.getSecond());
+        return new String(chars);
+    }
+
+    static String format(long epochMillis, ZoneId zone) {
+        return format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone));
+    }
+
+    private static void write2(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * 解析本地时间，支持yyyy-MM-dd、yyyy-MM-dd HH:mm:ss、yyyy-MM-ddTHH:mm:ss及带1~9位小数秒的格式
+     *
+     * @param str 时间字符串
+     * @return 本地时间，格式不支持时抛出JsonConvertException
+     */
+    static LocalDateTime parseLocalDateTime(String str) {
+        LocalDateTime dateTime = parseFixed(str);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        try {
+            return LocalDateTime.parse(str, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 解析为时间点，带时区/偏移量的ISO格式按其自身偏移量解析，其余格式按zone解析
+     */
+    static Instant parseInstant(String str, ZoneId zone) {
+        LocalDateTime dateTime = parseFixed(str);
+        if (dateTime != null) {
+            return dateTime.atZone(zone).toInstant();
+        }
+        try {
+            char last = str.isEmpty() ? 0 : str.charAt(str.length() - 1);
+            if (last == 'Z' || last == ']' || str.lastIndexOf('+') > 10 || str.lastIndexOf('-') > 10) {
+                return DateTimeFormatter.ISO_DATE_TIME.parse(str, ZonedDateTime::from).toInstant();
+            }
+            return LocalDateTime.parse(str, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(zone).toInstant();
+        } catch (DateTimeParseException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 定长格式快速解析，不匹配时返回null
+     */
+    private static LocalDateTime parseFixed(String str) {
+        int len = str.length();
+        if (len < 10 || str.charAt(4) != '-' || str.charAt(7) != '-') {
+            return null;
+        }
+        int year = TypeUtils.num(str.charAt(0), str.charAt(1), str.charAt(2), str.charAt(3));
+        int month = TypeUtils.num(str.charAt(5), str.charAt(6));
+        int day = TypeUtils.num(str.charAt(8), str.charAt(9));
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        if (len == 10) {
+            return of(year, month, day, 0, 0, 0, 0);
+        }
+        char separator = str.charAt(10);
+        if (len < 19 || (separator != ' ' && separator != 'T') || str.charAt(13) != ':' || str.charAt(16) != ':') {
+            return null;
+        }
+        int hour = TypeUtils.num(str.charAt(11), str.charAt(12));
+        int minute = TypeUtils.num(str.charAt(14), str.charAt(15));
+        int second = TypeUtils.num(str.charAt(17), str.charAt(18));
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        if (len == 19) {
+            return of(year, month, day, hour, minute, second, 0);
+        }
+        if (str.charAt(19) != '.' || len == 20 || len > 29) {
+            return null;
+        }
+        char[] fraction = {'0', '0', '0', '0', '0', '0', '0', '0', '0'};
+        for (int i = 20; i < len; i++) {
+            fraction[i - 20] = str.charAt(i);
+        }
+        int nano = TypeUtils.num(fraction[0], fraction[1], fraction[2], fraction[3], fraction[4],
+                fraction[5], fraction[6], fraction[7], fraction[8]);
+        if (nano < 0) {
+            return null;
+        }
+        return of(year, month, day, hour, minute, second, nano);
+    }
+
+    private static LocalDateTime of(int year, int month, int day, int hour, int minute, int second, int nano) {
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
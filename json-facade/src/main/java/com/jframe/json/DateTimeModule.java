@@ -0,0 +1,74 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * LocalDateTime序列化/反序列化，格式为yyyy-MM-dd HH:mm:ss，不依赖jackson-datatype-jsr310
+ * @author jiangjian45
+ * Created at 2026/10/19 16:02
+ */
+final class DateTimeModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    DateTimeModule(ZoneId zone) {
+        super("json-facade-datetime");
+        addSerializer(LocalDateTime.class, new LocalDateTimeSerializer());
+        addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(zone));
+    }
+
+    static final class LocalDateTimeSerializer extends StdScalarSerializer<LocalDateTime> {
+        private static final long serialVersionUID = 1L;
+
+        LocalDateTimeSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(DateTimeCodec.format(value));
+        }
+    }
+
+    static final class LocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> {
+        private static final long serialVersionUID = 1L;
+
+        private final ZoneId zone;
+
+        LocalDateTimeDeserializer(ZoneId zone) {
+            super(LocalDateTime.class);
+            this.zone = zone;
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(p.getLongValue()), zone);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String text = p.getText().trim();
+                if (text.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return DateTimeCodec.parseLocalDateTime(text);
+                } catch (JsonConvertException e) {
+                    return (LocalDateTime) ctxt.handleWeirdStringValue(LocalDateTime.class, text, e.getMessage());
+                }
+            }
+            return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, p);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.jframe.json;
+
+/**
+ * JSONObject中以字符串形式嵌入的JSON文档，通过getJSONObject/getJSONArray访问时的处理方式
+ * @author jiangjian45
+ * Created at 2026/10/20 19:40
+ */
+public enum EmbeddedJson {
+    /**
+     * 每次访问都重新解析，默认行为
+     */
+    PARSE,
+    /**
+     * 首次访问时解析，并用解析结果替换原字符串，之后序列化输出为嵌套的对象/数组，对解析结果的修改会被序列化
+     */
+    WRITE_BACK,
+    /**
+     * 首次访问时解析，解析结果缓存在旁路中，原字符串保持不变，序列化仍输出字符串，对解析结果的修改不会被序列化。
+     * 字符串被替换后(不是同一个String实例)缓存自动失效
+     */
+    KEEP_STRING
+}
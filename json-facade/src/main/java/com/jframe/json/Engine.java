@@ -0,0 +1,112 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 解析为JSONObject/JSONArray时使用的内核，可通过{@link JSON#setEngine(Engine)}全局切换，或在调用时指定
+ * @author jiangjian45
+ * Created at 2026/10/21 16:00
+ */
+public enum Engine {
+    /**
+     * jackson的token流，支持全部宽松语法
+     */
+    JACKSON {
+        @Override
+        JSONObject parseObject(String text, Concurrency concurrency, Feature[] features) {
+            try (JsonParser parser = JSON.mapper().getFactory().createParser(text)) {
+                return JSONTreeReader.of(concurrency, features).readObject(parser);
+            } catch (IOException e) {
+                throw new JsonConvertException(e);
+            }
+        }
+
+        @Override
+        JSONObject parseObject(byte[] utf8, Concurrency concurrency, Feature[] features) {
+            try (JsonParser parser = JSON.mapper().getFactory().createParser(utf8)) {
+                return JSONTreeReader.of(concurrency, features).readObject(parser);
+            } catch (IOException e) {
+                throw new JsonConvertException(e);
+            }
+        }
+
+        @Override
+        JSONArray parseArray(String text, Concurrency concurrency, Feature[] features) {
+            try (JsonParser parser = JSON.mapper().getFactory().createParser(text)) {
+                return JSONTreeReader.of(concurrency, features).readArray(parser);
+            } catch (IOException e) {
+                throw new JsonConvertException(e);
+            }
+        }
+
+        @Override
+        JSONArray parseArray(byte[] utf8, Concurrency concurrency, Feature[] features) {
+            try (JsonParser parser = JSON.mapper().getFactory().createParser(utf8)) {
+                return JSONTreeReader.of(concurrency, features).readArray(parser);
+            } catch (IOException e) {
+                throw new JsonConvertException(e);
+            }
+        }
+    },
+    /**
+     * 纯Java的两阶段解析：先按8字节一组用long位运算定位引号、转义与结构字符，再按结构索引构建JSONObject/JSONArray。
+     * 只接受标准JSON，遇到宽松语法(单引号、无引号key、前导0等)或非法输入时交给{@link #JACKSON}重新解析，
+     * 结果与错误信息和JACKSON一致。String输入先编码为UTF-8，适合直接处理byte[]的场景
+     */
+    SWAR {
+        @Override
+        JSONObject parseObject(String text, Concurrency concurrency, Feature[] features) {
+            if (text != null) {
+                Object value = SwarParser.parse(text.getBytes(StandardCharsets.UTF_8), true, concurrency, features);
+                if (value != SwarParser.FALLBACK) {
+                    return (JSONObject) value;
+                }
+            }
+            return JACKSON.parseObject(text, concurrency, features);
+        }
+
+        @Override
+        JSONObject parseObject(byte[] utf8, Concurrency concurrency, Feature[] features) {
+            if (utf8 != null) {
+                Object value = SwarParser.parse(utf8, true, concurrency, features);
+                if (value != SwarParser.FALLBACK) {
+                    return (JSONObject) value;
+                }
+            }
+            return JACKSON.parseObject(utf8, concurrency, features);
+        }
+
+        @Override
+        JSONArray parseArray(String text, Concurrency concurrency, Feature[] features) {
+            if (text != null) {
+                Object value = SwarParser.parse(text.getBytes(StandardCharsets.UTF_8), false, concurrency, features);
+                if (value != SwarParser.FALLBACK) {
+                    return (JSONArray) value;
+                }
+            }
+            return JACKSON.parseArray(text, concurrency, features);
+        }
+
+        @Override
+        JSONArray parseArray(byte[] utf8, Concurrency concurrency, Feature[] features) {
+            if (utf8 != null) {
+                Object value = SwarParser.parse(utf8, false, concurrency, features);
+                if (value != SwarParser.FALLBACK) {
+                    return (JSONArray) value;
+                }
+            }
+            return JACKSON.parseArray(utf8, concurrency, features);
+        }
+    };
+
+    abstract JSONObject parseObject(String text, Concurrency concurrency, Feature[] features);
+
+    abstract JSONObject parseObject(byte[] utf8, Concurrency concurrency, Feature[] features);
+
+    abstract JSONArray parseArray(String text, Concurrency concurrency, Feature[] features);
+
+    abstract JSONArray parseArray(byte[] utf8, Concurrency concurrency, Feature[] features);
+}
@@ -0,0 +1,25 @@
+package com.jframe.json;
+
+/**
+ * 解析为JSONObject/JSONArray时的可选特性
+ * @author jiangjian45
+ * Created at 2026/10/19 17:05
+ */
+public enum Feature {
+    /**
+     * 浮点数解析为{@link JSONNumber}，保留原始文本，取值时再按需转换，替代默认的BigDecimal
+     */
+    LAZY_NUMBER;
+
+    static boolean isEnabled(Feature[] features, Feature feature) {
+        if (features == null) {
+            return false;
+        }
+        for (Feature f : features) {
+            if (f == feature) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
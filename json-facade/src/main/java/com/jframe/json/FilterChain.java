@@ -0,0 +1,150 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 按类型拆分后的一组过滤器，作为ObjectWriter的attribute传给序列化器，
+ * 由{@link SerializeFilterModule}包装的字段写出器与{@link JSONTreeSerializer}在写出每个字段时应用。
+ * 相同的过滤器组合复用同一个ObjectWriter，不需要每次重新拆分。
+ * ObjectWriter来自共享ObjectMapper的副本，只有副本注册了{@link SerializeFilterModule}，没有过滤器的序列化不经过包装的写出器
+ * @author jiangjian45
+ * Created at 2026/10/21 22:10
+ */
+final class FilterChain {
+    /**
+     * 缓存的过滤器组合上限，超过后不再缓存，避免每次new过滤器的调用方撑大缓存
+     */
+    private static final int MAX_CACHED_WRITERS = 256;
+    private static final ConcurrentMap<List<SerializeFilter>, ObjectWriter> WRITERS =
+            new ConcurrentHashMap<List<SerializeFilter>, ObjectWriter>();
+
+    /**
+     * 注册了SerializeFilterModule的ObjectMapper副本，首次使用过滤器时创建
+     */
+    private static volatile ObjectMapper mapper;
+
+    private final PropertyFilter[] propertyFilters;
+    private final NameFilter[] nameFilters;
+    private final ValueFilter[] valueFilters;
+
+    private FilterChain(PropertyFilter[] propertyFilters, NameFilter[] nameFilters, ValueFilter[] valueFilters) {
+        this.propertyFilters = propertyFilters;
+        this.nameFilters = nameFilters;
+        this.valueFilters = valueFilters;
+    }
+
+    /**
+     * 携带过滤器的ObjectWriter
+     */
+    static ObjectWriter writer(SerializeFilter[] filters) {
+        List<SerializeFilter> key = Arrays.asList(filters.clone());
+        ObjectWriter writer = WRITERS.get(key);
+        if (writer == null) {
+            writer = mapper().writer().withAttribute(FilterChain.class, compile(filters));
+            if (WRITERS.size() < MAX_CACHED_WRITERS) {
+                WRITERS.putIfAbsent(key, writer);
+            }
+        }
+        return writer;
+    }
+
+    private static ObjectMapper mapper() {
+        ObjectMapper filterMapper = mapper;
+        if (filterMapper == null) {
+            synchronized (FilterChain.class) {
+                filterMapper = mapper;
+                if (filterMapper == null) {
+                    // 副本复制了共享ObjectMapper的配置与模块，缓冲区池随JsonFactory一起复制
+                    filterMapper = JSON.mapper().copy();
+                    filterMapper.registerModule(new SerializeFilterModule());
+                    filterMapper.setFilterProvider(new SimpleFilterProvider()
+                            .addFilter(SerializeFilterModule.MAP_FILTER_ID, SerializeFilterModule.MAP_ENTRY_FILTER));
+                    mapper = filterMapper;
+                }
+            }
+        }
+        return filterMapper;
+    }
+
+    /**
+     * 共享ObjectMapper替换缓冲区池时同步到副本
+     */
+    static void setBufferPool(BufferPool bufferPool) {
+        synchronized (FilterChain.class) {
+            if (mapper != null) {
+                ((PooledJsonFactory) mapper.getFactory()).setBufferPool(bufferPool);
+            }
+        }
+    }
+
+    /**
+     * 当前序列化使用的过滤器，没有时返回null
+     */
+    static FilterChain of(SerializerProvider provider) {
+        return (FilterChain) provider.getAttribute(FilterChain.class);
+    }
+
+    private static FilterChain compile(SerializeFilter[] filters) {
+        List<PropertyFilter> propertyFilters = new ArrayList<PropertyFilter>();
+        List<NameFilter> nameFilters = new ArrayList<NameFilter>();
+        List<ValueFilter> valueFilters = new ArrayList<ValueFilter>();
+        for (SerializeFilter filter : filters) {
+            if (filter == null) {
+                throw new IllegalArgumentException("filter is null.");
+            }
+            boolean supported = false;
+            if (filter instanceof PropertyFilter) {
+                propertyFilters.add((PropertyFilter) filter);
+                supported = true;
+            }
+            if (filter instanceof NameFilter) {
+                nameFilters.add((NameFilter) filter);
+                supported = true;
+            }
+            if (filter instanceof ValueFilter) {
+                valueFilters.add((ValueFilter) filter);
+                supported = true;
+            }
+            if (!supported) {
+                throw new IllegalArgumentException("unsupported filter: " + filter.getClass().getName());
+            }
+        }
+        return new FilterChain(propertyFilters.toArray(new PropertyFilter[0]), nameFilters.toArray(new NameFilter[0]),
+                valueFilters.toArray(new ValueFilter[0]));
+    }
+
+    /**
+     * 所有PropertyFilter都返回true时输出
+     */
+    boolean apply(Object object, String name, Object value) {
+        for (PropertyFilter filter : propertyFilters) {
+            if (!filter.apply(object, name, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String name(Object object, String name, Object value) {
+        for (NameFilter filter : nameFilters) {
+            name = filter.process(object, name, value);
+        }
+        return name;
+    }
+
+    Object value(Object object, String name, Object value) {
+        for (ValueFilter filter : valueFilters) {
+            value = filter.process(object, name, value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,69 @@
+package com.jframe.json;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 只读List，JSONArray冻结后的数据容器，hashCode在构造时计算完成
+ * @author jiangjian45
+ * Created at 2026/10/19 11:20
+ */
+final class FrozenList extends AbstractList<Object> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+    private final int hash;
+
+    private FrozenList(Object[] elements) {
+        this.elements = elements;
+        int h = 1;
+        for (Object element : elements) {
+            h = 31 * h + Objects.hashCode(element);
+        }
+        this.hash = h;
+    }
+
+    /**
+     * 深度冻结，嵌套的Map/List分别冻结为JSONObject/JSONArray
+     *
+     * @param list 源数据
+     * @return 只读List
+     */
+    static FrozenList of(List<?> list) {
+        Object[] elements = new Object[list.size()];
+        int i = 0;
+        for (Object element : list) {
+            elements[i++] = JSON.freeze(element);
+        }
+        return new FrozenList(elements);
+    }
+
+    @Override
+    public Object get(int index) {
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof FrozenList && ((FrozenList) o).hash != hash) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
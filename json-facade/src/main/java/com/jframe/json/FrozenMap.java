@@ -0,0 +1,161 @@
+package com.jframe.json;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * 只读Map，JSONObject冻结后的数据容器。
+ * key/value按原顺序存放在两个数组中，元素较多时额外建立开放寻址索引；hashCode在构造时计算完成。
+ * 所有字段均为final，可在线程间无同步安全发布
+ * @author jiangjian45
+ * Created at 2026/10/19 11:05
+ */
+final class FrozenMap extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    /**
+     * 元素个数不超过该值时直接顺序查找，不建索引
+     */
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    /**
+     * 开放寻址索引，存放下标+1，0表示空槽
+     */
+    private final int[] table;
+    private final int hash;
+
+    private FrozenMap(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        int h = 0;
+        for (int i = 0; i < keys.length; i++) {
+            h += Objects.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+        }
+        this.hash = h;
+        this.table = keys.length > LINEAR_SCAN_THRESHOLD ? buildTable(keys) : null;
+    }
+
+    /**
+     * 深度冻结，嵌套的Map/List分别冻结为JSONObject/JSONArray
+     *
+     * @param map 源数据
+     * @return 只读Map
+     */
+    static FrozenMap of(Map<?, ?> map) {
+        int size = map.size();
+        String[] keys = new String[size];
+        Object[] values = new Object[size];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = String.valueOf(entry.getKey());
+            values[i] = JSON.freeze(entry.getValue());
+            i++;
+        }
+        return new FrozenMap(keys, values);
+    }
+
+    private static int[] buildTable(String[] keys) {
+        int capacity = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = spread(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object key) {
+        if (table == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = spread(key) & mask;
+        int index;
+        while ((index = table[slot]) != 0) {
+            if (Objects.equals(keys[index - 1], key)) {
+                return index - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index == -1 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<String, Object>(keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof FrozenMap && ((FrozenMap) o).hash != hash) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
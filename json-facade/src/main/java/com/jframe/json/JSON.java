@@ -0,0 +1,745 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * json 工具类
+ * @author jiangjian45
+ * Created at 2021/9/8 12:55
+ */
+public class JSON {
+    /**
+     * 缓冲区默认从无锁分段池分配，不依赖ThreadLocal
+     */
+    private static final PooledJsonFactory FACTORY = new PooledJsonFactory(new StripedBufferPool());
+    private static final ObjectMapper MAPPER = new ObjectMapper(FACTORY);
+    private static final BootstrapReport BOOTSTRAP_REPORT = new BootstrapReport();
+    /**
+     * cachedParse使用的缓存，首次使用时创建
+     */
+    private static volatile ParseCache parseCache;
+    /**
+     * 未指定内核时使用的解析内核
+     */
+    private static volatile Engine engine = Engine.JACKSON;
+    /**
+     * 解析为JSONObject/JSONArray时使用的字符串值去重表，默认不启用
+     */
+    private static volatile StringDedup stringDedup;
+
+    static {
+        long start = System.nanoTime();
+        // 为null的字段默认不序列化
+        MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        // 设置未知属性不报错
+        MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // MAPPER.configure(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, true);
+        MAPPER.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false);
+        // 是否允许没有引号的字段
+        MAPPER.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
+        MAPPER.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        MAPPER.configure(JsonParser.Feature.ALLOW_NUMERIC_LEADING_ZEROS, true);
+        MAPPER.configure(JsonParser.Feature.ALLOW_UNQUOTED_CONTROL_CHARS, true);
+        // 浮点类型数据转为BigDecimal
+        MAPPER.configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+        // 设置反序列化时大小写不敏感
+        MAPPER.configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
+        // 时间格式yyyy-MM-dd HH:mm:ss，格式化与解析使用DateTimeCodec，@JsonFormat的timezone与locale仍然生效
+        MAPPER.setDateFormat(new JSONDateFormat(DateTimeCodec.DEFAULT_ZONE));
+        BOOTSTRAP_REPORT.phase("configure", start);
+
+        start = System.nanoTime();
+        // 显式注册模块，不扫描classpath，额外模块通过系统属性json.facade.modules指定
+        JSONBootstrap.registerConfiguredModules(MAPPER, BOOTSTRAP_REPORT);
+        // LocalDateTime使用内置的DateTimeModule，不再依赖 jackson-datatype-jsr310 包
+        MAPPER.registerModule(new DateTimeModule(DateTimeCodec.DEFAULT_ZONE));
+        // JSONNumber按原始文本输出
+        MAPPER.registerModule(new SimpleModule("json-facade-number").addSerializer(JSONNumber.class, new JSONNumber.Serializer()));
+        // JSONObject/JSONArray使用专用的序列化器，常见叶子类型直接写出
+        JSONTreeSerializer treeSerializer = new JSONTreeSerializer();
+        MAPPER.registerModule(new SimpleModule("json-facade-tree")
+                .addSerializer(JSONObject.class, treeSerializer)
+                .addSerializer(JSONArray.class, treeSerializer));
+        // record通过MethodHandle读写，仅在Java 17+的实现中注册
+        RecordIntrospector records = Platform.recordIntrospector();
+        if (records != null) {
+            MAPPER.registerModule(new RecordModule(records));
+        }
+        // @JSONCompiled标记的类优先使用编译期生成的代码
+        MAPPER.registerModule(new CompiledCodecModule());
+        BOOTSTRAP_REPORT.phase("modules", start);
+
+        start = System.nanoTime();
+        List<Class<?>> prewarmClasses = JSONBootstrap.prewarmClasses(BOOTSTRAP_REPORT);
+        BOOTSTRAP_REPORT.phase("prewarmList", start);
+        JSONBootstrap.prewarm(MAPPER, prewarmClasses, BOOTSTRAP_REPORT);
+    }
+
+    /**
+     * 提前构建并缓存类的序列化器与反序列化器，避免首个请求承担构建开销
+     *
+     * @param classes 需要预热的类
+     * @return 各阶段耗时
+     */
+    public static BootstrapReport prewarm(Class<?>... classes) {
+        BootstrapReport report = new BootstrapReport();
+        JSONBootstrap.prewarm(MAPPER, Arrays.asList(classes), report);
+        return report;
+    }
+
+    /**
+     * JSON类初始化时各阶段的耗时，包括按预热列表执行的预热
+     */
+    public static BootstrapReport bootstrapReport() {
+        return BOOTSTRAP_REPORT;
+    }
+
+    /**
+     * 替换解析/序列化使用的缓冲区池，为null时使用jackson默认的ThreadLocal回收
+     *
+     * @param bufferPool 缓冲区池
+     */
+    public static void setBufferPool(BufferPool bufferPool) {
+        FACTORY.setBufferPool(bufferPool);
+        FilterChain.setBufferPool(bufferPool);
+    }
+
+    /**
+     * 当前使用的缓冲区池，可通过{@link BufferPool#stats()}查看命中率
+     */
+    public static BufferPool getBufferPool() {
+        return FACTORY.getBufferPool();
+    }
+
+    /**
+     * 切换parseObject/parseArray解析为JSONObject/JSONArray时默认使用的内核，投影与schema校验始终使用jackson
+     *
+     * @param engine 解析内核
+     */
+    public static void setEngine(Engine engine) {
+        if (engine == null) {
+            throw new IllegalArgumentException("engine is null.");
+        }
+        JSON.engine = engine;
+    }
+
+    public static Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * 启用字符串值去重，解析为JSONObject/JSONArray时相同的短字符串值共享同一个实例，适合长期缓存大量相似对象的场景。
+     * 为null时关闭
+     *
+     * @param dedup 去重表，可通过{@link StringDedup#stats()}查看节省的内存
+     */
+    public static void setStringDedup(StringDedup dedup) {
+        stringDedup = dedup;
+    }
+
+    public static StringDedup getStringDedup() {
+        return stringDedup;
+    }
+
+    /**
+     * 内部共享的ObjectMapper，仅供本包使用
+     */
+    static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public <T> T convertValue(Object fromValue, TypeReference<T> toValueTypeRef) {
+        return MAPPER.convertValue(fromValue, toValueTypeRef);
+    }
+
+    public static <T> T parseObject(String jsonString, TypeReference<T> typeReference) {
+        try {
+            return MAPPER.readValue(jsonString, typeReference);
+        } catch (JsonProcessingException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    public static JSONObject parseObject(String jsonString) {
+        return parseObject(jsonString, Concurrency.NONE);
+    }
+
+    public static JSONObject parseObject(String jsonString, Feature... features) {
+        return parseObject(jsonString, Concurrency.NONE, features);
+    }
+
+    /**
+     * 解析为JSONObject，concurrency为CONCURRENT时所有嵌套的JSONObject/JSONArray均为并发容器
+     *
+     * @param jsonString  json字符串
+     * @param concurrency 并发模式
+     * @param features    解析特性
+     * @return JSONObject
+     */
+    public static JSONObject parseObject(String jsonString, Concurrency concurrency, Feature... features) {
+        return engine.parseObject(jsonString, concurrency, features);
+    }
+
+    /**
+     * 使用指定的内核解析为JSONObject
+     *
+     * @param jsonString json字符串
+     * @param engine     解析内核
+     * @param features   解析特性
+     * @return JSONObject
+     */
+    public static JSONObject parseObject(String jsonString, Engine engine, Feature... features) {
+        return engine.parseObject(jsonString, Concurrency.NONE, features);
+    }
+
+    /**
+     * 从UTF-8字节解析为JSONObject，不需要先转为String
+     *
+     * @param utf8     UTF-8编码的json
+     * @param features 解析特性
+     * @return JSONObject
+     */
+    public static JSONObject parseObject(byte[] utf8, Feature... features) {
+        return engine.parseObject(utf8, Concurrency.NONE, features);
+    }
+
+    public static JSONObject parseObject(byte[] utf8, Engine engine, Feature... features) {
+        return engine.parseObject(utf8, Concurrency.NONE, features);
+    }
+
+    /**
+     * 解析为JSONObject，只保留投影选中的字段，其余字段在token层面跳过
+     *
+     * @param jsonString json字符串
+     * @param projection 需要保留的字段
+     * @param features   解析特性
+     * @return JSONObject
+     */
+    public static JSONObject parseObject(String jsonString, Projection projection, Feature... features) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(jsonString)) {
+            return JSONTreeReader.of(Concurrency.NONE, features).readObject(parser, projection);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 按schema校验的同时解析为JSONObject，一次遍历完成，遇到第一个不符合schema的值即停止
+     *
+     * @param jsonString json字符串
+     * @param schema     预编译的schema
+     * @return JSONObject
+     * @throws JsonValidationException 不符合schema
+     */
+    public static JSONObject parseObject(String jsonString, JSONSchema schema) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(jsonString)) {
+            return schema.parseObject(parser);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public static <T> T parseObject(String jsonString, Class<T> clazz) {
+        try {
+            return MAPPER.readValue(jsonString, clazz);
+        } catch (Exception e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public static JSONArray parseArray(String jsonString) {
+        return parseArray(jsonString, Concurrency.NONE);
+    }
+
+    public static JSONArray parseArray(String jsonString, Feature... features) {
+        return parseArray(jsonString, Concurrency.NONE, features);
+    }
+
+    /**
+     * 解析为JSONArray，concurrency为CONCURRENT时所有嵌套的JSONObject/JSONArray均为并发容器
+     *
+     * @param jsonString  json字符串
+     * @param concurrency 并发模式
+     * @param features    解析特性
+     * @return JSONArray
+     */
+    public static JSONArray parseArray(String jsonString, Concurrency concurrency, Feature... features) {
+        return engine.parseArray(jsonString, concurrency, features);
+    }
+
+    /**
+     * 使用指定的内核解析为JSONArray
+     *
+     * @param jsonString json字符串
+     * @param engine     解析内核
+     * @param features   解析特性
+     * @return JSONArray
+     */
+    public static JSONArray parseArray(String jsonString, Engine engine, Feature... features) {
+        return engine.parseArray(jsonString, Concurrency.NONE, features);
+    }
+
+    /**
+     * 从UTF-8字节解析为JSONArray，不需要先转为String
+     *
+     * @param utf8     UTF-8编码的json
+     * @param features 解析特性
+     * @return JSONArray
+     */
+    public static JSONArray parseArray(byte[] utf8, Feature... features) {
+        return engine.parseArray(utf8, Concurrency.NONE, features);
+    }
+
+    public static JSONArray parseArray(byte[] utf8, Engine engine, Feature... features) {
+        return engine.parseArray(utf8, Concurrency.NONE, features);
+    }
+
+    /**
+     * 解析为JSONArray，投影作用于数组中的每个元素
+     *
+     * @param jsonString json字符串
+     * @param projection 需要保留的字段
+     * @param features   解析特性
+     * @return JSONArray
+     */
+    public static JSONArray parseArray(String jsonString, Projection projection, Feature... features) {
+        try (JsonParser parser = MAPPER.getFactory().createParser(jsonString)) {
+            return JSONTreeReader.of(Concurrency.NONE, features).readArray(parser, projection);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 从可能压缩的输入流解析为JSONObject，边解压边解析，不生成完整的中间byte[]或String。读取完毕后不关闭in
+     *
+     * @param in          输入流
+     * @param compression 压缩格式
+     * @param features    解析特性
+     * @return JSONObject
+     */
+    public static JSONObject parseObject(InputStream in, Compression compression, Feature... features) {
+        checkStream(in, compression);
+        try (InputStream input = compression.open(in); JsonParser parser = MAPPER.getFactory().createParser(input)) {
+            return JSONTreeReader.of(Concurrency.NONE, features).readObject(parser);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public static <T> T parseObject(InputStream in, Compression compression, Class<T> clazz) {
+        checkStream(in, compression);
+        try (InputStream input = compression.open(in)) {
+            return MAPPER.readValue(input, clazz);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public static JSONArray parseArray(InputStream in, Compression compression, Feature... features) {
+        checkStream(in, compression);
+        try (InputStream input = compression.open(in); JsonParser parser = MAPPER.getFactory().createParser(input)) {
+            return JSONTreeReader.of(Concurrency.NONE, features).readArray(parser);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public static <T> List<T> parseArray(String jsonString, Class<T> clazz) {
+        try {
+            JavaType javaType = MAPPER.getTypeFactory().constructParametricType(List.class, clazz);
+            return MAPPER.readValue(jsonString, javaType);
+        } catch (Exception e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public static Object parse(String jsonString) {
+        if (isJsonObj(jsonString)) {
+            return parseObject(jsonString);
+        }
+        if (isJsonArray(jsonString)) {
+            return parseArray(jsonString);
+        }
+        try {
+            return MAPPER.readValue(jsonString, JsonNode.class);
+        } catch (Exception e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 解析为深度只读的JSONObject/JSONArray，结果可在线程间无同步共享
+     *
+     * @param jsonString json字符串
+     * @return 只读的JSONObject、JSONArray或其他值
+     */
+    public static Object parseImmutable(String jsonString) {
+        return freeze(parse(jsonString));
+    }
+
+    /**
+     * 带缓存的解析，内容相同的文本只解析一次，返回深度只读的结果，可在线程间直接共享
+     *
+     * @param jsonString json字符串
+     * @return 只读的JSONObject、JSONArray或其他值
+     */
+    public static Object cachedParse(String jsonString) {
+        return getParseCache().get(jsonString);
+    }
+
+    public static JSONObject cachedParseObject(String jsonString) {
+        Object value = cachedParse(jsonString);
+        if (value != null && !(value instanceof JSONObject)) {
+            throw new JsonConvertException("can not parse to JSONObject, value : " + value.getClass().getName());
+        }
+        return (JSONObject) value;
+    }
+
+    public static JSONArray cachedParseArray(String jsonString) {
+        Object value = cachedParse(jsonString);
+        if (value != null && !(value instanceof JSONArray)) {
+            throw new JsonConvertException("can not parse to JSONArray, value : " + value.getClass().getName());
+        }
+        return (JSONArray) value;
+    }
+
+    /**
+     * 替换cachedParse使用的缓存
+     */
+    public static void setParseCache(ParseCache cache) {
+        if (cache == null) {
+            throw new IllegalArgumentException("cache is null.");
+        }
+        parseCache = cache;
+    }
+
+    /**
+     * cachedParse使用的缓存，可通过{@link ParseCache#stats()}查看命中率
+     */
+    public static ParseCache getParseCache() {
+        ParseCache cache = parseCache;
+        if (cache == null) {
+            synchronized (JSON.class) {
+                cache = parseCache;
+                if (cache == null) {
+                    cache = new ParseCache();
+                    parseCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    public static String toJSONString(Object o) {
+        try {
+            return MAPPER.writeValueAsString(o);
+        } catch (Exception e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 序列化时应用过滤器，在写出每个字段时过滤、改名或替换值，不复制对象。
+     * 作用于POJO、record、Map与JSONObject的字段，相同的过滤器组合复用编译后的结果
+     *
+     * @param o       对象
+     * @param filters {@link PropertyFilter}、{@link NameFilter}、{@link ValueFilter}
+     * @return json字符串
+     */
+    public static String toJSONString(Object o, SerializeFilter... filters) {
+        if (filters == null || filters.length == 0) {
+            return toJSONString(o);
+        }
+        ObjectWriter writer = FilterChain.writer(filters);
+        try {
+            return writer.writeValueAsString(o);
+        } catch (Exception e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 序列化后压缩写出，边序列化边压缩，不生成完整的中间String或byte[]。写出压缩格式的结尾后flush，不关闭out
+     *
+     * @param out         输出流
+     * @param o           对象
+     * @param compression 压缩格式
+     */
+    public static void writeCompressed(OutputStream out, Object o, Compression compression) {
+        writeCompressed(out, o, compression, 1);
+    }
+
+    /**
+     * 同{@link #writeCompressed(OutputStream, Object, Compression)}，threads大于1时分块并行压缩，
+     * 适合大文档导出，仅支持GZIP，见{@link ParallelGzipOutputStream}
+     *
+     * @param threads 压缩线程数
+     */
+    public static void writeCompressed(OutputStream out, Object o, Compression compression, int threads) {
+        if (out == null) {
+            throw new IllegalArgumentException("out is null.");
+        }
+        if (compression == null) {
+            throw new IllegalArgumentException("compression is null.");
+        }
+        try (OutputStream output = compression.open(out, threads)) {
+            MAPPER.writeValue(output, o);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 按规则流式改写JSON：token从输入直接写到输出，不构建树，内存占用与文档大小无关，适合网关、日志脱敏等场景。
+     * 输入必须是标准JSON，不接受单引号、无引号字段名等宽松写法，输出同样是标准JSON。
+     * 输入中第一个值之后的内容忽略；写完后flush，不关闭in与out
+     *
+     * @param in   UTF-8编码的JSON输入流
+     * @param out  输出流
+     * @param spec 改写规则
+     */
+    public static void transform(InputStream in, OutputStream out, TransformSpec spec) {
+        if (in == null) {
+            throw new IllegalArgumentException("in is null.");
+        }
+        checkTransform(out, spec);
+        try (JsonParser parser = MAPPER.getFactory().createParser(in)) {
+            transform(parser, out, spec, null);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 同{@link #transform(InputStream, OutputStream, TransformSpec)}，规则未涉及的对象与数组按原始字节整段复制
+     *
+     * @param utf8 UTF-8编码的JSON
+     */
+    public static void transform(byte[] utf8, OutputStream out, TransformSpec spec) {
+        if (utf8 == null) {
+            throw new IllegalArgumentException("utf8 is null.");
+        }
+        checkTransform(out, spec);
+        try (JsonParser parser = MAPPER.getFactory().createParser(utf8)) {
+            transform(parser, out, spec, utf8);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    private static void transform(JsonParser parser, OutputStream out, TransformSpec spec, byte[] source) throws IOException {
+        JSONTransformer.strict(parser).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            JSONTransformer.transform(parser, generator, spec, source);
+        }
+    }
+
+    /**
+     * 规范化序列化：key排序、数字去掉末尾的0、固定的转义规则，内容相同的文档输出的字节完全一致，可用于去重或生成缓存key
+     *
+     * @param o 对象
+     * @return UTF-8编码的规范化JSON
+     */
+    public static byte[] toCanonicalBytes(Object o) {
+        CanonicalWriter.ByteSink sink = new CanonicalWriter.ByteSink();
+        CanonicalWriter.write(o, sink);
+        return sink.toByteArray();
+    }
+
+    /**
+     * 规范化内容的64位hash(MurmurHash3 x64 128的前64位)，流式计算，不生成中间的String或byte[]。
+     * 与{@code hash64(toCanonicalBytes(o))}相等
+     *
+     * @param o 对象
+     * @return hash
+     */
+    public static long hash64(Object o) {
+        return hash128(o)[0];
+    }
+
+    /**
+     * 字节内容的64位hash，与{@link #hash64(Object)}使用相同的算法
+     */
+    public static long hash64(byte[] bytes) {
+        return hash128(bytes)[0];
+    }
+
+    /**
+     * 规范化内容的128位hash(MurmurHash3 x64 128)，流式计算，不生成中间的String或byte[]。
+     * 与{@code hash128(toCanonicalBytes(o))}相等
+     *
+     * @param o 对象
+     * @return {h1, h2}，按小端序拼接即为标准的128位结果
+     */
+    public static long[] hash128(Object o) {
+        Murmur3Sink sink = new Murmur3Sink();
+        CanonicalWriter.write(o, sink);
+        return sink.finish();
+    }
+
+    /**
+     * 字节内容的128位hash，与{@link #hash128(Object)}使用相同的算法
+     */
+    public static long[] hash128(byte[] bytes) {
+        Murmur3Sink sink = new Murmur3Sink();
+        sink.write(bytes, 0, bytes.length);
+        return sink.finish();
+    }
+
+    /**
+     * 按JSON Patch(RFC 6902)修改JSONObject。
+     * 修改路径上的容器写时复制，全部操作成功后再写回target，任一操作失败时target保持不变
+     *
+     * @param target 目标对象
+     * @param ops    操作列表
+     * @return target
+     */
+    public static JSONObject applyPatch(JSONObject target, JSONArray ops) {
+        Object result = JSONPatch.apply(target, ops);
+        if (!(result instanceof Map)) {
+            throw new JsonConvertException("patch result is not an object, result : " + result);
+        }
+        if (result != target) {
+            Map<String, Object> patched = (Map<String, Object>) result;
+            target.clear();
+            target.putAll(patched);
+        }
+        return target;
+    }
+
+    /**
+     * 按JSON Patch(RFC 6902)修改JSONArray，语义同{@link #applyPatch(JSONObject, JSONArray)}
+     *
+     * @param target 目标数组
+     * @param ops    操作列表
+     * @return target
+     */
+    public static JSONArray applyPatch(JSONArray target, JSONArray ops) {
+        Object result = JSONPatch.apply(target, ops);
+        if (!(result instanceof List)) {
+            throw new JsonConvertException("patch result is not an array, result : " + result);
+        }
+        if (result != target) {
+            List<Object> patched = (List<Object>) result;
+            target.clear();
+            target.addAll(patched);
+        }
+        return target;
+    }
+
+    /**
+     * 计算两个JSON值的结构化差异，结果为可用于{@link #applyPatch(JSONObject, JSONArray)}的JSON Patch
+     *
+     * @param source 原值
+     * @param target 目标值
+     * @return 操作列表
+     */
+    public static JSONArray diff(Object source, Object target) {
+        return JSONPatch.diff(source, target);
+    }
+
+    /**
+     * 是否为JSON字符串，首尾都为大括号或中括号判定为JSON字符串
+     *
+     * @param str 字符串
+     * @return 是否为JSON字符串
+     */
+    public static boolean isJson(String str) {
+        return isJsonObj(str) || isJsonArray(str);
+    }
+
+    /**
+     * 是否为JSONObject字符串，首尾都为大括号或中括号判定为JSON字符串
+     *
+     * @param str 字符串
+     * @return 是否为JSON字符串
+     */
+    public static boolean isJsonObj(String str) {
+
+        if (isBlank(str)) {
+            return false;
+        }
+        return isWrap(str.trim(), '{', '}');
+    }
+
+    /**
+     * 是否为JSONObject字符串，首尾都为大括号或中括号判定为JSON字符串
+     *
+     * @param str 字符串
+     * @return 是否为JSON字符串
+     */
+    public static boolean isJsonArray(String str) {
+        if (isBlank(str)) {
+            return false;
+        }
+        return isWrap(str.trim(), '[', ']');
+    }
+
+    private static boolean isBlank(String str) {
+        return str == null || str.trim().length() == 0;
+    }
+
+    private static boolean isWrap(String str, char start, char end) {
+        if (isBlank(str)) {
+            return false;
+        }
+        return str.charAt(0) == start && str.charAt(str.length() - 1) == end;
+    }
+
+    private static void checkStream(InputStream in, Compression compression) {
+        if (in == null) {
+            throw new IllegalArgumentException("in is null.");
+        }
+        if (compression == null) {
+            throw new IllegalArgumentException("compression is null.");
+        }
+    }
+
+    private static void checkTransform(OutputStream out, TransformSpec spec) {
+        if (out == null) {
+            throw new IllegalArgumentException("out is null.");
+        }
+        if (spec == null) {
+            throw new IllegalArgumentException("spec is null.");
+        }
+    }
+
+    /**
+     * 深度冻结，Map/List分别转换为只读的JSONObject/JSONArray，其他值原样返回
+     *
+     * @param value 值
+     * @return 冻结后的值
+     */
+    static Object freeze(Object value) {
+        if (value instanceof JSONObject) {
+            return ((JSONObject) value).freeze();
+        }
+        if (value instanceof JSONArray) {
+            return ((JSONArray) value).freeze();
+        }
+        if (value instanceof Map) {
+            return new JSONObject(FrozenMap.of((Map<?, ?>) value));
+        }
+        if (value instanceof List) {
+            return new JSONArray(FrozenList.of((List<?>) value));
+        }
+        return value;
+    }
+}
@@ -3,6 +3,7 @@ package com.jframe.json;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.LocalDateTime;
 import java.util.*;
 
 
@@ -28,6 +29,14 @@ public class JSONArray extends JSON implements List<Object>, Cloneable, RandomAc
         this.list = new ArrayList<Object>(initialCapacity);
     }
 
+    public JSONArray(Concurrency concurrency){
+        this.list = concurrency.newList(new ArrayList<Object>());
+    }
+
+    public Concurrency getConcurrency() {
+        return Concurrency.of(list);
+    }
+
     public JSONObject getJSONObject(int index) {
         Object value = list.get(index);
 
@@ -58,13 +67,10 @@ public class JSONArray extends JSON implements List<Object>, Cloneable, RandomAc
 
     public <T> T getObject(int index, Class<T> clazz) {
         Object obj = list.get(index);
-        if (obj.getClass() == clazz) {
+        if (obj != null && obj.getClass() == clazz) {
             return (T) obj;
         }
-        if (obj instanceof String) {
-            return JSON.parseObject((String) obj, clazz);
-        }
-        return JSON.parseObject(JSON.toJSONString(obj), clazz);
+        return TypeUtils.cast(obj, clazz);
     }
 
     public Boolean getBoolean(int index) {
@@ -201,18 +207,50 @@ public class JSONArray extends JSON implements List<Object>, Cloneable, RandomAc
         return TypeUtils.castToBigInteger(value);
     }
 
+    public Date getDate(int index) {
+        Object value = get(index);
+
+        return TypeUtils.castToDate(value);
+    }
+
+    public LocalDateTime getLocalDateTime(int index) {
+        Object value = get(index);
+
+        return TypeUtils.castToLocalDateTime(value);
+    }
+
     public String getString(int index) {
         Object value = get(index);
 
         return TypeUtils.castToString(value);
     }
 
+    /**
+     * 深度冻结，返回只读的JSONArray，已冻结时返回自身
+     *
+     * @return 只读的JSONArray
+     */
+    public JSONArray freeze() {
+        if (isFrozen()) {
+            return this;
+        }
+        return new JSONArray(FrozenList.of(list));
+    }
+
+    public boolean isFrozen() {
+        return list instanceof FrozenList;
+    }
+
     public <T> List<T> toJavaList(Class<T> clazz) {
-        return parseArray(toJSONString(), clazz);
+        List<T> javaList = new ArrayList<T>(list.size());
+        for (Object item : list) {
+            javaList.add(TypeUtils.cast(item, clazz));
+        }
+        return javaList;
     }
 
     public String toJSONString() {
-        return JSON.toJSONString(list);
+        return JSON.toJSONString(this);
     }
 
     @Override
@@ -355,6 +393,18 @@ public class JSONArray extends JSON implements List<Object>, Cloneable, RandomAc
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof JSONArray) {
+            List<Object> other = ((JSONArray) obj).list;
+            if (other == list) {
+                return true;
+            }
+            if (other instanceof FrozenList && list instanceof FrozenList) {
+                return list.equals(other);
+            }
+        }
         return this.list.equals(obj);
     }
 
@@ -0,0 +1,183 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * ObjectMapper初始化与预热。
+ * 不再通过ServiceLoader扫描classpath注册模块，额外的模块通过系统属性{@value #MODULES_PROPERTY}显式指定（逗号分隔的类名），
+ * 配置为{@code *}时恢复原有的扫描行为；classpath中声明了但未注册的模块记录在{@link BootstrapReport}中并输出一条警告日志。
+ * 预热列表来自系统属性{@value #PREWARM_PROPERTY}（逗号分隔的类名）与classpath中的{@value #PREWARM_RESOURCE}文件（每行一个类名，#开头为注释）
+ * @author jiangjian45
+ * Created at 2026/10/20 15:20
+ */
+final class JSONBootstrap {
+    static final String MODULES_PROPERTY = "json.facade.modules";
+    static final String PREWARM_PROPERTY = "json.facade.prewarm";
+    static final String PREWARM_RESOURCE = "META-INF/json-facade/prewarm";
+    private static final String MODULE_SERVICES = "META-INF/services/" + Module.class.getName();
+    private static final String SCAN_ALL = "*";
+    private static final Logger LOGGER = Logger.getLogger(JSON.class.getName());
+
+    private JSONBootstrap() {
+    }
+
+    /**
+     * 注册系统属性中配置的模块，未配置时不注册任何模块
+     */
+    static void registerConfiguredModules(ObjectMapper mapper, BootstrapReport report) {
+        String modules = System.getProperty(MODULES_PROPERTY);
+        if (modules != null && SCAN_ALL.equals(modules.trim())) {
+            mapper.findAndRegisterModules();
+            return;
+        }
+        List<String> classNames = split(modules);
+        for (String className : classNames) {
+            try {
+                Class<?> moduleClass = Class.forName(className, true, classLoader());
+                mapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new JsonConvertException("can not register module " + className + ", " + e);
+            }
+        }
+        reportUnregisteredModules(classNames, report);
+    }
+
+    /**
+     * 只读取ServiceLoader的声明文件，不加载模块类；升级前由findAndRegisterModules自动注册的模块在此提示
+     */
+    private static void reportUnregisteredModules(List<String> registered, BootstrapReport report) {
+        Set<String> declared = new LinkedHashSet<String>();
+        try {
+            Enumeration<URL> resources = classLoader().getResources(MODULE_SERVICES);
+            while (resources.hasMoreElements()) {
+                readClassNames(resources.nextElement(), declared);
+            }
+        } catch (IOException e) {
+            report.skipped(MODULE_SERVICES, e.toString());
+            return;
+        }
+        declared.removeAll(registered);
+        if (declared.isEmpty()) {
+            return;
+        }
+        for (String className : declared) {
+            report.unregisteredModule(className);
+        }
+        LOGGER.warning("jackson modules found on the classpath but not registered: " + declared
+                + ", list them in -D" + MODULES_PROPERTY + " or set -D" + MODULES_PROPERTY + "=" + SCAN_ALL + " to register all");
+    }
+
+    /**
+     * 读取预热列表，找不到的类记录在report中
+     */
+    static List<Class<?>> prewarmClasses(BootstrapReport report) {
+        Set<String> classNames = new LinkedHashSet<String>(split(System.getProperty(PREWARM_PROPERTY)));
+        ClassLoader classLoader = classLoader();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(PREWARM_RESOURCE);
+            while (resources.hasMoreElements()) {
+                readClassNames(resources.nextElement(), classNames);
+            }
+        } catch (IOException e) {
+            report.skipped(PREWARM_RESOURCE, e.toString());
+        }
+
+        List<Class<?>> classes = new ArrayList<Class<?>>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                report.skipped(className, "class not found");
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 提前构建并缓存类的序列化器、反序列化器及绑定元数据。
+     * writerFor/readerFor预取根类型时会吞掉构建失败的异常，这里先通过canSerialize/canDeserialize构建并取得失败原因，
+     * 构建结果写入ObjectMapper共享的缓存
+     */
+    static void prewarm(ObjectMapper mapper, Collection<Class<?>> classes, BootstrapReport report) {
+        List<Class<?>> warmable = new ArrayList<Class<?>>(classes.size());
+        AtomicReference<Throwable> cause = new AtomicReference<Throwable>();
+        long start = System.nanoTime();
+        for (Class<?> clazz : classes) {
+            cause.set(null);
+            if (mapper.canSerialize(clazz, cause) && cause.get() == null) {
+                mapper.writerFor(clazz);
+                warmable.add(clazz);
+            } else {
+                report.skipped(clazz.getName(), "serializer: " + cause.get());
+            }
+        }
+        report.phase("serializers", start);
+
+        start = System.nanoTime();
+        Iterator<Class<?>> iterator = warmable.iterator();
+        while (iterator.hasNext()) {
+            Class<?> clazz = iterator.next();
+            cause.set(null);
+            if (mapper.canDeserialize(mapper.constructType(clazz), cause) && cause.get() == null) {
+                mapper.readerFor(clazz);
+            } else {
+                iterator.remove();
+                report.skipped(clazz.getName(), "deserializer: " + cause.get());
+            }
+        }
+        report.phase("deserializers", start);
+
+        start = System.nanoTime();
+        for (Class<?> clazz : warmable) {
+            JavaBeanInfo.of(clazz);
+            CompiledCodecModule.codec(clazz);
+            report.warmed(clazz.getName());
+        }
+        report.phase("beanInfo", start);
+    }
+
+    private static void readClassNames(URL url, Set<String> classNames) throws IOException {
+        try (InputStream in = url.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // ServiceLoader的声明文件允许行尾注释
+                int comment = line.indexOf('#');
+                line = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+        }
+    }
+
+    private static List<String> split(String value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<String>();
+        for (String item : value.split(",")) {
+            item = item.trim();
+            if (!item.isEmpty()) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : JSONBootstrap.class.getClassLoader();
+    }
+}
@@ -0,0 +1,33 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * 编译期生成的序列化/反序列化实现，由json-facade-processor为{@link JSONCompiled}标记的类生成
+ * @author jiangjian45
+ * Created at 2026/10/20 11:05
+ */
+public interface JSONCodec<T> {
+    /**
+     * 写出对象
+     *
+     * @param gen      生成器
+     * @param value    对象，非null
+     * @param provider jackson序列化上下文，用于写出非基本类型的属性
+     */
+    void write(JsonGenerator gen, T value, SerializerProvider provider) throws IOException;
+
+    /**
+     * 读取对象，调用时parser位于对象的第一个token
+     *
+     * @param parser 解析器
+     * @param ctxt   jackson反序列化上下文，用于读取非基本类型的属性
+     * @return 对象
+     */
+    T read(JsonParser parser, DeserializationContext ctxt) throws IOException;
+}
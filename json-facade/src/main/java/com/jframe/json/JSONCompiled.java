@@ -0,0 +1,16 @@
+package com.jframe.json;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记需要在编译期生成专用序列化/反序列化代码的DTO，需引入json-facade-processor注解处理器。
+ * 生成的类名为"类名_JSONCodec"（内部类的'$'替换为'_'），运行时自动注册并优先于jackson的反射绑定使用；
+ * 未生成对应类时仍由jackson处理
+ * @author jiangjian45
+ * Created at 2026/10/20 11:00
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JSONCompiled {
+}
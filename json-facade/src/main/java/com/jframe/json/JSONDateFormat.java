@@ -0,0 +1,109 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+
+import java.text.FieldPosition;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * jackson使用的DateFormat，格式为yyyy-MM-dd HH:mm:ss，格式化与解析均委托给线程安全的{@link DateTimeCodec}。
+ * 继承StdDateFormat：jackson每次序列化/反序列化都会clone配置中的DateFormat，这里clone只创建一个持有时区与locale的小对象，
+ * 不复制SimpleDateFormat的Calendar与NumberFormat；{@code @JsonFormat}的timezone与locale通过{@link #withTimeZone}、
+ * {@link #withLocale}生效，得到的仍是JSONDateFormat
+ * @author jiangjian45
+ * Created at 2026/10/19 15:40
+ */
+final class JSONDateFormat extends StdDateFormat {
+    private static final long serialVersionUID = 1L;
+
+    private ZoneId zone;
+
+    JSONDateFormat(ZoneId zone) {
+        this(zone, Locale.getDefault());
+    }
+
+    private JSONDateFormat(ZoneId zone, Locale locale) {
+        super(TimeZone.getTimeZone(zone), locale);
+        this.zone = zone;
+    }
+
+    @Override
+    public JSONDateFormat withTimeZone(TimeZone tz) {
+        ZoneId zone = tz == null ? DateTimeCodec.DEFAULT_ZONE : tz.toZoneId();
+        return zone.equals(this.zone) ? this : new JSONDateFormat(zone, _locale);
+    }
+
+    @Override
+    public JSONDateFormat withLocale(Locale locale) {
+        return locale.equals(_locale) ? this : new JSONDateFormat(zone, locale);
+    }
+
+    /**
+     * 解析始终是严格的，忽略lenient
+     */
+    @Override
+    public JSONDateFormat withLenient(Boolean lenient) {
+        return this;
+    }
+
+    /**
+     * 输出不包含时区，忽略该设置
+     */
+    @Override
+    public JSONDateFormat withColonInTimeZone(boolean colonInTimeZone) {
+        return this;
+    }
+
+    @Override
+    public JSONDateFormat clone() {
+        return new JSONDateFormat(zone, _locale);
+    }
+
+    @Override
+    public void setTimeZone(TimeZone tz) {
+        super.setTimeZone(tz);
+        this.zone = tz.toZoneId();
+    }
+
+    @Override
+    public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
+        return toAppendTo.append(DateTimeCodec.format(date.getTime(), zone));
+    }
+
+    @Override
+    public Date parse(String source) throws ParseException {
+        ParsePosition pos = new ParsePosition(0);
+        Date date = parse(source, pos);
+        if (date == null) {
+            throw new ParseException("Cannot parse date \"" + source + "\" with pattern " + toPattern(), pos.getErrorIndex());
+        }
+        return date;
+    }
+
+    @Override
+    public Date parse(String source, ParsePosition pos) {
+        String str = source.substring(pos.getIndex()).trim();
+        if (str.isEmpty()) {
+            pos.setErrorIndex(pos.getIndex());
+            return null;
+        }
+        try {
+            Date date = Date.from(DateTimeCodec.parseInstant(str, zone));
+            pos.setIndex(source.length());
+            return date;
+        } catch (JsonConvertException e) {
+            pos.setErrorIndex(pos.getIndex());
+            return null;
+        }
+    }
+
+    @Override
+    public String toPattern() {
+        return DateTimeCodec.DEFAULT_DATE_PATTERN;
+    }
+}
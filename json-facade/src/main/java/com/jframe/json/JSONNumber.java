@@ -0,0 +1,272 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 延迟解析的数字，保留原始文本，按需转换为double、long或BigDecimal。
+ * 不超过16个字符的数字按4bit一个字符压缩在一个long中，更长的保存为ASCII字节数组；
+ * double/BigDecimal形式在首次使用时计算并缓存，序列化时原样输出
+ * @author jiangjian45
+ * Created at 2026/10/19 17:20
+ */
+public final class JSONNumber extends Number implements Comparable<JSONNumber> {
+    private static final long serialVersionUID = 1L;
+    /**
+     * 可压缩进一个long的最大字符数
+     */
+    private static final int MAX_PACKED_LENGTH = 16;
+    /**
+     * 压缩编码，下标为编码值，0表示结束
+     */
+    private static final char[] SYMBOLS = {0, '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '.', '-', '+', 'e', 'E'};
+    /**
+     * double可精确表示的10的幂
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+    private final long packed;
+    private final byte[] chars;
+    /**
+     * 已计算的Double或BigDecimal，Number实现类均不可变，无需同步
+     */
+    private transient Number cached;
+
+    private JSONNumber(long packed, byte[] chars) {
+        this.packed = packed;
+        this.chars = chars;
+    }
+
+    /**
+     * 由数字文本构造，调用方需保证文本是合法的JSON数字
+     */
+    public static JSONNumber of(String text) {
+        return of(text.toCharArray(), 0, text.length());
+    }
+
+    static JSONNumber of(char[] buf, int offset, int len) {
+        if (len <= MAX_PACKED_LENGTH) {
+            long packed = 0;
+            for (int i = 0; i < len; i++) {
+                packed |= (long) encode(buf[offset + i]) << (60 - 4 * i);
+            }
+            return new JSONNumber(packed, null);
+        }
+        byte[] chars = new byte[len];
+        for (int i = 0; i < len; i++) {
+            chars[i] = (byte) buf[offset + i];
+        }
+        return new JSONNumber(0L, chars);
+    }
+
+    /**
+     * 由ASCII字节构造，调用方需保证是合法的JSON数字
+     */
+    static JSONNumber of(byte[] buf, int offset, int len) {
+        if (len <= MAX_PACKED_LENGTH) {
+            long packed = 0;
+            for (int i = 0; i < len; i++) {
+                packed |= (long) encode((char) buf[offset + i]) << (60 - 4 * i);
+            }
+            return new JSONNumber(packed, null);
+        }
+        return new JSONNumber(0L, Arrays.copyOfRange(buf, offset, offset + len));
+    }
+
+    private static int encode(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        switch (c) {
+            case '.':
+                return 11;
+            case '-':
+                return 12;
+            case '+':
+                return 13;
+            case 'e':
+                return 14;
+            case 'E':
+                return 15;
+            default:
+                throw new JsonConvertException("illegal number char : " + c);
+        }
+    }
+
+    private int length() {
+        if (chars != null) {
+            return chars.length;
+        }
+        int len = 0;
+        while (len < MAX_PACKED_LENGTH && charAt(len) != 0) {
+            len++;
+        }
+        return len;
+    }
+
+    private char charAt(int index) {
+        if (chars != null) {
+            return (char) chars[index];
+        }
+        return SYMBOLS[(int) (packed >>> (60 - 4 * index)) & 0xF];
+    }
+
+    /**
+     * 不含指数且有效数字不超过18位时返回去掉小数点后的整数，否则返回Long.MIN_VALUE
+     */
+    private long unscaledValue() {
+        if (chars != null) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        boolean negative = false;
+        int digits = 0;
+        for (int i = 0; i < MAX_PACKED_LENGTH; i++) {
+            char c = charAt(i);
+            if (c == 0) {
+                break;
+            }
+            if (c == '-') {
+                negative = true;
+            } else if (c >= '0' && c <= '9') {
+                if (++digits > 18) {
+                    return Long.MIN_VALUE;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c != '.') {
+                return Long.MIN_VALUE;
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    private int scale() {
+        int len = length();
+        for (int i = 0; i < len; i++) {
+            if (charAt(i) == '.') {
+                return len - i - 1;
+            }
+        }
+        return 0;
+    }
+
+    public BigDecimal decimalValue() {
+        Number value = cached;
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        long unscaled = unscaledValue();
+        BigDecimal decimal = unscaled != Long.MIN_VALUE
+                ? BigDecimal.valueOf(unscaled, scale())
+                : new BigDecimal(toString());
+        cached = decimal;
+        return decimal;
+    }
+
+    @Override
+    public double doubleValue() {
+        Number value = cached;
+        if (value != null) {
+            return value.doubleValue();
+        }
+        long unscaled = unscaledValue();
+        double result;
+        int scale;
+        if (unscaled != Long.MIN_VALUE && Math.abs(unscaled) < MAX_EXACT_DOUBLE_MANTISSA
+                && (scale = scale()) < POWERS_OF_TEN.length) {
+            // 尾数与10的幂都能精确表示时一次除法即为正确舍入的结果
+            result = unscaled / POWERS_OF_TEN[scale];
+        } else {
+            result = Double.parseDouble(toString());
+        }
+        cached = result;
+        return result;
+    }
+
+    @Override
+    public float floatValue() {
+        return Float.parseFloat(toString());
+    }
+
+    @Override
+    public long longValue() {
+        Number value = cached;
+        if (value instanceof BigDecimal) {
+            return TypeUtils.longValue((BigDecimal) value);
+        }
+        long unscaled = unscaledValue();
+        if (unscaled != Long.MIN_VALUE) {
+            int scale = scale();
+            for (int i = 0; i < scale; i++) {
+                unscaled /= 10;
+            }
+            return unscaled;
+        }
+        return TypeUtils.longValue(decimalValue());
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public int compareTo(JSONNumber o) {
+        return decimalValue().compareTo(o.decimalValue());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof JSONNumber)) {
+            return false;
+        }
+        JSONNumber other = (JSONNumber) obj;
+        return packed == other.packed && Arrays.equals(chars, other.chars);
+    }
+
+    @Override
+    public int hashCode() {
+        return chars != null ? Arrays.hashCode(chars) : Long.hashCode(packed);
+    }
+
+    /**
+     * 原始数字文本
+     */
+    @Override
+    public String toString() {
+        int len = length();
+        char[] buf = new char[len];
+        for (int i = 0; i < len; i++) {
+            buf[i] = charAt(i);
+        }
+        return new String(buf);
+    }
+
+    /**
+     * 按原始文本输出
+     */
+    static final class Serializer extends StdScalarSerializer<JSONNumber> {
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(JSONNumber.class);
+        }
+
+        @Override
+        public void serialize(JSONNumber value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toString());
+        }
+    }
+}
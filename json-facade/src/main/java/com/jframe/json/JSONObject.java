@@ -0,0 +1,619 @@
+package com.jframe.json;
+
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+
+/**
+ * JSON对象
+ * @author jiangjian45
+ * Created at 2021/9/8 15:42
+ */
+public class JSONObject extends JSON implements Map<String, Object>, Cloneable, Serializable {
+    /**
+     * 序列化ID
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * 默认容量
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * 数据容器
+     */
+    private final Map<String, Object> map;
+    /**
+     * 嵌入的JSON字符串的处理方式，null等同于{@link EmbeddedJson#PARSE}
+     */
+    private transient volatile EmbeddedJson embeddedJson;
+    /**
+     * KEEP_STRING模式下的旁路缓存：key -> {原字符串, 解析结果}
+     */
+    private transient volatile Map<String, Object[]> embeddedCache;
+
+    public JSONObject(){
+        this(DEFAULT_INITIAL_CAPACITY, false);
+    }
+
+    public JSONObject(Map<String, Object> map){
+        if (map == null) {
+            throw new IllegalArgumentException("map is null.");
+        }
+        this.map = map;
+    }
+
+    public JSONObject(boolean ordered){
+        this(DEFAULT_INITIAL_CAPACITY, ordered);
+    }
+
+    public JSONObject(int initialCapacity){
+        this(initialCapacity, false);
+    }
+
+    public JSONObject(int initialCapacity, boolean ordered){
+        if (ordered) {
+            map = new LinkedHashMap<String, Object>(initialCapacity);
+        } else {
+            map = new HashMap<String, Object>(initialCapacity);
+        }
+    }
+
+    public JSONObject(Concurrency concurrency){
+        this.map = concurrency.newMap(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public Map<String, Object> getInnerMap() {
+        return this.map;
+    }
+
+    public Concurrency getConcurrency() {
+        return Concurrency.of(map);
+    }
+
+    public JSONObject getJSONObject(String key) {
+        Object value = map.get(key);
+
+        if (value instanceof JSONObject) {
+            return inheritEmbeddedJson((JSONObject) value);
+        }
+
+        if (value instanceof Map) {
+            return inheritEmbeddedJson(new JSONObject((Map) value));
+        }
+
+        if (value instanceof String) {
+            return (JSONObject) parseEmbedded(key, (String) value, true);
+        }
+
+        return JSON.parseObject(JSON.toJSONString(value), getConcurrency());
+    }
+
+    public JSONArray getJSONArray(String key) {
+        Object value = map.get(key);
+
+        if (value == null) {
+            return new JSONArray(getConcurrency());
+        }
+
+        if (value instanceof JSONArray) {
+            return (JSONArray) value;
+        }
+
+        if (value instanceof List) {
+            return new JSONArray((List) value);
+        }
+
+        if (value instanceof String) {
+            return (JSONArray) parseEmbedded(key, (String) value, false);
+        }
+
+        return JSON.parseArray(JSON.toJSONString(value), getConcurrency());
+    }
+
+    /**
+     * 设置以字符串形式嵌入的JSON文档的处理方式，getJSONObject/getJSONArray返回的子对象沿用同样的方式。
+     * 只读对象可能被多处共享(如cachedParse的结果)，不允许设置
+     *
+     * @param embeddedJson 处理方式
+     * @return this
+     */
+    public JSONObject setEmbeddedJson(EmbeddedJson embeddedJson) {
+        if (isFrozen()) {
+            throw new UnsupportedOperationException("can not set embeddedJson on a frozen JSONObject");
+        }
+        this.embeddedJson = embeddedJson;
+        this.embeddedCache = null;
+        return this;
+    }
+
+    public EmbeddedJson getEmbeddedJson() {
+        EmbeddedJson mode = embeddedJson;
+        return mode == null ? EmbeddedJson.PARSE : mode;
+    }
+
+    private JSONObject inheritEmbeddedJson(JSONObject child) {
+        EmbeddedJson mode = embeddedJson;
+        // 只读的子对象不修改，按PARSE处理
+        if (mode != null && mode != EmbeddedJson.PARSE && child.embeddedJson == null && !child.isFrozen()) {
+            child.embeddedJson = mode;
+        }
+        return child;
+    }
+
+    /**
+     * 解析嵌入的JSON字符串，按embeddedJson决定是否复用上次的解析结果
+     */
+    private JSON parseEmbedded(String key, String text, boolean object) {
+        EmbeddedJson mode = getEmbeddedJson();
+        Map<String, Object[]> cache = embeddedCache;
+        if (mode != EmbeddedJson.PARSE && cache != null) {
+            Object[] cached = cache.get(key);
+            if (cached != null && cached[0] == text && (object ? cached[1] instanceof JSONObject : cached[1] instanceof JSONArray)) {
+                return (JSON) cached[1];
+            }
+        }
+
+        JSON parsed = object ? JSON.parseObject(text, getConcurrency()) : JSON.parseArray(text, getConcurrency());
+        if (parsed == null || mode == EmbeddedJson.PARSE) {
+            return parsed;
+        }
+        if (parsed instanceof JSONObject) {
+            ((JSONObject) parsed).setEmbeddedJson(mode);
+        }
+        if (mode == EmbeddedJson.WRITE_BACK) {
+            if (map instanceof ConcurrentMap) {
+                if (!((ConcurrentMap<String, Object>) map).replace(key, text, parsed)) {
+                    // 其他线程已先写回时返回它的结果，所有调用方修改的是同一个对象
+                    Object current = map.get(key);
+                    if (object ? current instanceof JSONObject : current instanceof JSONArray) {
+                        return (JSON) current;
+                    }
+                }
+            } else if (map.get(key) == text) {
+                map.put(key, parsed);
+            }
+            return parsed;
+        }
+        if (cache == null) {
+            synchronized (this) {
+                cache = embeddedCache;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<String, Object[]>(4);
+                    embeddedCache = cache;
+                }
+            }
+        }
+        cache.put(key, new Object[]{text, parsed});
+        return parsed;
+    }
+
+    public <T> T getObject(String key, Class<T> clazz) {
+        Object obj = map.get(key);
+        if (obj != null && clazz == obj.getClass()) {
+            return (T) obj;
+        }
+
+        return TypeUtils.cast(obj, clazz);
+    }
+
+    public <T> T getObject(String key, TypeReference<T> typeReference) {
+        Object obj = map.get(key);
+        if (typeReference == null) {
+            return (T) obj;
+        }
+        return TypeUtils.cast(obj, typeReference.getType());
+    }
+
+    public Boolean getBoolean(String key) {
+        Object value = get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        return TypeUtils.castToBoolean(value);
+    }
+
+
+    public boolean getBooleanValue(String key) {
+        Object value = get(key);
+
+        Boolean booleanVal = TypeUtils.castToBoolean(value);
+        if (booleanVal == null) {
+            return false;
+        }
+
+        return booleanVal.booleanValue();
+    }
+
+    public Byte getByte(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToByte(value);
+    }
+
+    public byte getByteValue(String key) {
+        Object value = get(key);
+
+        Byte byteVal = TypeUtils.castToByte(value);
+        if (byteVal == null) {
+            return 0;
+        }
+
+        return byteVal.byteValue();
+    }
+
+    public Short getShort(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToShort(value);
+    }
+
+    public short getShortValue(String key) {
+        Object value = get(key);
+
+        Short shortVal = TypeUtils.castToShort(value);
+        if (shortVal == null) {
+            return 0;
+        }
+
+        return shortVal.shortValue();
+    }
+
+    public Integer getInteger(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToInt(value);
+    }
+
+    public int getIntValue(String key) {
+        Object value = get(key);
+
+        Integer intVal = TypeUtils.castToInt(value);
+        if (intVal == null) {
+            return 0;
+        }
+
+        return intVal.intValue();
+    }
+
+    public Long getLong(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToLong(value);
+    }
+
+    public long getLongValue(String key) {
+        Object value = get(key);
+
+        Long longVal = TypeUtils.castToLong(value);
+        if (longVal == null) {
+            return 0L;
+        }
+
+        return longVal.longValue();
+    }
+
+    public Float getFloat(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToFloat(value);
+    }
+
+    public float getFloatValue(String key) {
+        Object value = get(key);
+
+        Float floatValue = TypeUtils.castToFloat(value);
+        if (floatValue == null) {
+            return 0F;
+        }
+
+        return floatValue.floatValue();
+    }
+
+    public Double getDouble(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToDouble(value);
+    }
+
+    public double getDoubleValue(String key) {
+        Object value = get(key);
+
+        Double doubleValue = TypeUtils.castToDouble(value);
+        if (doubleValue == null) {
+            return 0D;
+        }
+
+        return doubleValue.doubleValue();
+    }
+
+    public BigDecimal getBigDecimal(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToBigDecimal(value);
+    }
+
+    public BigInteger getBigInteger(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToBigInteger(value);
+    }
+
+    public Date getDate(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToDate(value);
+    }
+
+    public LocalDateTime getLocalDateTime(String key) {
+        Object value = get(key);
+
+        return TypeUtils.castToLocalDateTime(value);
+    }
+
+    public String getString(String key) {
+        Object value = get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * 按路径取值，例如{@code a.b[0].c}，路径只编译一次并缓存。
+     * 直接遍历内部的Map/List，不创建中间的JSONObject/JSONArray，路径中的值为字符串或POJO时不会解析，返回null
+     *
+     * @param path 路径
+     * @return 路径对应的值，不存在时返回null
+     */
+    public Object getByPath(String path) {
+        return JSONPath.compile(path).eval(map);
+    }
+
+    public String getStringByPath(String path) {
+        Object value = getByPath(path);
+
+        if (value == null) {
+            return null;
+        }
+
+        return value.toString();
+    }
+
+    public Long getLongByPath(String path) {
+        return TypeUtils.castToLong(getByPath(path));
+    }
+
+    public Integer getIntegerByPath(String path) {
+        return TypeUtils.castToInt(getByPath(path));
+    }
+
+    public BigDecimal getBigDecimalByPath(String path) {
+        return TypeUtils.castToBigDecimal(getByPath(path));
+    }
+
+    public Boolean getBooleanByPath(String path) {
+        Object value = getByPath(path);
+
+        if (value == null) {
+            return null;
+        }
+
+        return TypeUtils.castToBoolean(value);
+    }
+
+    /**
+     * 按JSON Merge Patch(RFC 7386)原地合并，patch中值为null的key会被删除
+     *
+     * @param patch 补丁
+     * @return this
+     */
+    public JSONObject merge(JSONObject patch) {
+        JSONPatch.mergePatch(map, patch, getConcurrency());
+        return this;
+    }
+
+    /**
+     * 深度冻结，返回只读的JSONObject，已冻结时返回自身
+     *
+     * @return 只读的JSONObject
+     */
+    public JSONObject freeze() {
+        if (isFrozen()) {
+            return this;
+        }
+        return new JSONObject(FrozenMap.of(map));
+    }
+
+    public boolean isFrozen() {
+        return map instanceof FrozenMap;
+    }
+
+    /**
+     * 将key对应的值加1，并发模式下为原子操作
+     *
+     * @param key key
+     * @return 加1后的值
+     */
+    public long increment(String key) {
+        return increment(key, 1L);
+    }
+
+    /**
+     * 将key对应的值加上delta，key不存在时视为0，并发模式下为原子操作
+     *
+     * @param key   key
+     * @param delta 增量
+     * @return 相加后的值
+     */
+    public long increment(String key, long delta) {
+        Object value = map.merge(key, delta, new BiFunction<Object, Object, Object>() {
+            @Override
+            public Object apply(Object oldValue, Object increment) {
+                Long oldLong = TypeUtils.castToLong(oldValue);
+                return (oldLong == null ? 0L : oldLong) + (Long) increment;
+            }
+        });
+        return (Long) value;
+    }
+
+    public <T> T toJavaObject(Class<T> clazz) {
+        if (clazz == Map.class || clazz == JSONObject.class || clazz == JSONArray.class) {
+            return (T) this;
+        }
+        return TypeUtils.cast(this, clazz);
+    }
+
+    public String toJSONString() {
+        return JSON.toJSONString(this);
+    }
+
+    @Override
+    public String toString() {
+        return toJSONString();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return map.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (value == null && map instanceof ConcurrentMap) {
+            return map.remove(key);
+        }
+        return map.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        map.putAll(m);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        return map.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return map.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        return map.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        return map.replace(key, value);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        return map.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        return map.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        return map.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return map.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return map.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return map.values();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return map.entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof JSONObject) {
+            Map<String, Object> other = ((JSONObject) o).map;
+            if (other == map) {
+                return true;
+            }
+            if (other instanceof FrozenMap && map instanceof FrozenMap) {
+                return map.equals(other);
+            }
+        }
+        return map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+}
@@ -0,0 +1,393 @@
+package com.jframe.json;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JSON Merge Patch(RFC 7386)与JSON Patch(RFC 6902)的实现，直接作用于JSONObject/JSONArray容器
+ * @author jiangjian45
+ * Created at 2026/10/19 10:12
+ */
+final class JSONPatch {
+    private static final String OP_ADD = "add";
+    private static final String OP_REMOVE = "remove";
+    private static final String OP_REPLACE = "replace";
+    private static final String OP_MOVE = "move";
+    private static final String OP_COPY = "copy";
+    private static final String OP_TEST = "test";
+
+    /**
+     * 本次应用过程中复制出来的容器，可直接修改
+     */
+    private final Map<Object, Boolean> copied = new IdentityHashMap<Object, Boolean>();
+
+    private Object root;
+
+    private JSONPatch(Object root) {
+        this.root = root;
+    }
+
+    /**
+     * 按RFC 7386将patch合并到target中，target为Map时原地修改
+     *
+     * @param target 目标值
+     * @param patch  补丁
+     * @param concurrency 新建对象的并发模式
+     * @return 合并后的值
+     */
+    static Object mergePatch(Object target, Object patch, Concurrency concurrency) {
+        if (!(patch instanceof Map)) {
+            return patch;
+        }
+        Map<String, Object> targetMap = target instanceof Map ? (Map<String, Object>) target : new JSONObject(concurrency);
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) patch).entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            Object value = entry.getValue();
+            if (value == null) {
+                targetMap.remove(key);
+            } else {
+                targetMap.put(key, mergePatch(targetMap.get(key), value, concurrency));
+            }
+        }
+        return targetMap;
+    }
+
+    /**
+     * 按RFC 6902应用操作列表。修改路径上的容器采用写时复制，全部操作成功后才返回新的根节点，
+     * 任一操作失败时原文档保持不变，未修改的子树与原文档共享
+     *
+     * @param root 原文档
+     * @param ops  操作列表
+     * @return 新的根节点
+     */
+    static Object apply(Object root, List<?> ops) {
+        JSONPatch patch = new JSONPatch(root);
+        for (Object op : ops) {
+            if (!(op instanceof Map)) {
+                throw new JsonConvertException("patch operation must be an object, op : " + op);
+            }
+            patch.applyOperation((Map<?, ?>) op);
+        }
+        return patch.root;
+    }
+
+    /**
+     * 计算将source转换为target的JSON Patch
+     *
+     * @param source 原值
+     * @param target 目标值
+     * @return 操作列表
+     */
+    static JSONArray diff(Object source, Object target) {
+        JSONArray ops = new JSONArray();
+        diff("", source, target, ops);
+        return ops;
+    }
+
+    private void applyOperation(Map<?, ?> op) {
+        String name = stringMember(op, "op");
+        List<String> path = parsePointer(stringMember(op, "path"));
+        if (OP_ADD.equals(name)) {
+            add(path, valueMember(op));
+        } else if (OP_REMOVE.equals(name)) {
+            remove(path);
+        } else if (OP_REPLACE.equals(name)) {
+            remove(path);
+            add(path, valueMember(op));
+        } else if (OP_MOVE.equals(name)) {
+            List<String> from = parsePointer(stringMember(op, "from"));
+            if (isPrefix(from, path) && from.size() < path.size()) {
+                throw new JsonConvertException("can not move a value into one of its children, from : " + op.get("from"));
+            }
+            add(path, remove(from));
+        } else if (OP_COPY.equals(name)) {
+            add(path, deepCopy(read(parsePointer(stringMember(op, "from")))));
+        } else if (OP_TEST.equals(name)) {
+            Object actual = read(path);
+            Object expected = valueMember(op);
+            if (!equalsValue(actual, expected)) {
+                throw new JsonConvertException("test failed, path : " + op.get("path") + ", value : " + actual);
+            }
+        } else {
+            throw new JsonConvertException("unknown patch operation : " + name);
+        }
+    }
+
+    private void add(List<String> path, Object value) {
+        if (path.isEmpty()) {
+            root = value;
+            return;
+        }
+        Object parent = writableParent(path);
+        String token = path.get(path.size() - 1);
+        if (parent instanceof Map) {
+            ((Map<String, Object>) parent).put(token, value);
+        } else if (parent instanceof List) {
+            List<Object> list = (List<Object>) parent;
+            if ("-".equals(token)) {
+                list.add(value);
+            } else {
+                list.add(index(token, list.size() + 1), value);
+            }
+        } else {
+            throw new JsonConvertException("path not found : " + toPointer(path));
+        }
+    }
+
+    private Object remove(List<String> path) {
+        if (path.isEmpty()) {
+            Object old = root;
+            root = null;
+            return old;
+        }
+        Object parent = writableParent(path);
+        String token = path.get(path.size() - 1);
+        if (parent instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) parent;
+            if (!map.containsKey(token)) {
+                throw new JsonConvertException("path not found : " + toPointer(path));
+            }
+            return map.remove(token);
+        }
+        if (parent instanceof List) {
+            List<Object> list = (List<Object>) parent;
+            return list.remove(index(token, list.size()));
+        }
+        throw new JsonConvertException("path not found : " + toPointer(path));
+    }
+
+    private Object read(List<String> path) {
+        Object node = root;
+        for (int i = 0; i < path.size(); i++) {
+            node = child(node, path.get(i), path);
+        }
+        return node;
+    }
+
+    /**
+     * 沿路径复制父容器链，返回可修改的直接父容器
+     */
+    private Object writableParent(List<String> path) {
+        root = writable(root, path);
+        Object node = root;
+        for (int i = 0; i < path.size() - 1; i++) {
+            String token = path.get(i);
+            Object child = writable(child(node, token, path), path);
+            if (node instanceof Map) {
+                ((Map<String, Object>) node).put(token, child);
+            } else {
+                ((List<Object>) node).set(index(token, ((List) node).size()), child);
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private Object writable(Object node, List<String> path) {
+        if (copied.containsKey(node)) {
+            return node;
+        }
+        Object copy;
+        if (node instanceof Map) {
+            copy = copyMap((Map<String, Object>) node);
+        } else if (node instanceof List) {
+            List<Object> list = (List<Object>) node;
+            copy = new JSONArray(Concurrency.of(list).newList(new ArrayList<Object>(list)));
+        } else {
+            throw new JsonConvertException("path not found : " + toPointer(path));
+        }
+        copied.put(copy, Boolean.TRUE);
+        return copy;
+    }
+
+    /**
+     * copy的值与from指向不同的容器，之后修改其中一处不影响另一处；复制出的容器本次可直接修改
+     */
+    private Object deepCopy(Object node) {
+        Object copy;
+        if (node instanceof Map) {
+            JSONObject object = copyMap((Map<String, Object>) node);
+            for (Map.Entry<String, Object> entry : object.getInnerMap().entrySet()) {
+                entry.setValue(deepCopy(entry.getValue()));
+            }
+            copy = object;
+        } else if (node instanceof List) {
+            List<Object> list = (List<Object>) node;
+            List<Object> items = new ArrayList<Object>(list.size());
+            for (Object item : list) {
+                items.add(deepCopy(item));
+            }
+            copy = new JSONArray(Concurrency.of(list).newList(items));
+        } else {
+            return node;
+        }
+        copied.put(copy, Boolean.TRUE);
+        return copy;
+    }
+
+    private static Object child(Object node, String token, List<String> path) {
+        if (node instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) node;
+            if (!map.containsKey(token)) {
+                throw new JsonConvertException("path not found : " + toPointer(path));
+            }
+            return map.get(token);
+        }
+        if (node instanceof List) {
+            List<?> list = (List<?>) node;
+            return list.get(index(token, list.size()));
+        }
+        throw new JsonConvertException("path not found : " + toPointer(path));
+    }
+
+    private static JSONObject copyMap(Map<String, Object> map) {
+        Map<String, Object> inner = map instanceof JSONObject ? ((JSONObject) map).getInnerMap() : map;
+        if (inner instanceof ConcurrentMap) {
+            return new JSONObject(new ConcurrentHashMap<String, Object>(inner));
+        }
+        if (inner instanceof LinkedHashMap) {
+            return new JSONObject(new LinkedHashMap<String, Object>(inner));
+        }
+        return new JSONObject(new HashMap<String, Object>(inner));
+    }
+
+    private static void diff(String path, Object source, Object target, JSONArray ops) {
+        if (source == target) {
+            return;
+        }
+        if (source instanceof Map && target instanceof Map) {
+            Map<?, ?> sourceMap = (Map<?, ?>) source;
+            Map<?, ?> targetMap = (Map<?, ?>) target;
+            for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+                String childPath = path + '/' + escape(String.valueOf(entry.getKey()));
+                if (targetMap.containsKey(entry.getKey())) {
+                    diff(childPath, entry.getValue(), targetMap.get(entry.getKey()), ops);
+                } else {
+                    ops.add(operation(OP_REMOVE, childPath, null, false));
+                }
+            }
+            for (Map.Entry<?, ?> entry : targetMap.entrySet()) {
+                if (!sourceMap.containsKey(entry.getKey())) {
+                    String childPath = path + '/' + escape(String.valueOf(entry.getKey()));
+                    ops.add(operation(OP_ADD, childPath, entry.getValue(), true));
+                }
+            }
+            return;
+        }
+        if (source instanceof List && target instanceof List) {
+            List<?> sourceList = (List<?>) source;
+            List<?> targetList = (List<?>) target;
+            int common = Math.min(sourceList.size(), targetList.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + '/' + i, sourceList.get(i), targetList.get(i), ops);
+            }
+            for (int i = sourceList.size() - 1; i >= common; i--) {
+                ops.add(operation(OP_REMOVE, path + '/' + i, null, false));
+            }
+            for (int i = common; i < targetList.size(); i++) {
+                ops.add(operation(OP_ADD, path + '/' + i, targetList.get(i), true));
+            }
+            return;
+        }
+        if (!equalsValue(source, target)) {
+            ops.add(operation(OP_REPLACE, path, target, true));
+        }
+    }
+
+    private static JSONObject operation(String op, String path, Object value, boolean withValue) {
+        JSONObject operation = new JSONObject(4, true);
+        operation.put("op", op);
+        operation.put("path", path);
+        if (withValue) {
+            operation.put("value", value);
+        }
+        return operation;
+    }
+
+    private static boolean equalsValue(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number && a.getClass() != b.getClass()) {
+            BigDecimal left = TypeUtils.castToBigDecimal(a);
+            BigDecimal right = TypeUtils.castToBigDecimal(b);
+            if (left != null && right != null) {
+                return left.compareTo(right) == 0;
+            }
+        }
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static String stringMember(Map<?, ?> op, String name) {
+        Object value = op.get(name);
+        if (!(value instanceof String)) {
+            throw new JsonConvertException("patch operation missing member '" + name + "', op : " + op);
+        }
+        return (String) value;
+    }
+
+    private static Object valueMember(Map<?, ?> op) {
+        if (!op.containsKey("value")) {
+            throw new JsonConvertException("patch operation missing member 'value', op : " + op);
+        }
+        return op.get("value");
+    }
+
+    private static int index(String token, int limit) {
+        if (token.isEmpty() || token.length() > 10 || !TypeUtils.isNumber(token)
+                || token.charAt(0) == '+' || token.charAt(0) == '-'
+                || (token.length() > 1 && token.charAt(0) == '0')) {
+            throw new JsonConvertException("invalid array index : " + token);
+        }
+        long index = Long.parseLong(token);
+        if (index >= limit) {
+            throw new JsonConvertException("array index out of bounds : " + token);
+        }
+        return (int) index;
+    }
+
+    private static boolean isPrefix(List<String> prefix, List<String> path) {
+        return prefix.size() <= path.size() && path.subList(0, prefix.size()).equals(prefix);
+    }
+
+    static List<String> parsePointer(String pointer) {
+        if (pointer.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new JsonConvertException("invalid json pointer : " + pointer);
+        }
+        List<String> tokens = new ArrayList<String>();
+        int start = 1;
+        while (true) {
+            int end = pointer.indexOf('/', start);
+            String token = end == -1 ? pointer.substring(start) : pointer.substring(start, end);
+            tokens.add(unescape(token));
+            if (end == -1) {
+                return tokens;
+            }
+            start = end + 1;
+        }
+    }
+
+    private static String toPointer(List<String> path) {
+        StringBuilder buf = new StringBuilder();
+        for (String token : path) {
+            buf.append('/').append(escape(token));
+        }
+        return buf.toString();
+    }
+
+    private static String escape(String token) {
+        if (token.indexOf('~') == -1 && token.indexOf('/') == -1) {
+            return token;
+        }
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        if (token.indexOf('~') == -1) {
+            return token;
+        }
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
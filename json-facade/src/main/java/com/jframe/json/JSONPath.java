@@ -0,0 +1,165 @@
+package com.jframe.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 预编译的取值路径，例如{@code a.b[0].c}、{@code $.a['x.y'][-1]}，负数下标从数组末尾计数。
+ * 取值时直接遍历Map/List，不创建JSONObject/JSONArray包装，也不解析字符串或序列化POJO，路径不存在时返回null
+ * @author jiangjian45
+ * Created at 2026/10/20 19:00
+ */
+final class JSONPath {
+    /**
+     * 缓存上限，超过后不再缓存新的路径，避免动态拼接的路径撑满内存
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+    private static final ConcurrentMap<String, JSONPath> CACHE = new ConcurrentHashMap<String, JSONPath>(256);
+
+    /**
+     * String为属性名，Integer为数组下标
+     */
+    private final Object[] segments;
+
+    private JSONPath(Object[] segments) {
+        this.segments = segments;
+    }
+
+    static JSONPath compile(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null.");
+        }
+        JSONPath compiled = CACHE.get(path);
+        if (compiled == null) {
+            compiled = new JSONPath(parse(path));
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                JSONPath previous = CACHE.putIfAbsent(path, compiled);
+                if (previous != null) {
+                    compiled = previous;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    Object eval(Object root) {
+        Object current = root;
+        for (Object segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            if (segment instanceof String) {
+                current = current instanceof Map ? ((Map<?, ?>) current).get(segment) : null;
+            } else if (current instanceof List) {
+                List<?> list = (List<?>) current;
+                int index = (Integer) segment;
+                if (index < 0) {
+                    index += list.size();
+                }
+                current = index >= 0 && index < list.size() ? list.get(index) : null;
+            } else {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 每一段之后只能是.、[或路径结尾，.之后必须是属性名，例如{@code a[0]b}、{@code a.}、{@code a.[0]}都是非法路径
+     */
+    private static Object[] parse(String path) {
+        if (path.isEmpty()) {
+            throw invalidPath(path);
+        }
+        List<Object> segments = new ArrayList<Object>();
+        int length = path.length();
+        int i = 0;
+        if (path.charAt(0) == '$') {
+            i = 1;
+            if (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                throw invalidPath(path);
+            }
+            i = separator(path, i);
+        }
+        while (i < length) {
+            if (path.charAt(i) == '[') {
+                i = bracket(path, i + 1, segments);
+            } else {
+                int end = i;
+                char c;
+                while (end < length && (c = path.charAt(end)) != '.' && c != '[') {
+                    if (c == ']') {
+                        throw invalidPath(path);
+                    }
+                    end++;
+                }
+                if (end == i) {
+                    throw invalidPath(path);
+                }
+                segments.add(path.substring(i, end));
+                i = end;
+            }
+            i = separator(path, i);
+        }
+        return segments.toArray();
+    }
+
+    /**
+     * 跳过一段之后的分隔符，返回下一段的起始位置
+     */
+    private static int separator(String path, int i) {
+        int length = path.length();
+        if (i == length || path.charAt(i) == '[') {
+            return i;
+        }
+        if (path.charAt(i) != '.' || ++i == length || path.charAt(i) == '.' || path.charAt(i) == '[') {
+            throw invalidPath(path);
+        }
+        return i;
+    }
+
+    /**
+     * 解析[]中的下标或带引号的属性名，引号中的属性名可以包含.与]，返回]之后的位置
+     */
+    private static int bracket(String path, int i, List<Object> segments) {
+        int length = path.length();
+        i = skipWhitespace(path, i);
+        char quote = i < length ? path.charAt(i) : 0;
+        if (quote == '\'' || quote == '"') {
+            int close = path.indexOf(quote, i + 1);
+            if (close < 0) {
+                throw invalidPath(path);
+            }
+            int end = skipWhitespace(path, close + 1);
+            if (end == length || path.charAt(end) != ']') {
+                throw invalidPath(path);
+            }
+            segments.add(path.substring(i + 1, close));
+            return end + 1;
+        }
+        int end = path.indexOf(']', i);
+        if (end < 0) {
+            throw invalidPath(path);
+        }
+        try {
+            segments.add(Integer.valueOf(path.substring(i, end).trim()));
+        } catch (NumberFormatException e) {
+            throw invalidPath(path);
+        }
+        return end + 1;
+    }
+
+    private static int skipWhitespace(String path, int i) {
+        while (i < path.length() && path.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static IllegalArgumentException invalidPath(String path) {
+        return new IllegalArgumentException("invalid path : " + path);
+    }
+}
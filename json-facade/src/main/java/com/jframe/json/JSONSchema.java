@@ -0,0 +1,361 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 预编译的JSON Schema(draft-07子集)，支持type、required、properties、additionalProperties、items、enum、const、
+ * minimum/maximum/exclusiveMinimum/exclusiveMaximum、minLength/maxLength、pattern、minItems/maxItems、minProperties/maxProperties。
+ * 编译后在token流上一次遍历完成校验，不构建JSONObject；也可以通过{@link JSON#parseObject(String, JSONSchema)}在校验的同时构建。
+ * 不支持的校验关键字(如$ref、allOf、oneOf)在编译时报错，避免被静默忽略。实例不可变，可作为常量复用
+ * @author jiangjian45
+ * Created at 2026/10/21 10:00
+ */
+public final class JSONSchema {
+    /**
+     * 校验时最多收集的错误数
+     */
+    private static final int MAX_ERRORS = 100;
+    private static final BigDecimal MAX_COUNT = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+    /**
+     * 只作注释、不参与校验的关键字
+     */
+    private static final Set<String> ANNOTATIONS = new HashSet<String>(Arrays.asList(
+            "$schema", "$id", "$comment", "title", "description", "default", "examples", "format", "readOnly", "writeOnly",
+            "definitions", "contentMediaType", "contentEncoding"));
+
+    static final int TYPE_OBJECT = 1;
+    static final int TYPE_ARRAY = 1 << 1;
+    static final int TYPE_STRING = 1 << 2;
+    static final int TYPE_INTEGER = 1 << 3;
+    static final int TYPE_NUMBER = 1 << 4;
+    static final int TYPE_BOOLEAN = 1 << 5;
+    static final int TYPE_NULL = 1 << 6;
+
+    private final Node root;
+
+    private JSONSchema(Node root) {
+        this.root = root;
+    }
+
+    public static JSONSchema compile(String schema) {
+        Object parsed = JSON.parse(schema);
+        return new JSONSchema(Node.compile(parsed, "#"));
+    }
+
+    public static JSONSchema compile(Map<String, Object> schema) {
+        return new JSONSchema(Node.compile(schema, "#"));
+    }
+
+    /**
+     * 校验json，不构建JSONObject
+     *
+     * @param json json字符串
+     * @return 校验错误，格式为{@code JSON Pointer: 原因}，通过时为空
+     */
+    public List<String> validate(String json) {
+        try (JsonParser parser = JSON.mapper().getFactory().createParser(json)) {
+            return new SchemaValidator(MAX_ERRORS, false).validate(parser, root);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 校验json，遇到第一个错误即返回
+     */
+    public boolean isValid(String json) {
+        try (JsonParser parser = JSON.mapper().getFactory().createParser(json)) {
+            return new SchemaValidator(1, false).validate(parser, root).isEmpty();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 校验的同时构建JSONObject，遇到第一个错误即停止
+     */
+    JSONObject parseObject(JsonParser parser) throws IOException {
+        SchemaValidator validator = new SchemaValidator(1, true);
+        Object value = validator.read(parser, root);
+        if (!validator.getErrors().isEmpty()) {
+            throw new JsonValidationException(validator.getErrors());
+        }
+        if (value != null && !(value instanceof JSONObject)) {
+            throw new JsonConvertException("can not parse to JSONObject, value : " + value.getClass().getName());
+        }
+        return (JSONObject) value;
+    }
+
+    /**
+     * 编译后的schema节点
+     */
+    static final class Node {
+        private static final Node ANY = new Node();
+        private static final Node NONE = new Node();
+
+        /**
+         * 允许的类型，0为不限制
+         */
+        int types;
+        Map<String, Node> properties;
+        /**
+         * 必填属性及其下标
+         */
+        Map<String, Integer> required;
+        String[] requiredNames;
+        /**
+         * 未在properties中声明的属性，null为不限制
+         */
+        Node additionalProperties;
+        Node items;
+        /**
+         * 全部为字符串的enum
+         */
+        Set<String> stringEnum;
+        /**
+         * 包含其他类型的enum，按规范化字节比较
+         */
+        Set<ByteBuffer> valueEnum;
+        BigDecimal minimum;
+        BigDecimal maximum;
+        BigDecimal exclusiveMinimum;
+        BigDecimal exclusiveMaximum;
+        int minLength = -1;
+        int maxLength = -1;
+        Pattern pattern;
+        int minItems = -1;
+        int maxItems = -1;
+        int minProperties = -1;
+        int maxProperties = -1;
+
+        boolean isAny() {
+            return this == ANY;
+        }
+
+        boolean isNone() {
+            return this == NONE;
+        }
+
+        boolean hasNumberBounds() {
+            return minimum != null || maximum != null || exclusiveMinimum != null || exclusiveMaximum != null;
+        }
+
+        static Node compile(Object schema, String location) {
+            if (Boolean.TRUE.equals(schema)) {
+                return ANY;
+            }
+            if (Boolean.FALSE.equals(schema)) {
+                return NONE;
+            }
+            if (!(schema instanceof Map)) {
+                throw invalid(location, "schema must be an object or boolean");
+            }
+            Map<?, ?> map = (Map<?, ?>) schema;
+            if (map.isEmpty()) {
+                return ANY;
+            }
+            Node node = new Node();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String keyword = String.valueOf(entry.getKey());
+                Object value = entry.getValue();
+                String at = location + "/" + keyword;
+                switch (keyword) {
+                    case "type":
+                        node.types = types(value, at);
+                        break;
+                    case "properties":
+                        node.properties = new HashMap<String, Node>();
+                        for (Map.Entry<?, ?> property : asMap(value, at).entrySet()) {
+                            String name = String.valueOf(property.getKey());
+                            node.properties.put(name, compile(property.getValue(), at + "/" + name));
+                        }
+                        break;
+                    case "required":
+                        List<?> names = asList(value, at);
+                        node.requiredNames = new String[names.size()];
+                        node.required = new HashMap<String, Integer>();
+                        for (int i = 0; i < names.size(); i++) {
+                            node.requiredNames[i] = String.valueOf(names.get(i));
+                            node.required.put(node.requiredNames[i], i);
+                        }
+                        break;
+                    case "additionalProperties":
+                        node.additionalProperties = compile(value, at);
+                        break;
+                    case "items":
+                        if (value instanceof List) {
+                            throw invalid(at, "tuple items is not supported");
+                        }
+                        node.items = compile(value, at);
+                        break;
+                    case "enum":
+                        enumValues(node, asList(value, at));
+                        break;
+                    case "const":
+                        enumValues(node, Collections.singletonList(value));
+                        break;
+                    case "minimum":
+                        node.minimum = number(value, at);
+                        break;
+                    case "maximum":
+                        node.maximum = number(value, at);
+                        break;
+                    case "exclusiveMinimum":
+                        node.exclusiveMinimum = number(value, at);
+                        break;
+                    case "exclusiveMaximum":
+                        node.exclusiveMaximum = number(value, at);
+                        break;
+                    case "minLength":
+                        node.minLength = count(value, at);
+                        break;
+                    case "maxLength":
+                        node.maxLength = count(value, at);
+                        break;
+                    case "pattern":
+                        try {
+                            node.pattern = Pattern.compile(String.valueOf(value));
+                        } catch (PatternSyntaxException e) {
+                            throw invalid(at, e.getDescription());
+                        }
+                        break;
+                    case "minItems":
+                        node.minItems = count(value, at);
+                        break;
+                    case "maxItems":
+                        node.maxItems = count(value, at);
+                        break;
+                    case "minProperties":
+                        node.minProperties = count(value, at);
+                        break;
+                    case "maxProperties":
+                        node.maxProperties = count(value, at);
+                        break;
+                    default:
+                        if (!ANNOTATIONS.contains(keyword)) {
+                            throw invalid(at, "unsupported keyword");
+                        }
+                }
+            }
+            return node;
+        }
+
+        /**
+         * 同时声明enum和const时取交集，交集为空则任何值都不通过
+         */
+        private static void enumValues(Node node, List<?> values) {
+            if (node.stringEnum != null || node.valueEnum != null) {
+                List<Object> retained = new ArrayList<Object>();
+                for (Object value : values) {
+                    if (node.stringEnum != null ? node.stringEnum.contains(value)
+                            : node.valueEnum.contains(ByteBuffer.wrap(JSON.toCanonicalBytes(value)))) {
+                        retained.add(value);
+                    }
+                }
+                node.stringEnum = null;
+                node.valueEnum = null;
+                values = retained;
+            }
+            boolean allStrings = true;
+            for (Object value : values) {
+                if (!(value instanceof String)) {
+                    allStrings = false;
+                    break;
+                }
+            }
+            if (allStrings) {
+                node.stringEnum = new HashSet<String>();
+                for (Object value : values) {
+                    node.stringEnum.add((String) value);
+                }
+            } else {
+                node.valueEnum = new HashSet<ByteBuffer>();
+                for (Object value : values) {
+                    node.valueEnum.add(ByteBuffer.wrap(JSON.toCanonicalBytes(value)));
+                }
+            }
+        }
+
+        private static int types(Object value, String location) {
+            if (value instanceof List) {
+                int types = 0;
+                for (Object type : (List<?>) value) {
+                    types |= type(String.valueOf(type), location);
+                }
+                return types;
+            }
+            return type(String.valueOf(value), location);
+        }
+
+        private static int type(String type, String location) {
+            switch (type) {
+                case "object":
+                    return TYPE_OBJECT;
+                case "array":
+                    return TYPE_ARRAY;
+                case "string":
+                    return TYPE_STRING;
+                case "integer":
+                    return TYPE_INTEGER;
+                case "number":
+                    return TYPE_NUMBER | TYPE_INTEGER;
+                case "boolean":
+                    return TYPE_BOOLEAN;
+                case "null":
+                    return TYPE_NULL;
+                default:
+                    throw invalid(location, "unknown type " + type);
+            }
+        }
+
+        private static Map<?, ?> asMap(Object value, String location) {
+            if (!(value instanceof Map)) {
+                throw invalid(location, "must be an object");
+            }
+            return (Map<?, ?>) value;
+        }
+
+        private static List<?> asList(Object value, String location) {
+            if (!(value instanceof List)) {
+                throw invalid(location, "must be an array");
+            }
+            return (List<?>) value;
+        }
+
+        private static BigDecimal number(Object value, String location) {
+            if (!(value instanceof Number)) {
+                throw invalid(location, "must be a number");
+            }
+            return TypeUtils.castToBigDecimal(value);
+        }
+
+        /**
+         * minLength、maxItems等计数，允许1.0这样的整数值，小数与超出int范围的值不截断而是报错
+         */
+        private static int count(Object value, String location) {
+            if (!(value instanceof Number)) {
+                throw invalid(location, "must be a non-negative integer");
+            }
+            BigDecimal count = TypeUtils.castToBigDecimal(value);
+            if (count.signum() < 0 || count.stripTrailingZeros().scale() > 0) {
+                throw invalid(location, "must be a non-negative integer");
+            }
+            if (count.compareTo(MAX_COUNT) > 0) {
+                throw invalid(location, "must not be greater than " + Integer.MAX_VALUE);
+            }
+            return count.intValue();
+        }
+
+        private static IllegalArgumentException invalid(String location, String reason) {
+            return new IllegalArgumentException("invalid schema at " + location + " : " + reason);
+        }
+    }
+}
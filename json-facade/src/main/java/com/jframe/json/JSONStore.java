@@ -0,0 +1,404 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 堆外文档存储，适用于大量json文档的缓存。文档以{@link JSONTape}二进制格式追加写入固定大小的段，
+ * 段为DirectByteBuffer或内存映射文件，堆上只保存key到(段, 版本号, 偏移量)的索引。
+ * 读取返回{@link JSONStoreObject}/{@link JSONStoreArray}视图，只解码被访问的值。
+ * <p>
+ * 段写满且数量达到上限时按写入顺序复用最早的段：段内存活数据不超过一半且压缩后放得下新文档时，
+ * 把存活文档紧凑地重写到段头部(压缩)，否则淘汰段内的全部文档。段被复用后版本号加一，
+ * 此前获取的视图读取时抛出IllegalStateException。
+ * <p>
+ * 写入串行执行，读取无锁；内存映射文件只作为堆外空间使用，重启后不能恢复
+ * @author jiangjian45
+ * Created at 2026/10/21 15:00
+ */
+public final class JSONStore implements Closeable {
+    private static final int MAX_SEGMENTS = 1 << 12;
+    private static final int GENERATION_MASK = (1 << 20) - 1;
+    /**
+     * 文档头部：int文档总长度 + int key长度，之后是key的UTF-8与tape
+     */
+    private static final int ENTRY_HEADER = 8;
+    private static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int DEFAULT_MAX_SEGMENTS = 16;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final ConcurrentHashMap<String, Long> index = new ConcurrentHashMap<String, Long>();
+    private final Segment[] segments;
+    private final int segmentSize;
+    private final RandomAccessFile file;
+
+    private int allocated;
+    private int head = -1;
+    private long evictions;
+    private long compactions;
+    private boolean closed;
+
+    /**
+     * 16个16M的direct段
+     */
+    public JSONStore() {
+        this(DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS);
+    }
+
+    /**
+     * 使用DirectByteBuffer，段按需分配
+     *
+     * @param segmentSize 段大小，即单个文档编码后的最大字节数
+     * @param maxSegments 最大段数
+     */
+    public JSONStore(int segmentSize, int maxSegments) {
+        this(segmentSize, maxSegments, null);
+    }
+
+    private JSONStore(int segmentSize, int maxSegments, RandomAccessFile file) {
+        if (segmentSize <= ENTRY_HEADER || maxSegments <= 0 || maxSegments > MAX_SEGMENTS) {
+            throw new IllegalArgumentException("segmentSize must be greater than " + ENTRY_HEADER
+                    + " and maxSegments must be in [1, " + MAX_SEGMENTS + "].");
+        }
+        this.segmentSize = segmentSize;
+        this.segments = new Segment[maxSegments];
+        this.file = file;
+    }
+
+    /**
+     * 使用内存映射文件，段按需映射，文件已存在时内容被覆盖
+     *
+     * @param path        文件
+     * @param segmentSize 段大小
+     * @param maxSegments 最大段数
+     */
+    public static JSONStore mapped(File path, int segmentSize, int maxSegments) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null.");
+        }
+        try {
+            return new JSONStore(segmentSize, maxSegments, new RandomAccessFile(path, "rw"));
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 写入文档，已存在时覆盖
+     *
+     * @param key      key
+     * @param document JSONObject、Map、List或可序列化的对象
+     */
+    public void put(String key, Object document) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null.");
+        }
+        JSONTape.Buffer buffer = startEntry(key);
+        JSONTape.encode(document, buffer);
+        store(key, buffer);
+    }
+
+    /**
+     * 直接从json文本编码写入，不构建中间的JSONObject
+     *
+     * @param key        key
+     * @param jsonString json字符串
+     */
+    public void putJSON(String key, String jsonString) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null.");
+        }
+        if (jsonString == null) {
+            throw new IllegalArgumentException("jsonString is null.");
+        }
+        JSONTape.Buffer buffer = startEntry(key);
+        try (JsonParser parser = JSON.mapper().getFactory().createParser(jsonString)) {
+            JSONTape.encode(parser, parser.nextToken(), buffer);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+        store(key, buffer);
+    }
+
+    /**
+     * @return 文档的视图或标量值，不存在时返回null
+     */
+    public Object get(String key) {
+        if (key == null) {
+            return null;
+        }
+        for (;;) {
+            Long location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            Segment segment = segments[segmentOf(location)];
+            int generation = generationOf(location);
+            if (segment.generation == generation) {
+                int offset = offsetOf(location);
+                try {
+                    int pos = offset + ENTRY_HEADER + segment.buffer.getInt(offset + 4);
+                    Object value = JSONStoreView.decode(segment, generation, pos);
+                    if (segment.generation == generation) {
+                        return value;
+                    }
+                } catch (RuntimeException e) {
+                    if (segment.generation == generation) {
+                        throw e;
+                    }
+                }
+            }
+            // 段正在被压缩或淘汰，重新读取索引
+            Thread.yield();
+        }
+    }
+
+    public JSONStoreObject getJSONObject(String key) {
+        Object value = get(key);
+        if (value == null || value instanceof JSONStoreObject) {
+            return (JSONStoreObject) value;
+        }
+        throw new JsonConvertException("document " + key + " is not an object");
+    }
+
+    public JSONStoreArray getJSONArray(String key) {
+        Object value = get(key);
+        if (value == null || value instanceof JSONStoreArray) {
+            return (JSONStoreArray) value;
+        }
+        throw new JsonConvertException("document " + key + " is not an array");
+    }
+
+    public boolean containsKey(String key) {
+        return key != null && index.containsKey(key);
+    }
+
+    public synchronized boolean remove(String key) {
+        if (key == null) {
+            return false;
+        }
+        Long location = index.remove(key);
+        if (location == null) {
+            return false;
+        }
+        release(location);
+        return true;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public synchronized JSONStoreStats stats() {
+        long used = 0;
+        long live = 0;
+        for (int i = 0; i < allocated; i++) {
+            used += segments[i].writeOffset;
+            live += segments[i].liveBytes;
+        }
+        return new JSONStoreStats(index.size(), allocated, (long) allocated * segmentSize, used, live, evictions, compactions);
+    }
+
+    /**
+     * 清空文档，已分配的段保留复用
+     */
+    public synchronized void clear() {
+        index.clear();
+        for (int i = 0; i < allocated; i++) {
+            segments[i].reset();
+        }
+        head = allocated == 0 ? -1 : 0;
+    }
+
+    /**
+     * 清空并释放对段的引用，direct内存与映射在GC时回收
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        clear();
+        for (int i = 0; i < allocated; i++) {
+            segments[i].buffer = EMPTY;
+        }
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    private JSONTape.Buffer startEntry(String key) {
+        JSONTape.Buffer buffer = new JSONTape.Buffer();
+        buffer.putInt(0);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(keyBytes.length);
+        buffer.put(keyBytes);
+        return buffer;
+    }
+
+    private synchronized void store(String key, JSONTape.Buffer buffer) {
+        if (closed) {
+            throw new IllegalStateException("store is closed");
+        }
+        int length = buffer.size();
+        if (length > segmentSize) {
+            throw new IllegalArgumentException("document " + key + " takes " + length + " bytes, larger than segmentSize.");
+        }
+        buffer.setInt(0, length);
+        Segment segment = reserve(length);
+        int offset = segment.writeOffset;
+        segment.write(offset, buffer.array(), length);
+        segment.writeOffset += length;
+        segment.liveBytes += length;
+        Long previous = index.put(key, location(segment, offset));
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /**
+     * 返回剩余空间不小于length的段
+     */
+    private Segment reserve(int length) {
+        if (head >= 0 && segmentSize - segments[head].writeOffset >= length) {
+            return segments[head];
+        }
+        if (allocated < segments.length) {
+            Segment segment = new Segment(allocated, allocate(allocated));
+            segments[allocated] = segment;
+            head = allocated++;
+            return segment;
+        }
+        head = (head + 1) % segments.length;
+        Segment victim = segments[head];
+        if (victim.writeOffset == 0) {
+            return victim;
+        }
+        if (victim.liveBytes * 2 <= victim.writeOffset && segmentSize - victim.liveBytes >= length) {
+            compact(victim);
+        } else {
+            evict(victim);
+        }
+        return victim;
+    }
+
+    /**
+     * 把存活文档按原顺序紧凑地重写到段头部，存活数据先复制到堆上，最多为半个段
+     */
+    private void compact(Segment segment) {
+        List<String> keys = new ArrayList<String>();
+        byte[] live = new byte[(int) segment.liveBytes];
+        int liveSize = 0;
+        ByteBuffer buffer = segment.buffer;
+        for (int offset = 0; offset < segment.writeOffset; offset += buffer.getInt(offset)) {
+            String key = keyAt(buffer, offset);
+            int length = buffer.getInt(offset);
+            if (location(segment, offset).equals(index.get(key))) {
+                keys.add(key);
+                ByteBuffer source = buffer.duplicate();
+                source.position(offset);
+                source.get(live, liveSize, length);
+                liveSize += length;
+            }
+        }
+        segment.reset();
+        segment.write(0, live, liveSize);
+        segment.writeOffset = liveSize;
+        segment.liveBytes = liveSize;
+        int offset = 0;
+        for (String key : keys) {
+            index.put(key, location(segment, offset));
+            offset += buffer.getInt(offset);
+        }
+        compactions++;
+    }
+
+    private void evict(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        for (int offset = 0; offset < segment.writeOffset; offset += buffer.getInt(offset)) {
+            if (index.remove(keyAt(buffer, offset), location(segment, offset))) {
+                evictions++;
+            }
+        }
+        segment.reset();
+    }
+
+    private void release(long location) {
+        Segment segment = segments[segmentOf(location)];
+        segment.liveBytes -= segment.buffer.getInt(offsetOf(location));
+    }
+
+    private ByteBuffer allocate(int segmentIndex) {
+        ByteBuffer buffer;
+        if (file == null) {
+            buffer = ByteBuffer.allocateDirect(segmentSize);
+        } else {
+            try {
+                buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * segmentSize, segmentSize);
+            } catch (IOException e) {
+                throw new JsonConvertException(e);
+            }
+        }
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String keyAt(ByteBuffer buffer, int offset) {
+        return JSONTape.readString(buffer, offset + ENTRY_HEADER, buffer.getInt(offset + 4));
+    }
+
+    private static Long location(Segment segment, int offset) {
+        return (long) segment.index << 52 | (long) segment.generation << 32 | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 52);
+    }
+
+    private static int generationOf(long location) {
+        return (int) (location >>> 32) & GENERATION_MASK;
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    static final class Segment {
+        final int index;
+        volatile ByteBuffer buffer;
+        /**
+         * 段每次被复用时加一，视图据此判断数据是否仍然有效
+         */
+        volatile int generation;
+        int writeOffset;
+        long liveBytes;
+
+        Segment(int index, ByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+        }
+
+        void reset() {
+            generation = (generation + 1) & GENERATION_MASK;
+            writeOffset = 0;
+            liveBytes = 0;
+        }
+
+        void write(int offset, byte[] bytes, int length) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(offset);
+            target.put(bytes, 0, length);
+        }
+    }
+}
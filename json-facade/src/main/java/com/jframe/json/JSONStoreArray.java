@@ -0,0 +1,102 @@
+package com.jframe.json;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * {@link JSONStore}中数组的只读视图，按下标取值时逐个跳过前面的元素，只解码命中的值
+ * @author jiangjian45
+ * Created at 2026/10/21 14:50
+ */
+public final class JSONStoreArray extends JSONStoreView {
+
+    JSONStoreArray(JSONStore.Segment segment, int generation, int pos) {
+        super(segment, generation, pos);
+    }
+
+    /**
+     * @return 标量值，嵌套对象返回{@link JSONStoreObject}，数组返回{@link JSONStoreArray}
+     */
+    public Object get(int index) {
+        try {
+            ByteBuffer buffer = buffer();
+            int count = JSONTape.count(buffer, pos, ARRAY_ENTRY_SIZE);
+            if (index < 0 || index >= count) {
+                validate();
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            int cursor = pos + JSONTape.CONTAINER_HEADER;
+            for (int i = 0; i < index; i++) {
+                cursor = JSONTape.skip(buffer, cursor);
+            }
+            Object value = decode(cursor);
+            validate();
+            return value;
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    public JSONStoreObject getJSONObject(int index) {
+        Object value = get(index);
+        if (value == null || value instanceof JSONStoreObject) {
+            return (JSONStoreObject) value;
+        }
+        throw new JsonConvertException("element " + index + " is not an object");
+    }
+
+    public JSONStoreArray getJSONArray(int index) {
+        Object value = get(index);
+        if (value == null || value instanceof JSONStoreArray) {
+            return (JSONStoreArray) value;
+        }
+        throw new JsonConvertException("element " + index + " is not an array");
+    }
+
+    public String getString(int index) {
+        Object value = get(index);
+        return value == null ? null : value.toString();
+    }
+
+    public Boolean getBoolean(int index) {
+        return TypeUtils.castToBoolean(get(index));
+    }
+
+    public Integer getInteger(int index) {
+        return TypeUtils.castToInt(get(index));
+    }
+
+    public int getIntValue(int index) {
+        Integer intVal = TypeUtils.castToInt(get(index));
+        return intVal == null ? 0 : intVal;
+    }
+
+    public Long getLong(int index) {
+        return TypeUtils.castToLong(get(index));
+    }
+
+    public long getLongValue(int index) {
+        Long longVal = TypeUtils.castToLong(get(index));
+        return longVal == null ? 0L : longVal;
+    }
+
+    public Double getDouble(int index) {
+        return TypeUtils.castToDouble(get(index));
+    }
+
+    public BigDecimal getBigDecimal(int index) {
+        return TypeUtils.castToBigDecimal(get(index));
+    }
+
+    /**
+     * 完整解码为堆上的JSONArray
+     */
+    public JSONArray toJSONArray() {
+        return (JSONArray) materializeChecked();
+    }
+
+    public <T> List<T> toJavaList(Class<T> clazz) {
+        return toJSONArray().toJavaList(clazz);
+    }
+}
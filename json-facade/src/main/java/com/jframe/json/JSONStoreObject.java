@@ -0,0 +1,143 @@
+package com.jframe.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link JSONStore}中对象的只读视图，取值方法与{@link JSONObject}一致，每次按key扫描tape，只解码命中的值。
+ * 嵌套对象/数组返回子视图，不复制数据；需要多次访问大量属性时用{@link #toJSONObject()}一次解码
+ * @author jiangjian45
+ * Created at 2026/10/21 14:40
+ */
+public final class JSONStoreObject extends JSONStoreView {
+
+    JSONStoreObject(JSONStore.Segment segment, int generation, int pos) {
+        super(segment, generation, pos);
+    }
+
+    public boolean containsKey(String key) {
+        try {
+            boolean found = JSONTape.find(buffer(), pos, key) >= 0;
+            validate();
+            return found;
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * @return 标量值，嵌套对象返回{@link JSONStoreObject}，数组返回{@link JSONStoreArray}
+     */
+    public Object get(String key) {
+        try {
+            int p = JSONTape.find(buffer(), pos, key);
+            Object value = p < 0 ? null : decode(p);
+            validate();
+            return value;
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    public Set<String> keySet() {
+        try {
+            ByteBuffer buffer = buffer();
+            int count = JSONTape.count(buffer, pos, OBJECT_ENTRY_SIZE);
+            Set<String> keys = new LinkedHashSet<String>(Math.max(16, (int) (count / 0.75F) + 1));
+            int cursor = pos + JSONTape.CONTAINER_HEADER;
+            for (int i = 0; i < count; i++) {
+                int keyLength = buffer.getInt(cursor);
+                keys.add(JSONTape.readString(buffer, cursor + 4, keyLength));
+                cursor = JSONTape.skip(buffer, cursor + 4 + keyLength);
+            }
+            validate();
+            return keys;
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    public JSONStoreObject getJSONObject(String key) {
+        Object value = get(key);
+        if (value == null || value instanceof JSONStoreObject) {
+            return (JSONStoreObject) value;
+        }
+        throw new JsonConvertException("value of " + key + " is not an object");
+    }
+
+    public JSONStoreArray getJSONArray(String key) {
+        Object value = get(key);
+        if (value == null || value instanceof JSONStoreArray) {
+            return (JSONStoreArray) value;
+        }
+        throw new JsonConvertException("value of " + key + " is not an array");
+    }
+
+    public String getString(String key) {
+        Object value = get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        return value.toString();
+    }
+
+    public Boolean getBoolean(String key) {
+        return TypeUtils.castToBoolean(get(key));
+    }
+
+    public boolean getBooleanValue(String key) {
+        Boolean booleanVal = TypeUtils.castToBoolean(get(key));
+        return booleanVal != null && booleanVal;
+    }
+
+    public Integer getInteger(String key) {
+        return TypeUtils.castToInt(get(key));
+    }
+
+    public int getIntValue(String key) {
+        Integer intVal = TypeUtils.castToInt(get(key));
+        return intVal == null ? 0 : intVal;
+    }
+
+    public Long getLong(String key) {
+        return TypeUtils.castToLong(get(key));
+    }
+
+    public long getLongValue(String key) {
+        Long longVal = TypeUtils.castToLong(get(key));
+        return longVal == null ? 0L : longVal;
+    }
+
+    public Double getDouble(String key) {
+        return TypeUtils.castToDouble(get(key));
+    }
+
+    public double getDoubleValue(String key) {
+        Double doubleValue = TypeUtils.castToDouble(get(key));
+        return doubleValue == null ? 0D : doubleValue;
+    }
+
+    public BigDecimal getBigDecimal(String key) {
+        return TypeUtils.castToBigDecimal(get(key));
+    }
+
+    public BigInteger getBigInteger(String key) {
+        return TypeUtils.castToBigInteger(get(key));
+    }
+
+    /**
+     * 完整解码为堆上的JSONObject
+     */
+    public JSONObject toJSONObject() {
+        return (JSONObject) materializeChecked();
+    }
+
+    public <T> T toJavaObject(Class<T> clazz) {
+        return toJSONObject().toJavaObject(clazz);
+    }
+}
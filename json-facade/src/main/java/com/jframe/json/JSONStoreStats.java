@@ -0,0 +1,80 @@
+package com.jframe.json;
+
+/**
+ * 堆外文档存储的统计快照
+ * @author jiangjian45
+ * Created at 2026/10/21 15:30
+ */
+public final class JSONStoreStats {
+    private final int documents;
+    private final int segments;
+    private final long capacityBytes;
+    private final long usedBytes;
+    private final long liveBytes;
+    private final long evictions;
+    private final long compactions;
+
+    public JSONStoreStats(int documents, int segments, long capacityBytes, long usedBytes, long liveBytes,
+                          long evictions, long compactions) {
+        this.documents = documents;
+        this.segments = segments;
+        this.capacityBytes = capacityBytes;
+        this.usedBytes = usedBytes;
+        this.liveBytes = liveBytes;
+        this.evictions = evictions;
+        this.compactions = compactions;
+    }
+
+    public int getDocuments() {
+        return documents;
+    }
+
+    /**
+     * 已分配的段数
+     */
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * 已分配的堆外字节数
+     */
+    public long getCapacityBytes() {
+        return capacityBytes;
+    }
+
+    /**
+     * 已写入的字节数，包含被覆盖或删除的文档
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * 存活文档的字节数
+     */
+    public long getLiveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * 因段被复用而淘汰的文档数
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 段压缩次数
+     */
+    public long getCompactions() {
+        return compactions;
+    }
+
+    @Override
+    public String toString() {
+        return "JSONStoreStats{documents=" + documents + ", segments=" + segments + ", capacityBytes=" + capacityBytes
+                + ", usedBytes=" + usedBytes + ", liveBytes=" + liveBytes + ", evictions=" + evictions
+                + ", compactions=" + compactions + '}';
+    }
+}
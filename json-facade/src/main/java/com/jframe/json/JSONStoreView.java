@@ -0,0 +1,171 @@
+package com.jframe.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JSONStore}中一段tape的只读游标，只记录段、段的版本号与偏移量，取值时才解码被访问的部分。
+ * 段被压缩或淘汰后版本号改变，读取后检查版本号，不一致时抛出IllegalStateException，需要重新从store获取
+ * @author jiangjian45
+ * Created at 2026/10/21 14:30
+ */
+abstract class JSONStoreView {
+    /**
+     * 对象的每个属性至少占用key长度(int)与值的类型(byte)
+     */
+    static final int OBJECT_ENTRY_SIZE = 5;
+    /**
+     * 数组的每个元素至少占用值的类型(byte)
+     */
+    static final int ARRAY_ENTRY_SIZE = 1;
+
+    final JSONStore.Segment segment;
+    final int generation;
+    final int pos;
+
+    JSONStoreView(JSONStore.Segment segment, int generation, int pos) {
+        this.segment = segment;
+        this.generation = generation;
+        this.pos = pos;
+    }
+
+    final ByteBuffer buffer() {
+        return segment.buffer;
+    }
+
+    /**
+     * 元素个数
+     */
+    public int size() {
+        int size = buffer().getInt(pos + 5);
+        validate();
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 读取完成后调用，段已被复用时读到的数据无效
+     */
+    final void validate() {
+        if (segment.generation != generation) {
+            throw new IllegalStateException("document has been evicted or moved, get it from the store again");
+        }
+    }
+
+    /**
+     * 读取中的异常可能是段被复用导致的，优先报告失效
+     */
+    final RuntimeException failure(RuntimeException e) {
+        validate();
+        return e;
+    }
+
+    /**
+     * 解码标量，对象和数组返回子视图
+     */
+    final Object decode(int p) {
+        return decode(segment, generation, p);
+    }
+
+    static Object decode(JSONStore.Segment segment, int generation, int p) {
+        ByteBuffer buffer = segment.buffer;
+        switch (buffer.get(p)) {
+            case JSONTape.OBJECT:
+                return new JSONStoreObject(segment, generation, p);
+            case JSONTape.ARRAY:
+                return new JSONStoreArray(segment, generation, p);
+            default:
+                return decodeScalar(buffer, p);
+        }
+    }
+
+    /**
+     * 完整解码为JSONObject/JSONArray
+     */
+    final Object materialize(int p) {
+        ByteBuffer buffer = buffer();
+        byte tag = buffer.get(p);
+        if (tag == JSONTape.OBJECT) {
+            int count = JSONTape.count(buffer, p, OBJECT_ENTRY_SIZE);
+            Map<String, Object> map = new HashMap<String, Object>(Math.max(16, (int) (count / 0.75F) + 1));
+            int cursor = p + JSONTape.CONTAINER_HEADER;
+            for (int i = 0; i < count; i++) {
+                int keyLength = buffer.getInt(cursor);
+                String key = JSONTape.readString(buffer, cursor + 4, keyLength);
+                cursor += 4 + keyLength;
+                map.put(key, materialize(cursor));
+                cursor = JSONTape.skip(buffer, cursor);
+            }
+            return new JSONObject(map);
+        }
+        if (tag == JSONTape.ARRAY) {
+            int count = JSONTape.count(buffer, p, ARRAY_ENTRY_SIZE);
+            List<Object> list = new ArrayList<Object>(count);
+            int cursor = p + JSONTape.CONTAINER_HEADER;
+            for (int i = 0; i < count; i++) {
+                list.add(materialize(cursor));
+                cursor = JSONTape.skip(buffer, cursor);
+            }
+            return new JSONArray(list);
+        }
+        return decodeScalar(buffer, p);
+    }
+
+    private static Object decodeScalar(ByteBuffer buffer, int p) {
+        switch (buffer.get(p)) {
+            case JSONTape.NULL:
+                return null;
+            case JSONTape.TRUE:
+                return Boolean.TRUE;
+            case JSONTape.FALSE:
+                return Boolean.FALSE;
+            case JSONTape.LONG: {
+                // 与解析结果一致，int范围内返回Integer
+                long value = buffer.getLong(p + 1);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+                return value;
+            }
+            case JSONTape.DOUBLE:
+                return Double.longBitsToDouble(buffer.getLong(p + 1));
+            case JSONTape.NUMBER: {
+                String text = JSONTape.readString(buffer, p + 5, buffer.getInt(p + 1));
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c == '.' || c == 'e' || c == 'E') {
+                        return new BigDecimal(text);
+                    }
+                }
+                return new BigInteger(text);
+            }
+            case JSONTape.STRING:
+                return JSONTape.readString(buffer, p + 5, buffer.getInt(p + 1));
+            default:
+                throw new IllegalStateException("corrupted tape at " + p);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return JSON.toJSONString(materializeChecked());
+    }
+
+    final Object materializeChecked() {
+        try {
+            Object value = materialize(pos);
+            validate();
+            return value;
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JSONStore}使用的二进制tape格式，小端序：
+ * <pre>
+ * null/true/false : tag
+ * 整数            : tag long
+ * 浮点数          : tag double
+ * 数字文本        : tag int长度 ASCII，用于BigDecimal/BigInteger，保留原始精度
+ * 字符串          : tag int长度 UTF-8
+ * 对象            : tag int内容字节数 int属性数 (int key长度 key的UTF-8 值)*
+ * 数组            : tag int内容字节数 int元素数 值*
+ * </pre>
+ * 对象与数组记录内容字节数，跳过整个子树是O(1)的
+ * @author jiangjian45
+ * Created at 2026/10/21 14:00
+ */
+final class JSONTape {
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte NUMBER = 5;
+    static final byte STRING = 6;
+    static final byte OBJECT = 7;
+    static final byte ARRAY = 8;
+
+    /**
+     * 对象/数组头部：tag + 内容字节数 + 元素数
+     */
+    static final int CONTAINER_HEADER = 9;
+
+    private JSONTape() {
+    }
+
+    static void encode(Object value, Buffer out) {
+        if (value == null) {
+            out.put(NULL);
+        } else if (value instanceof String) {
+            encodeString(STRING, (String) value, out);
+        } else if (value instanceof Boolean) {
+            out.put((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            out.put(LONG);
+            out.putLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.put(DOUBLE);
+            out.putLong(Double.doubleToRawLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof BigInteger && ((BigInteger) value).bitLength() < 64) {
+            out.put(LONG);
+            out.putLong(((BigInteger) value).longValue());
+        } else if (value instanceof Number) {
+            encodeString(NUMBER, value instanceof BigDecimal ? value.toString() : String.valueOf(value), out);
+        } else if (value instanceof Map) {
+            int start = out.startContainer(OBJECT);
+            int count = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                out.putKey(String.valueOf(entry.getKey()));
+                encode(entry.getValue(), out);
+                count++;
+            }
+            out.endContainer(start, count);
+        } else if (value instanceof Collection) {
+            int start = out.startContainer(ARRAY);
+            int count = 0;
+            for (Object element : (Collection<?>) value) {
+                encode(element, out);
+                count++;
+            }
+            out.endContainer(start, count);
+        } else if (value instanceof Object[]) {
+            encode(Arrays.asList((Object[]) value), out);
+        } else if (value instanceof Character) {
+            encodeString(STRING, value.toString(), out);
+        } else {
+            Object converted = JSON.mapper().convertValue(value, Object.class);
+            if (converted == null || converted instanceof Map || converted instanceof List || converted instanceof String
+                    || converted instanceof Number || converted instanceof Boolean) {
+                encode(converted, out);
+            } else {
+                encodeString(STRING, converted.toString(), out);
+            }
+        }
+    }
+
+    /**
+     * 直接从token流编码，不构建JSONObject
+     */
+    static void encode(JsonParser parser, JsonToken token, Buffer out) throws IOException {
+        if (token == null) {
+            throw new JsonConvertException("unexpected end of content");
+        }
+        switch (token) {
+            case START_OBJECT: {
+                int start = out.startContainer(OBJECT);
+                int count = 0;
+                String key;
+                while ((key = parser.nextFieldName()) != null) {
+                    out.putKey(key);
+                    encode(parser, parser.nextToken(), out);
+                    count++;
+                }
+                out.endContainer(start, count);
+                break;
+            }
+            case START_ARRAY: {
+                int start = out.startContainer(ARRAY);
+                int count = 0;
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    encode(parser, element, out);
+                    count++;
+                }
+                out.endContainer(start, count);
+                break;
+            }
+            case VALUE_STRING:
+                encodeString(STRING, parser.getText(), out);
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    encodeString(NUMBER, parser.getText(), out);
+                } else {
+                    out.put(LONG);
+                    out.putLong(parser.getLongValue());
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                encodeString(NUMBER, parser.getText(), out);
+                break;
+            case VALUE_TRUE:
+                out.put(TRUE);
+                break;
+            case VALUE_FALSE:
+                out.put(FALSE);
+                break;
+            case VALUE_NULL:
+                out.put(NULL);
+                break;
+            default:
+                throw new JsonConvertException("unexpected token : " + token);
+        }
+    }
+
+    private static void encodeString(byte tag, String value, Buffer out) {
+        out.put(tag);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    /**
+     * 返回pos处的值之后的位置
+     */
+    static int skip(ByteBuffer buffer, int pos) {
+        switch (buffer.get(pos)) {
+            case NULL:
+            case TRUE:
+            case FALSE:
+                return pos + 1;
+            case LONG:
+            case DOUBLE:
+                return pos + 9;
+            case NUMBER:
+            case STRING:
+                return pos + 5 + buffer.getInt(pos + 1);
+            case OBJECT:
+            case ARRAY:
+                return pos + CONTAINER_HEADER + buffer.getInt(pos + 1);
+            default:
+                throw new IllegalStateException("corrupted tape at " + pos);
+        }
+    }
+
+    /**
+     * 在objectPos处的对象中查找key，返回值的位置，不存在时返回-1
+     */
+    static int find(ByteBuffer buffer, int objectPos, String key) {
+        int count = buffer.getInt(objectPos + 5);
+        int pos = objectPos + CONTAINER_HEADER;
+        for (int i = 0; i < count; i++) {
+            int keyLength = buffer.getInt(pos);
+            boolean matched = keyEquals(buffer, pos + 4, keyLength, key);
+            pos = pos + 4 + keyLength;
+            if (matched) {
+                return pos;
+            }
+            pos = skip(buffer, pos);
+        }
+        return -1;
+    }
+
+    /**
+     * ASCII直接逐字节比较，遇到非ASCII时解码后比较
+     */
+    private static boolean keyEquals(ByteBuffer buffer, int pos, int length, String key) {
+        if (length < key.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get(pos + i);
+            if (b < 0) {
+                return key.equals(readString(buffer, pos, length));
+            }
+            if (i >= key.length() || key.charAt(i) != b) {
+                return false;
+            }
+        }
+        return length == key.length();
+    }
+
+    /**
+     * pos处容器的元素个数。段被并发复用时读到的可能是任意值，按段中剩余的字节数检查后才能用于分配集合
+     *
+     * @param minEntrySize 每个元素至少占用的字节数
+     */
+    static int count(ByteBuffer buffer, int pos, int minEntrySize) {
+        int count = buffer.getInt(pos + 5);
+        int length = buffer.getInt(pos + 1);
+        if (count < 0 || length < 0 || length > buffer.limit() - pos - CONTAINER_HEADER || count > length / minEntrySize) {
+            throw new IllegalStateException("corrupted tape at " + pos);
+        }
+        return count;
+    }
+
+    static String readString(ByteBuffer buffer, int pos, int length) {
+        if (length < 0 || length > buffer.limit() - pos) {
+            throw new IllegalStateException("corrupted tape at " + pos);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(pos + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 编码缓冲区
+     */
+    static final class Buffer {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        byte[] array() {
+            return bytes;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void put(byte b) {
+            ensure(1);
+            bytes[size++] = b;
+        }
+
+        void put(byte[] b) {
+            ensure(b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+        }
+
+        void putInt(int v) {
+            ensure(4);
+            setInt(size, v);
+            size += 4;
+        }
+
+        void putLong(long v) {
+            ensure(8);
+            for (int i = 0; i < 8; i++) {
+                bytes[size++] = (byte) (v >>> (i << 3));
+            }
+        }
+
+        void putKey(String key) {
+            byte[] b = key.getBytes(StandardCharsets.UTF_8);
+            putInt(b.length);
+            put(b);
+        }
+
+        int startContainer(byte tag) {
+            int start = size;
+            put(tag);
+            putInt(0);
+            putInt(0);
+            return start;
+        }
+
+        void endContainer(int start, int count) {
+            setInt(start + 1, size - start - CONTAINER_HEADER);
+            setInt(start + 5, count);
+        }
+
+        void setInt(int pos, int v) {
+            bytes[pos] = (byte) v;
+            bytes[pos + 1] = (byte) (v >>> 8);
+            bytes[pos + 2] = (byte) (v >>> 16);
+            bytes[pos + 3] = (byte) (v >>> 24);
+        }
+
+        private void ensure(int n) {
+            if (size + n > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + n));
+            }
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 按{@link TransformSpec}把parser的token直接写到generator，不构建树，内存占用与文档大小无关。
+ * 规则未涉及的子树不逐个解析值：输入为byte[]且parser不接受宽松写法时按原始字节整段复制，保留原有的空白；
+ * 其余情况逐个token复制，数字按原始文本写出，不经过double转换
+ * @author jiangjian45
+ * Created at 2026/10/21 23:50
+ */
+final class JSONTransformer {
+    /**
+     * 原始字节按块写入generator的缓冲区，块不大于缓冲区时不需要复制
+     */
+    private static final int RAW_CHUNK_SIZE = 2048;
+    /**
+     * 单引号、无引号字段名、前导0、未转义的控制字符、注释等宽松写法，原样复制时会出现在输出中
+     */
+    private static final JsonParser.Feature[] LENIENT_FEATURES = lenientFeatures();
+
+    private final JsonParser parser;
+    private final JsonGenerator generator;
+    /**
+     * parser读取的完整输入，输入为流或parser接受宽松写法时为null，此时逐个token复制
+     */
+    private final byte[] source;
+    private final RawSlice slice;
+
+    private JSONTransformer(JsonParser parser, JsonGenerator generator, byte[] source) {
+        this.parser = parser;
+        this.generator = generator;
+        this.source = source;
+        this.slice = source == null ? null : new RawSlice(source);
+    }
+
+    /**
+     * 转换parser中的第一个值，之后的内容忽略
+     *
+     * @param source parser的完整输入，可为null
+     */
+    static void transform(JsonParser parser, JsonGenerator generator, TransformSpec spec, byte[] source) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonConvertException("no content to parse");
+        }
+        new JSONTransformer(parser, generator, isStrict(parser) ? source : null).value(token, spec.root());
+        generator.flush();
+    }
+
+    /**
+     * 关闭parser的所有宽松写法，输入必须是标准JSON
+     */
+    static JsonParser strict(JsonParser parser) {
+        for (JsonParser.Feature feature : LENIENT_FEATURES) {
+            parser.disable(feature);
+        }
+        return parser;
+    }
+
+    private static boolean isStrict(JsonParser parser) {
+        for (JsonParser.Feature feature : LENIENT_FEATURES) {
+            if (parser.isEnabled(feature)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JsonParser.Feature[] lenientFeatures() {
+        JsonReadFeature[] features = JsonReadFeature.values();
+        JsonParser.Feature[] mapped = new JsonParser.Feature[features.length];
+        for (int i = 0; i < features.length; i++) {
+            mapped[i] = features[i].mappedFeature();
+        }
+        return mapped;
+    }
+
+    private void value(JsonToken token, TransformSpec.Node node) throws IOException {
+        if (node == null || node.children == null) {
+            copy(token);
+        } else if (token == JsonToken.START_OBJECT) {
+            object(node);
+        } else if (token == JsonToken.START_ARRAY) {
+            // 数组对规则透明，每个元素使用同一组规则
+            generator.writeStartArray();
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                value(token, node);
+            }
+            generator.writeEndArray();
+        } else {
+            copy(token);
+        }
+    }
+
+    private void object(TransformSpec.Node node) throws IOException {
+        generator.writeStartObject();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            TransformSpec.Node child = node.child(name);
+            if (child == null) {
+                generator.writeFieldName(name);
+                copy(token);
+                continue;
+            }
+            if (child.action == TransformSpec.Action.DROP) {
+                parser.skipChildren();
+                continue;
+            }
+            generator.writeFieldName(child.rename != null ? child.rename : name);
+            switch (child.action) {
+                case REPLACE:
+                    parser.skipChildren();
+                    generator.writeObject(child.replacement);
+                    break;
+                case MASK:
+                    mask(token, child);
+                    break;
+                default:
+                    value(token, child);
+                    break;
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 原样复制当前token开始的一个值
+     */
+    private void copy(JsonToken token) throws IOException {
+        if (source != null && (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY)) {
+            long start = parser.getTokenLocation().getByteOffset();
+            if (start >= 0) {
+                parser.skipChildren();
+                copyRaw((int) start, (int) parser.getCurrentLocation().getByteOffset());
+                return;
+            }
+        }
+        int depth = 0;
+        for (;;) {
+            switch (token) {
+                case START_OBJECT:
+                    generator.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    generator.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    generator.writeEndObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    generator.writeEndArray();
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    generator.writeFieldName(parser.getCurrentName());
+                    break;
+                default:
+                    scalar(token);
+                    break;
+            }
+            if (depth == 0) {
+                return;
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    private void scalar(JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                generator.writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                generator.writeNumber(parser.getText());
+                break;
+            case VALUE_TRUE:
+                generator.writeBoolean(true);
+                break;
+            case VALUE_FALSE:
+                generator.writeBoolean(false);
+                break;
+            case VALUE_NULL:
+                generator.writeNull();
+                break;
+            case VALUE_EMBEDDED_OBJECT:
+                generator.writeObject(parser.getEmbeddedObject());
+                break;
+            default:
+                throw new JsonConvertException("unexpected token : " + token);
+        }
+    }
+
+    /**
+     * 脱敏当前token开始的一个值，对象与数组保留结构，其中的每个标量值都脱敏
+     */
+    private void mask(JsonToken token, TransformSpec.Node node) throws IOException {
+        int depth = 0;
+        for (;;) {
+            switch (token) {
+                case START_OBJECT:
+                    generator.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    generator.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    generator.writeEndObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    generator.writeEndArray();
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    generator.writeFieldName(parser.getCurrentName());
+                    break;
+                case VALUE_NULL:
+                    generator.writeNull();
+                    break;
+                case VALUE_EMBEDDED_OBJECT:
+                    generator.writeString(mask(String.valueOf(parser.getEmbeddedObject()), node));
+                    break;
+                default:
+                    generator.writeString(mask(parser.getText(), node));
+                    break;
+            }
+            if (depth == 0) {
+                return;
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    private static String mask(String text, TransformSpec.Node node) {
+        char[] chars = text.toCharArray();
+        if (node.keepPrefix + node.keepSuffix >= chars.length) {
+            // 太短时全部替换，避免原样输出
+            Arrays.fill(chars, '*');
+        } else {
+            Arrays.fill(chars, node.keepPrefix, chars.length - node.keepSuffix, '*');
+        }
+        return new String(chars);
+    }
+
+    private void copyRaw(int start, int end) throws IOException {
+        // 第一块通过writeRawValue写出，由generator补上前面的逗号或冒号
+        int chunkEnd = Math.min(end, start + RAW_CHUNK_SIZE);
+        generator.writeRawValue(slice.of(start, chunkEnd));
+        for (int offset = chunkEnd; offset < end; offset = chunkEnd) {
+            chunkEnd = Math.min(end, offset + RAW_CHUNK_SIZE);
+            generator.writeRaw(slice.of(offset, chunkEnd));
+        }
+    }
+
+    /**
+     * 指向输入中一段UTF-8字节的SerializableString，用于writeRaw，可重复设置范围
+     */
+    private static final class RawSlice implements SerializableString {
+        private final byte[] bytes;
+        private int offset;
+        private int length;
+
+        RawSlice(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        RawSlice of(int start, int end) {
+            this.offset = start;
+            this.length = end - start;
+            return this;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (buffer.length - offset < length) {
+                return -1;
+            }
+            System.arraycopy(bytes, this.offset, buffer, offset, length);
+            return length;
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return Arrays.copyOfRange(bytes, offset, offset + length);
+        }
+
+        @Override
+        public String getValue() {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return quoted().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return quoted().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return quoted().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return quoted().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (buffer.length - offset < value.length()) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return quoted().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(bytes, offset, length);
+            return length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            return quoted().putQuotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (buffer.remaining() < length) {
+                return -1;
+            }
+            buffer.put(bytes, offset, length);
+            return length;
+        }
+
+        /**
+         * 带引号的形式不在写出原始字节时使用，按解码后的文本转义
+         */
+        private SerializedString quoted() {
+            return new SerializedString(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getValue();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 直接从jackson的token流构建JSONObject/JSONArray，省去先解析为Map/List再逐层复制的过程
+ * @author jiangjian45
+ * Created at 2026/10/19 13:55
+ */
+final class JSONTreeReader {
+    /**
+     * 按(并发模式, 是否延迟解析数字)缓存的实例
+     */
+    private static final JSONTreeReader[] READERS = {
+            new JSONTreeReader(Concurrency.NONE, false),
+            new JSONTreeReader(Concurrency.NONE, true),
+            new JSONTreeReader(Concurrency.CONCURRENT, false),
+            new JSONTreeReader(Concurrency.CONCURRENT, true)
+    };
+
+    private final Concurrency concurrency;
+    private final boolean lazyNumber;
+    /**
+     * 字符串值去重表，未启用时为null
+     */
+    private final StringDedup dedup;
+
+    private JSONTreeReader(Concurrency concurrency, boolean lazyNumber) {
+        this(concurrency, lazyNumber, null);
+    }
+
+    private JSONTreeReader(Concurrency concurrency, boolean lazyNumber, StringDedup dedup) {
+        this.concurrency = concurrency;
+        this.lazyNumber = lazyNumber;
+        this.dedup = dedup;
+    }
+
+    static JSONTreeReader of(Concurrency concurrency, Feature... features) {
+        boolean lazyNumber = Feature.isEnabled(features, Feature.LAZY_NUMBER);
+        StringDedup dedup = JSON.getStringDedup();
+        if (dedup != null) {
+            return new JSONTreeReader(concurrency, lazyNumber, dedup);
+        }
+        int index = concurrency == Concurrency.CONCURRENT ? 2 : 0;
+        if (lazyNumber) {
+            index++;
+        }
+        return READERS[index];
+    }
+
+    /**
+     * 读取一个JSON对象，json为null时返回null
+     */
+    JSONObject readObject(JsonParser parser) throws IOException {
+        JsonToken token = nextRootToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonConvertException("can not parse to JSONObject, token : " + token);
+        }
+        return readObjectBody(parser);
+    }
+
+    /**
+     * 读取一个JSON数组，json为null时返回null
+     */
+    JSONArray readArray(JsonParser parser) throws IOException {
+        JsonToken token = nextRootToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonConvertException("can not parse to JSONArray, token : " + token);
+        }
+        return readArrayBody(parser);
+    }
+
+    /**
+     * 按投影读取一个JSON对象，未选中的字段直接跳过
+     */
+    JSONObject readObject(JsonParser parser, Projection projection) throws IOException {
+        JsonToken token = nextRootToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonConvertException("can not parse to JSONObject, token : " + token);
+        }
+        return readProjectedObject(parser, projection);
+    }
+
+    /**
+     * 按投影读取一个JSON数组，投影作用于数组中的每个元素
+     */
+    JSONArray readArray(JsonParser parser, Projection projection) throws IOException {
+        JsonToken token = nextRootToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonConvertException("can not parse to JSONArray, token : " + token);
+        }
+        return readProjectedArray(parser, projection);
+    }
+
+    private static JsonToken nextRootToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonConvertException("no content to parse");
+        }
+        return token;
+    }
+
+    private JSONObject readObjectBody(JsonParser parser) throws IOException {
+        Map<String, Object> map = concurrency.newMap(16);
+        String key;
+        while ((key = parser.nextFieldName()) != null) {
+            Object value = readValue(parser, parser.nextToken(), key);
+            if (value != null) {
+                map.put(key, value);
+            } else if (concurrency == Concurrency.NONE) {
+                map.put(key, null);
+            }
+        }
+        return new JSONObject(map);
+    }
+
+    private JSONArray readArrayBody(JsonParser parser) throws IOException {
+        List<Object> list = new ArrayList<Object>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, token));
+        }
+        return new JSONArray(concurrency.newList(list));
+    }
+
+    private JSONObject readProjectedObject(JsonParser parser, Projection projection) throws IOException {
+        Map<String, Object> map = concurrency.newMap(8);
+        String key;
+        while ((key = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            Projection field = projection.field(key);
+            if (field == null) {
+                parser.skipChildren();
+                continue;
+            }
+            Object value = readProjectedValue(parser, token, field, key);
+            if (value != null) {
+                map.put(key, value);
+            } else if (concurrency == Concurrency.NONE && token == JsonToken.VALUE_NULL) {
+                map.put(key, null);
+            }
+        }
+        return new JSONObject(map);
+    }
+
+    private JSONArray readProjectedArray(JsonParser parser, Projection projection) throws IOException {
+        List<Object> list = new ArrayList<Object>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            Object value = readProjectedValue(parser, token, projection, null);
+            if (value != null || token == JsonToken.VALUE_NULL) {
+                list.add(value);
+            }
+        }
+        return new JSONArray(concurrency.newList(list));
+    }
+
+    /**
+     * key为值所在的字段名，数组元素为null。投影未到达终点时，只有对象和数组继续向下读取，标量值无法匹配子路径，返回null
+     */
+    private Object readProjectedValue(JsonParser parser, JsonToken token, Projection projection, String key)
+            throws IOException {
+        if (projection.isLeaf()) {
+            return readValue(parser, token, key);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            return readProjectedObject(parser, projection);
+        }
+        if (token == JsonToken.START_ARRAY) {
+            return readProjectedArray(parser, projection);
+        }
+        if (token == null) {
+            throw new JsonConvertException("unexpected end of content");
+        }
+        return null;
+    }
+
+    /**
+     * 读取当前token开始的一个完整的值
+     */
+    Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        return readValue(parser, token, null);
+    }
+
+    /**
+     * @param field 值所在的字段名，数组元素为null，用于字符串值去重
+     */
+    private Object readValue(JsonParser parser, JsonToken token, String field) throws IOException {
+        if (token == null) {
+            throw new JsonConvertException("unexpected end of content");
+        }
+        switch (token) {
+            case START_OBJECT:
+                return readObjectBody(parser);
+            case START_ARRAY:
+                return readArrayBody(parser);
+            case VALUE_STRING:
+                if (dedup != null) {
+                    return dedup.dedup(field, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                }
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                if (lazyNumber) {
+                    return JSONNumber.of(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                }
+                return parser.getDecimalValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            default:
+                throw new JsonConvertException("unexpected token : " + token);
+        }
+    }
+}
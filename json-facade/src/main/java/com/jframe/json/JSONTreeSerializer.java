@@ -0,0 +1,143 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JSONObject/JSONArray专用的序列化器。
+ * 常见的叶子类型直接写出，不经过jackson MapSerializer按值类型查找序列化器的过程；
+ * 重复出现的key缓存为预编码的SerializedString；其他类型的值交给ObjectMapper处理。
+ * 与原先的输出保持一致：JSONObject中值为null的key不输出，JSONArray中的null元素保留。
+ * 有{@link FilterChain}时对JSONObject的每个字段应用过滤器
+ * @author jiangjian45
+ * Created at 2026/10/20 20:20
+ */
+final class JSONTreeSerializer extends StdSerializer<JSON> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * key缓存上限，超过后不再缓存新的key
+     */
+    private static final int MAX_CACHED_KEYS = 4096;
+    /**
+     * 超过该长度的key不缓存
+     */
+    private static final int MAX_CACHED_KEY_LENGTH = 64;
+    private static final ConcurrentMap<String, SerializedString> KEYS = new ConcurrentHashMap<String, SerializedString>(256);
+
+    JSONTreeSerializer() {
+        super(JSON.class);
+    }
+
+    @Override
+    public void serialize(JSON value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value instanceof JSONObject) {
+            writeObject((JSONObject) value, gen, provider);
+        } else {
+            writeArray((JSONArray) value, gen, provider);
+        }
+    }
+
+    private static void writeObject(JSONObject object, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        FilterChain chain = FilterChain.of(provider);
+        if (chain != null) {
+            writeObject(object, gen, provider, chain);
+            return;
+        }
+        gen.writeStartObject(object);
+        for (Map.Entry<String, Object> entry : object.getInnerMap().entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            String key = entry.getKey();
+            if (key == null) {
+                // 与jackson一致，默认不允许null key
+                provider.findNullKeySerializer(provider.constructType(String.class), null).serialize(null, gen, provider);
+            } else {
+                gen.writeFieldName(key(key));
+            }
+            writeValue(value, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeObject(JSONObject object, JsonGenerator gen, SerializerProvider provider, FilterChain chain)
+            throws IOException {
+        gen.writeStartObject(object);
+        for (Map.Entry<String, Object> entry : object.getInnerMap().entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (!chain.apply(object, key, value)) {
+                continue;
+            }
+            String name = chain.name(object, key, value);
+            value = chain.value(object, key, value);
+            if (value == null) {
+                continue;
+            }
+            if (name == null) {
+                provider.findNullKeySerializer(provider.constructType(String.class), null).serialize(null, gen, provider);
+            } else {
+                gen.writeFieldName(name);
+            }
+            writeValue(value, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeArray(JSONArray array, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(array, array.size());
+        for (Object value : array) {
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                writeValue(value, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeValue(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Class<?> clazz = value.getClass();
+        if (clazz == String.class) {
+            gen.writeString((String) value);
+        } else if (clazz == Integer.class) {
+            gen.writeNumber((Integer) value);
+        } else if (clazz == Long.class) {
+            gen.writeNumber((Long) value);
+        } else if (clazz == BigDecimal.class) {
+            gen.writeNumber((BigDecimal) value);
+        } else if (clazz == Boolean.class) {
+            gen.writeBoolean((Boolean) value);
+        } else if (clazz == JSONObject.class) {
+            writeObject((JSONObject) value, gen, provider);
+        } else if (clazz == JSONArray.class) {
+            writeArray((JSONArray) value, gen, provider);
+        } else if (clazz == JSONNumber.class) {
+            gen.writeNumber(value.toString());
+        } else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+
+    private static SerializedString key(String key) {
+        SerializedString serialized = KEYS.get(key);
+        if (serialized != null) {
+            return serialized;
+        }
+        serialized = new SerializedString(key);
+        if (key.length() <= MAX_CACHED_KEY_LENGTH && KEYS.size() < MAX_CACHED_KEYS) {
+            KEYS.putIfAbsent(key, serialized);
+        }
+        return serialized;
+    }
+}
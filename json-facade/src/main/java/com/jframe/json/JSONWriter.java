@@ -0,0 +1,259 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 流式写出JSON，边生成边输出，适用于生成大文档，无需先构建完整的JSONObject/JSONArray和String。
+ * 底层输出每累计{@code flushSize}个字节(字符)flush一次，POJO使用与{@link JSON}相同的配置序列化(忽略null字段、日期格式等)。
+ * <pre>
+ * try (JSONWriter writer = new JSONWriter(outputStream)) {
+ *     writer.startArray();
+ *     for (Order order : orders) {
+ *         writer.writeObject(order);
+ *     }
+ *     writer.endArray();
+ * }
+ * </pre>
+ * 非线程安全
+ * @author jiangjian45
+ * Created at 2026/10/20 18:10
+ */
+public class JSONWriter implements Closeable, Flushable {
+    public static final int DEFAULT_FLUSH_SIZE = 64 * 1024;
+
+    /**
+     * 每个值写完后不flush，由flushSize控制
+     */
+    private static final ObjectWriter VALUE_WRITER = JSON.mapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final JsonGenerator generator;
+
+    public JSONWriter(Writer writer) {
+        this(writer, DEFAULT_FLUSH_SIZE);
+    }
+
+    public JSONWriter(Writer writer, int flushSize) {
+        checkFlushSize(flushSize);
+        try {
+            this.generator = JSON.mapper().getFactory().createGenerator(new ChunkedWriter(writer, flushSize));
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 以UTF-8编码写出
+     */
+    public JSONWriter(OutputStream out) {
+        this(out, DEFAULT_FLUSH_SIZE);
+    }
+
+    public JSONWriter(OutputStream out, int flushSize) {
+        checkFlushSize(flushSize);
+        try {
+            this.generator = JSON.mapper().getFactory().createGenerator(new ChunkedOutputStream(out, flushSize), JsonEncoding.UTF8);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public void startObject() {
+        try {
+            generator.writeStartObject();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public void endObject() {
+        try {
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public void startArray() {
+        try {
+            generator.writeStartArray();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public void endArray() {
+        try {
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    public void writeKey(String key) {
+        try {
+            generator.writeFieldName(key);
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 写出一个值，字符串、数字、布尔值直接写出，其他对象按{@link JSON#toJSONString(Object)}的规则序列化
+     */
+    public void writeValue(Object value) {
+        try {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof String) {
+                generator.writeString((String) value);
+            } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof BigDecimal) {
+                generator.writeNumber((BigDecimal) value);
+            } else if (value instanceof BigInteger) {
+                generator.writeNumber((BigInteger) value);
+            } else if (value instanceof Double) {
+                generator.writeNumber((Double) value);
+            } else if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else {
+                VALUE_WRITER.writeValue(generator, value);
+            }
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 写出一个对象，同{@link #writeValue(Object)}
+     */
+    public void writeObject(Object object) {
+        writeValue(object);
+    }
+
+    /**
+     * 写出键值对，value为null时与{@link JSON#toJSONString(Object)}一致，不写出
+     */
+    public void writeKeyValue(String key, Object value) {
+        if (value != null) {
+            writeKey(key);
+            writeValue(value);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    /**
+     * 写出剩余内容并关闭底层输出
+     */
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new JsonConvertException(e);
+        }
+    }
+
+    private static void checkFlushSize(int flushSize) {
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("flushSize must be positive.");
+        }
+    }
+
+    /**
+     * 累计写出flushSize个字符后flush底层Writer
+     */
+    private static final class ChunkedWriter extends FilterWriter {
+        private final int flushSize;
+        private int pending;
+
+        ChunkedWriter(Writer out, int flushSize) {
+            super(out);
+            this.flushSize = flushSize;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            written(1);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            written(len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            written(len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            pending = 0;
+            out.flush();
+        }
+
+        private void written(int len) throws IOException {
+            pending += len;
+            if (pending >= flushSize) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * 累计写出flushSize个字节后flush底层OutputStream
+     */
+    private static final class ChunkedOutputStream extends FilterOutputStream {
+        private final int flushSize;
+        private int pending;
+
+        ChunkedOutputStream(OutputStream out, int flushSize) {
+            super(out);
+            this.flushSize = flushSize;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            written(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            written(len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            pending = 0;
+            out.flush();
+        }
+
+        private void written(int len) throws IOException {
+            pending += len;
+            if (pending >= flushSize) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * JavaBean绑定元数据，每个类只构建一次。
+ * 属性取自jackson的内省结果，构造器、setter与字段预先解析为MethodHandle，属性名按jackson的大小写不敏感规则匹配
+ * @author jiangjian45
+ * Created at 2026/10/20 09:40
+ */
+final class JavaBeanInfo {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson";
+
+    /**
+     * 不支持直接绑定的类型缓存为UNSUPPORTED，由jackson处理
+     */
+    private static final JavaBeanInfo UNSUPPORTED = new JavaBeanInfo(null, null, Collections.<String, FieldInfo>emptyMap());
+
+    private static final ClassValue<JavaBeanInfo> CACHE = new ClassValue<JavaBeanInfo>() {
+        @Override
+        protected JavaBeanInfo computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    /**
+     * key为小写属性名
+     */
+    private final Map<String, FieldInfo> fields;
+
+    private JavaBeanInfo(Class<?> type, MethodHandle constructor, Map<String, FieldInfo> fields) {
+        this.type = type;
+        this.constructor = constructor;
+        this.fields = fields;
+    }
+
+    /**
+     * 获取类的绑定元数据，不支持直接绑定时返回null
+     */
+    static JavaBeanInfo of(Class<?> clazz) {
+        JavaBeanInfo beanInfo = CACHE.get(clazz);
+        return beanInfo == UNSUPPORTED ? null : beanInfo;
+    }
+
+    /**
+     * 有key找不到对应的属性时交给jackson处理，结果与jackson保持一致
+     */
+    Object bind(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (fieldInfo(String.valueOf(key)) == null) {
+                return JSON.mapper().convertValue(map, type);
+            }
+        }
+        Object bean;
+        try {
+            bean = constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new JsonConvertException("can not create instance, " + e);
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            fieldInfo(String.valueOf(entry.getKey())).set(bean, entry.getValue());
+        }
+        return bean;
+    }
+
+    private FieldInfo fieldInfo(String name) {
+        FieldInfo fieldInfo = fields.get(name);
+        if (fieldInfo == null) {
+            fieldInfo = fields.get(name.toLowerCase(Locale.ROOT));
+        }
+        return fieldInfo;
+    }
+
+    private static JavaBeanInfo build(Class<?> clazz) {
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers()) || clazz.isPrimitive() || clazz.isArray()
+                || clazz.isEnum() || (clazz.getEnclosingClass() != null && !Modifier.isStatic(clazz.getModifiers()))
+                || clazz.getName().startsWith("java.") || hasJacksonAnnotations(clazz)) {
+            return UNSUPPORTED;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Constructor<?> defaultConstructor = clazz.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            MethodHandle constructor = lookup.unreflectConstructor(defaultConstructor).asType(CONSTRUCTOR_TYPE);
+
+            // 属性与写入方式取自jackson的内省结果，与jackson绑定的字段保持一致，包括由getter推断出的私有字段
+            ObjectMapper mapper = JSON.mapper();
+            BeanDescription beanDesc = mapper.getDeserializationConfig().introspect(mapper.constructType(clazz));
+            Map<String, FieldInfo> fields = new HashMap<String, FieldInfo>();
+            for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+                FieldInfo fieldInfo = fieldInfo(lookup, property);
+                if (fieldInfo == null) {
+                    return UNSUPPORTED;
+                }
+                fields.put(property.getName().toLowerCase(Locale.ROOT), fieldInfo);
+            }
+            return new JavaBeanInfo(clazz, constructor, fields);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * 按jackson的优先级选择写入方式：setter优先，其次字段。
+     * 构造器参数、final字段与只有getter的集合属性(jackson通过getter返回的集合直接填充)无法直接绑定，返回null
+     */
+    private static FieldInfo fieldInfo(MethodHandles.Lookup lookup, BeanPropertyDefinition property) throws IllegalAccessException {
+        if (property.hasConstructorParameter()) {
+            return null;
+        }
+        if (property.hasSetter()) {
+            Method method = property.getSetter().getAnnotated();
+            method.setAccessible(true);
+            return new FieldInfo(method.getGenericParameterTypes()[0], lookup.unreflect(method).asType(SETTER_TYPE));
+        }
+        if (property.hasField()) {
+            Field field = property.getField().getAnnotated();
+            if (Modifier.isFinal(field.getModifiers())) {
+                return null;
+            }
+            field.setAccessible(true);
+            return new FieldInfo(field.getGenericType(), lookup.unreflectSetter(field).asType(SETTER_TYPE));
+        }
+        if (property.hasGetter()) {
+            Class<?> type = property.getGetter().getRawType();
+            return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) ? null : FieldInfo.IGNORED;
+        }
+        return FieldInfo.IGNORED;
+    }
+
+    /**
+     * 类、字段(包括枚举常量)、方法或构造器上是否有jackson注解
+     */
+    static boolean hasJacksonAnnotations(Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (isJacksonAnnotated(c.getDeclaredAnnotations())) {
+                return true;
+            }
+            for (Field field : c.getDeclaredFields()) {
+                if (isJacksonAnnotated(field.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                if (isJacksonAnnotated(method.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+            for (Constructor<?> constructor : c.getDeclaredConstructors()) {
+                if (isJacksonAnnotated(constructor.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJacksonAnnotated(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().startsWith(JACKSON_ANNOTATION_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class FieldInfo {
+        /**
+         * jackson忽略的属性，例如只有getter的普通属性
+         */
+        static final FieldInfo IGNORED = new FieldInfo(Object.class, null);
+
+        private final Type type;
+        private final boolean primitive;
+        private final MethodHandle setter;
+
+        FieldInfo(Type type, MethodHandle setter) {
+            this.type = type;
+            this.primitive = type instanceof Class && ((Class<?>) type).isPrimitive();
+            this.setter = setter;
+        }
+
+        void set(Object bean, Object value) {
+            if (setter == null) {
+                return;
+            }
+            Object fieldValue = TypeUtils.cast(value, type);
+            if (fieldValue == null && primitive) {
+                return;
+            }
+            try {
+                setter.invokeExact(bean, fieldValue);
+            } catch (Throwable e) {
+                throw new JsonConvertException("can not set property, type : " + type + ", value : " + value + ", " + e);
+            }
+        }
+    }
+}
@@ -24,41 +24,68 @@ public class JsonConvertException extends RuntimeException{
 
     @Override
     public void printStackTrace() {
+        if (processingException == null) {
+            super.printStackTrace();
+            return;
+        }
         processingException.printStackTrace();
     }
 
     @Override
     public String toString() {
+        if (processingException == null) {
+            return super.toString();
+        }
         return processingException.toString();
     }
 
     @Override
     public String getMessage() {
+        if (processingException == null) {
+            return super.getMessage();
+        }
         return processingException.getMessage();
     }
 
     @Override
     public String getLocalizedMessage() {
+        if (processingException == null) {
+            return super.getLocalizedMessage();
+        }
         return processingException.getLocalizedMessage();
     }
 
     @Override
     public synchronized Throwable getCause() {
+        if (processingException == null) {
+            return super.getCause();
+        }
         return processingException.getCause();
     }
 
     @Override
     public synchronized Throwable initCause(Throwable cause) {
+        if (processingException == null) {
+            return super.initCause(cause);
+        }
         return processingException.initCause(cause);
     }
 
     @Override
     public void printStackTrace(PrintStream s) {
+        if (processingException == null) {
+            super.printStackTrace(s);
+            return;
+        }
         processingException.printStackTrace(s);
     }
 
     @Override
     public void printStackTrace(PrintWriter s) {
+        if (processingException == null) {
+            super.printStackTrace(s);
+            return;
+        }
         processingException.printStackTrace(s);
     }
 }
@@ -0,0 +1,27 @@
+package com.jframe.json;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JSON文档不符合schema
+ * @author jiangjian45
+ * Created at 2026/10/21 10:30
+ */
+public class JsonValidationException extends JsonConvertException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> errors;
+
+    public JsonValidationException(List<String> errors) {
+        super("json schema validation failed : " + errors);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * 校验错误，格式为{@code JSON Pointer: 原因}
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+}
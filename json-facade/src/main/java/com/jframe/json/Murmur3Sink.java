@@ -0,0 +1,159 @@
+package com.jframe.json;
+
+/**
+ * 流式计算MurmurHash3 x64 128位hash(默认seed为0)，按16字节分块处理，只缓存不足一块的字节
+ * @author jiangjian45
+ * Created at 2026/10/20 21:30
+ */
+final class Murmur3Sink implements CanonicalWriter.Sink {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final byte[] block = new byte[16];
+    private int blockSize;
+    private long length;
+    private long h1;
+    private long h2;
+
+    Murmur3Sink() {
+        this(0);
+    }
+
+    /**
+     * @param seed 32位seed，与参考实现相同，h1、h2的初始值均为seed
+     */
+    Murmur3Sink(int seed) {
+        this.h1 = seed & 0xFFFFFFFFL;
+        this.h2 = seed & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void write(int b) {
+        block[blockSize++] = (byte) b;
+        if (blockSize == 16) {
+            mixBlock(getLong(block, 0), getLong(block, 8));
+            blockSize = 0;
+        }
+        length++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int len) {
+        int end = offset + len;
+        int i = offset;
+        // 先补齐缓存中未满的块
+        while (blockSize != 0 && i < end) {
+            write(bytes[i++]);
+        }
+        for (; end - i >= 16; i += 16) {
+            mixBlock(getLong(bytes, i), getLong(bytes, i + 8));
+            length += 16;
+        }
+        while (i < end) {
+            write(bytes[i++]);
+        }
+    }
+
+    /**
+     * 按UTF-16LE字节写入字符，块对齐时每次直接处理8个字符
+     */
+    void writeChars(CharSequence chars) {
+        int length = chars.length();
+        int i = 0;
+        while (blockSize != 0 && i < length) {
+            char c = chars.charAt(i++);
+            write(c & 0xFF);
+            write(c >>> 8);
+        }
+        for (; length - i >= 8; i += 8) {
+            long k1 = chars.charAt(i) | (long) chars.charAt(i + 1) << 16
+                    | (long) chars.charAt(i + 2) << 32 | (long) chars.charAt(i + 3) << 48;
+            long k2 = chars.charAt(i + 4) | (long) chars.charAt(i + 5) << 16
+                    | (long) chars.charAt(i + 6) << 32 | (long) chars.charAt(i + 7) << 48;
+            mixBlock(k1, k2);
+            this.length += 16;
+        }
+        for (; i < length; i++) {
+            char c = chars.charAt(i);
+            write(c & 0xFF);
+            write(c >>> 8);
+        }
+    }
+
+    /**
+     * 结束计算，返回{h1, h2}
+     */
+    long[] finish() {
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = blockSize - 1; i >= 8; i--) {
+            k2 = (k2 << 8) | (block[i] & 0xFFL);
+        }
+        for (int i = Math.min(blockSize, 8) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | (block[i] & 0xFFL);
+        }
+        if (blockSize > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (blockSize > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private void mixBlock(long k1, long k2) {
+        h1 ^= mixK1(k1);
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= mixK2(k2);
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /**
+     * 小端序读取8个字节
+     */
+    private static long getLong(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL)
+                | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 24
+                | (bytes[offset + 4] & 0xFFL) << 32
+                | (bytes[offset + 5] & 0xFFL) << 40
+                | (bytes[offset + 6] & 0xFFL) << 48
+                | (bytes[offset + 7] & 0xFFL) << 56;
+    }
+}
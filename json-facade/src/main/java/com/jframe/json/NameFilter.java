@@ -0,0 +1,16 @@
+package com.jframe.json;
+
+/**
+ * 修改输出的字段名
+ * @author jiangjian45
+ * Created at 2026/10/21 22:00
+ */
+public interface NameFilter extends SerializeFilter {
+    /**
+     * @param object 字段所属的对象，POJO、Map或JSONObject
+     * @param name   字段名，多个NameFilter时为前一个的返回值
+     * @param value  字段值，可能为null
+     * @return 输出的字段名
+     */
+    String process(Object object, String name, Object value);
+}
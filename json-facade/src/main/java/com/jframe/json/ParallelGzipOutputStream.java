@@ -0,0 +1,272 @@
+package com.jframe.json;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 分块并行压缩的gzip输出流，适合导出大文档，可作为{@link JSONWriter}的输出。
+ * 输入按blockSize切块，各块在线程池中独立deflate，以前一块末尾32KB作为字典并以SYNC_FLUSH结束，
+ * 按顺序拼接为单个gzip member，任何gzip解压器都可读取，压缩率与单线程接近。
+ * 等待压缩的块数不超过线程数的2倍，内存占用有上限。非线程安全
+ * @author jiangjian45
+ * Created at 2026/10/21 20:20
+ */
+public final class ParallelGzipOutputStream extends OutputStream {
+    private static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private final OutputStream out;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int blockSize;
+    private final int maxPending;
+    private final int level;
+    private final ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+    private final CRC32 crc = new CRC32();
+
+    private byte[] block;
+    private int blockLength;
+    /**
+     * 上一块，提交后不再修改，末尾部分作为下一块的字典
+     */
+    private byte[] previous;
+    private int previousLength;
+    private long totalLength;
+    private boolean closed;
+
+    /**
+     * 块大小128KB，线程数为CPU核数
+     */
+    public ParallelGzipOutputStream(OutputStream out) throws IOException {
+        this(out, DEFAULT_BLOCK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 使用自有的线程池，关闭流时一并关闭
+     *
+     * @param out       输出
+     * @param blockSize 块大小，不小于32KB时压缩率与单线程接近
+     * @param threads   压缩线程数
+     */
+    public ParallelGzipOutputStream(OutputStream out, int blockSize, int threads) throws IOException {
+        this(out, blockSize, threads, newExecutor(threads), true, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 使用外部线程池，关闭流时不关闭线程池
+     *
+     * @param out       输出
+     * @param blockSize 块大小
+     * @param executor  压缩线程池
+     * @param level     压缩级别，同{@link Deflater#setLevel(int)}
+     */
+    public ParallelGzipOutputStream(OutputStream out, int blockSize, ExecutorService executor, int level) throws IOException {
+        this(out, blockSize, Runtime.getRuntime().availableProcessors(), executor, false, level);
+    }
+
+    private ParallelGzipOutputStream(OutputStream out, int blockSize, int threads, ExecutorService executor,
+                                     boolean ownsExecutor, int level) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("out is null.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor is null.");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive.");
+        }
+        this.out = out;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.blockSize = blockSize;
+        this.maxPending = Math.max(2, threads * 2);
+        this.level = level;
+        this.block = new byte[blockSize];
+        out.write(HEADER);
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive.");
+        }
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "json-gzip-" + THREAD_SEQUENCE.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            submit(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int n = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, n);
+            blockLength += n;
+            off += n;
+            len -= n;
+            if (blockLength == blockSize) {
+                submit(false);
+            }
+        }
+    }
+
+    /**
+     * 写出已压缩完成的块，未满的块留待后续写入，不提前切块
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pending.isEmpty()) {
+            writeBlock(pending.poll());
+        }
+        out.flush();
+    }
+
+    /**
+     * 压缩剩余数据并写出gzip结尾，关闭out
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            submit(true);
+            while (!pending.isEmpty()) {
+                writeBlock(pending.poll());
+            }
+            writeInt((int) crc.getValue());
+            writeInt((int) totalLength);
+            out.close();
+        } finally {
+            for (Future<byte[]> future : pending) {
+                future.cancel(true);
+            }
+            if (ownsExecutor) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        crc.update(block, 0, blockLength);
+        totalLength += blockLength;
+        pending.add(executor.submit(new BlockTask(block, blockLength, previous, previousLength, level, last)));
+        previous = block;
+        previousLength = blockLength;
+        block = last ? null : new byte[blockSize];
+        blockLength = 0;
+        while (pending.size() > maxPending) {
+            writeBlock(pending.poll());
+        }
+    }
+
+    private void writeBlock(Future<byte[]> future) throws IOException {
+        byte[] compressed;
+        try {
+            compressed = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while compressing");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        out.write(compressed);
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+        out.write((value >>> 16) & 0xFF);
+        out.write((value >>> 24) & 0xFF);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("stream closed");
+        }
+    }
+
+    /**
+     * 压缩一块为raw deflate数据，非最后一块以SYNC_FLUSH结束，保证字节对齐可直接拼接
+     */
+    private static final class BlockTask implements Callable<byte[]> {
+        private final byte[] data;
+        private final int length;
+        private final byte[] dictionary;
+        private final int dictionaryLength;
+        private final int level;
+        private final boolean last;
+
+        BlockTask(byte[] data, int length, byte[] dictionary, int dictionaryLength, int level, boolean last) {
+            this.data = data;
+            this.length = length;
+            this.dictionary = dictionary;
+            this.dictionaryLength = dictionaryLength;
+            this.level = level;
+            this.last = last;
+        }
+
+        @Override
+        public byte[] call() {
+            Deflater deflater = new Deflater(level, true);
+            try {
+                if (dictionaryLength > 0) {
+                    int n = Math.min(DICTIONARY_SIZE, dictionaryLength);
+                    deflater.setDictionary(dictionary, dictionaryLength - n, n);
+                }
+                deflater.setInput(data, 0, length);
+                byte[] buffer = new byte[length / 2 + 64];
+                int size = 0;
+                if (last) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        if (size == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                        }
+                        size += deflater.deflate(buffer, size, buffer.length - size);
+                    }
+                } else {
+                    // 返回值等于剩余空间时输出可能未完，扩容后继续
+                    do {
+                        if (size == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                        }
+                        size += deflater.deflate(buffer, size, buffer.length - size, Deflater.SYNC_FLUSH);
+                    } while (size == buffer.length);
+                }
+                return Arrays.copyOf(buffer, size);
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.jframe.json;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 解析结果缓存，内容相同的json文本只解析一次，返回深度只读的JSONObject/JSONArray，可在线程间直接共享。
+ * key为文本的128位MurmurHash3与原文本，hash相同时还要比较原文本，构造不出可替换缓存结果的碰撞文本；
+ * seed每个实例随机生成，无法预先构造集中到同一段的文本。按key分段，每段为按访问顺序排列的LRU，
+ * 同时限制条数与权重(文本字符数)，单个文本超过每段权重上限时不缓存
+ * @author jiangjian45
+ * Created at 2026/10/21 11:30
+ */
+public final class ParseCache {
+    private static final int SEGMENTS = 16;
+    private static final int DEFAULT_MAX_ENTRIES = 1024;
+    private static final long DEFAULT_MAX_WEIGHT = 8L * 1024 * 1024;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final int seed = ThreadLocalRandom.current().nextInt();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 最多1024条，文本总长度最多8M字符
+     */
+    public ParseCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * @param maxEntries 最大条数
+     * @param maxWeight  缓存文本的最大总字符数
+     */
+    public ParseCache(int maxEntries, long maxWeight) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("maxEntries and maxWeight must be positive.");
+        }
+        // 向上取整，不先加SEGMENTS - 1，避免上限接近MAX_VALUE时溢出
+        int segmentEntries = maxEntries / SEGMENTS + (maxEntries % SEGMENTS == 0 ? 0 : 1);
+        long segmentWeight = maxWeight / SEGMENTS + (maxWeight % SEGMENTS == 0 ? 0 : 1);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentEntries, segmentWeight);
+        }
+    }
+
+    /**
+     * 获取解析结果，未命中时解析并缓存
+     *
+     * @param text json字符串
+     * @return 只读的JSONObject、JSONArray或其他值
+     */
+    public Object get(String text) {
+        if (text == null) {
+            return null;
+        }
+        Murmur3Sink sink = new Murmur3Sink(seed);
+        sink.writeChars(text);
+        long[] hash = sink.finish();
+        Key key = new Key(hash[0], hash[1], text);
+        Segment segment = segments[(int) (hash[0] >>> 60)];
+
+        Object value = segment.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = JSON.parseImmutable(text);
+        if (value == null) {
+            return null;
+        }
+        return segment.put(key, value, text.length());
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public ParseCacheStats stats() {
+        int size = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+                weight += segment.weight;
+            }
+        }
+        return new ParseCacheStats(hits.sum(), misses.sum(), evictions.sum(), size, weight);
+    }
+
+    private final class Segment {
+        private final int maxEntries;
+        private final long maxWeight;
+        private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<Key, Object>(16, 0.75F, true);
+        private long weight;
+
+        Segment(int maxEntries, long maxWeight) {
+            this.maxEntries = maxEntries;
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized Object get(Key key) {
+            return entries.get(key);
+        }
+
+        /**
+         * 放入缓存，已存在时返回已有的值
+         */
+        synchronized Object put(Key key, Object value, int valueWeight) {
+            Object existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (valueWeight > maxWeight) {
+                return value;
+            }
+            entries.put(key, value);
+            weight += valueWeight;
+            Iterator<Map.Entry<Key, Object>> iterator = entries.entrySet().iterator();
+            while ((weight > maxWeight || entries.size() > maxEntries) && iterator.hasNext()) {
+                Map.Entry<Key, Object> eldest = iterator.next();
+                if (eldest.getKey() == key) {
+                    continue;
+                }
+                iterator.remove();
+                weight -= eldest.getKey().text.length();
+                evictions.increment();
+            }
+            return value;
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    private static final class Key {
+        private final long h1;
+        private final long h2;
+        private final String text;
+
+        Key(long h1, long h2, String text) {
+            this.h1 = h1;
+            this.h2 = h2;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return h1 == other.h1 && h2 == other.h2 && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) h1;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jframe.json;
+
+/**
+ * 解析结果缓存的统计快照
+ * @author jiangjian45
+ * Created at 2026/10/21 11:50
+ */
+public final class ParseCacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final long weight;
+
+    public ParseCacheStats(long hits, long misses, long evictions, int size, long weight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * 因超过条数或权重上限被淘汰的次数
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 当前缓存条数
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 当前缓存的权重，即缓存的json文本的字符数之和
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0D : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseCacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size
+                + ", weight=" + weight + ", hitRate=" + String.format("%.4f", getHitRate()) + '}';
+    }
+}
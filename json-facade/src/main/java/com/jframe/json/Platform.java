@@ -0,0 +1,40 @@
+package com.jframe.json;
+
+/**
+ * 与JDK版本相关的实现入口，本类为Java 8版本。
+ * 多版本jar的META-INF/versions/17下有同名类，运行在17及以上时替换本类，提供record绑定、Vector API扫描与虚拟线程识别
+ * @author jiangjian45
+ * Created at 2026/10/21 18:00
+ */
+final class Platform {
+    private Platform() {
+    }
+
+    /**
+     * 当前生效的实现对应的JDK版本。使用方法而不是常量，常量会在调用方编译时内联为基础层的值
+     */
+    static int featureVersion() {
+        return 8;
+    }
+
+    /**
+     * @return record的识别与读取实现，Java 8没有record，返回null时不注册{@link RecordModule}
+     */
+    static RecordIntrospector recordIntrospector() {
+        return null;
+    }
+
+    /**
+     * Java 8没有虚拟线程
+     */
+    static boolean isVirtualThread(Thread thread) {
+        return false;
+    }
+
+    /**
+     * @return 第一阶段的扫描实现，为null时使用SWAR
+     */
+    static StructuralScanner structuralScanner() {
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 从{@link BufferPool}分配缓冲区的JsonFactory。
+ * 所有parser/generator共享同一个无状态的BufferRecycler，缓冲区的归属由BufferPool保证，
+ * 未设置BufferPool时平台线程使用jackson默认的ThreadLocal回收；虚拟线程数量多、生命周期短，
+ * ThreadLocal中的缓冲区几乎不会被复用，改用共享的{@link StripedBufferPool}
+ * @author jiangjian45
+ * Created at 2026/10/20 17:30
+ */
+final class PooledJsonFactory extends MappingJsonFactory {
+    private static final long serialVersionUID = 1L;
+    private static volatile BufferRecycler virtualThreadRecycler;
+
+    private transient volatile BufferPool bufferPool;
+    private transient volatile BufferRecycler recycler;
+
+    PooledJsonFactory(BufferPool bufferPool) {
+        setBufferPool(bufferPool);
+    }
+
+    private PooledJsonFactory(PooledJsonFactory src, ObjectMapper mapper) {
+        super(src, mapper);
+        setBufferPool(src.bufferPool);
+    }
+
+    void setBufferPool(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+        this.recycler = bufferPool == null ? null : new PooledBufferRecycler(bufferPool);
+    }
+
+    BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    @Override
+    public BufferRecycler _getBufferRecycler() {
+        BufferRecycler pooled = recycler;
+        if (pooled != null) {
+            return pooled;
+        }
+        return Platform.isVirtualThread(Thread.currentThread()) ? virtualThreadRecycler() : super._getBufferRecycler();
+    }
+
+    private static BufferRecycler virtualThreadRecycler() {
+        BufferRecycler shared = virtualThreadRecycler;
+        if (shared == null) {
+            synchronized (PooledJsonFactory.class) {
+                shared = virtualThreadRecycler;
+                if (shared == null) {
+                    shared = new PooledBufferRecycler(new StripedBufferPool());
+                    virtualThreadRecycler = shared;
+                }
+            }
+        }
+        return shared;
+    }
+
+    @Override
+    public JsonFactory copy() {
+        return new PooledJsonFactory(this, null);
+    }
+
+    /**
+     * 不持有缓冲区，分配与归还全部委托给BufferPool
+     */
+    private static final class PooledBufferRecycler extends BufferRecycler {
+        private final BufferPool pool;
+
+        PooledBufferRecycler(BufferPool pool) {
+            super(0, 0);
+            this.pool = pool;
+        }
+
+        @Override
+        public byte[] allocByteBuffer(int ix, int minSize) {
+            byte[] buffer = pool.allocBytes(ix, minSize);
+            return buffer != null ? buffer : balloc(Math.max(minSize, byteBufferLength(ix)));
+        }
+
+        @Override
+        public void releaseByteBuffer(int ix, byte[] buffer) {
+            pool.releaseBytes(ix, buffer);
+        }
+
+        @Override
+        public char[] allocCharBuffer(int ix, int minSize) {
+            char[] buffer = pool.allocChars(ix, minSize);
+            return buffer != null ? buffer : calloc(Math.max(minSize, charBufferLength(ix)));
+        }
+
+        @Override
+        public void releaseCharBuffer(int ix, char[] buffer) {
+            pool.releaseChars(ix, buffer);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.jframe.json;
+
+import java.util.*;
+
+/**
+ * 解析时只保留指定的字段，其余字段在token层面跳过，不创建任何值对象。
+ * 路径以.分隔，{@code [*]}表示数组中的每个元素，例如{@code Projection.of("id", "user.name", "items[*].sku")}。
+ * 字段值为数组时，子路径作用于数组中的每个元素，因此{@code [*]}可以省略。
+ * 实例不可变，可作为常量复用
+ * @author jiangjian45
+ * Created at 2026/10/20 16:05
+ */
+public final class Projection {
+    private static final String ANY_ELEMENT = "[*]";
+
+    /**
+     * 子字段投影，为null时表示保留整个值
+     */
+    private final Map<String, Projection> fields;
+    private final String[] paths;
+
+    private Projection(Map<String, Projection> fields, String[] paths) {
+        this.fields = fields;
+        this.paths = paths;
+    }
+
+    public static Projection of(String... paths) {
+        if (paths == null || paths.length == 0) {
+            throw new IllegalArgumentException("paths is empty.");
+        }
+        Builder root = new Builder();
+        for (String path : paths) {
+            root.add(parse(path));
+        }
+        return root.build(paths.clone());
+    }
+
+    /**
+     * 是否保留整个值
+     */
+    boolean isLeaf() {
+        return fields == null;
+    }
+
+    /**
+     * 字段对应的投影，字段未被选中时返回null
+     */
+    Projection field(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * 拆分以.分隔的路径，去掉{@code [*]}，{@link TransformSpec}使用相同的语法
+     */
+    static List<String> parse(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("path is null.");
+        }
+        List<String> names = new ArrayList<String>();
+        for (String segment : path.split("\\.", -1)) {
+            while (segment.endsWith(ANY_ELEMENT)) {
+                segment = segment.substring(0, segment.length() - ANY_ELEMENT.length());
+            }
+            if (segment.isEmpty() || segment.indexOf('[') >= 0 || segment.indexOf(']') >= 0) {
+                throw new IllegalArgumentException("invalid path : " + path);
+            }
+            names.add(segment);
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "Projection" + Arrays.toString(paths);
+    }
+
+    private static final class Builder {
+        private Map<String, Builder> children = new LinkedHashMap<String, Builder>();
+
+        void add(List<String> names) {
+            Builder node = this;
+            for (String name : names) {
+                if (node.children == null) {
+                    // 上级路径已保留整个值
+                    return;
+                }
+                Builder child = node.children.get(name);
+                if (child == null) {
+                    child = new Builder();
+                    node.children.put(name, child);
+                }
+                node = child;
+            }
+            // 路径终点保留整个值，覆盖更深的路径
+            node.children = null;
+        }
+
+        Projection build(String[] paths) {
+            if (children == null) {
+                return new Projection(null, paths);
+            }
+            Map<String, Projection> fields = new HashMap<String, Projection>(children.size() * 2);
+            for (Map.Entry<String, Builder> entry : children.entrySet()) {
+                fields.put(entry.getKey(), entry.getValue().build(null));
+            }
+            return new Projection(fields, paths);
+        }
+    }
+}
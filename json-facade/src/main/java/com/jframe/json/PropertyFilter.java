@@ -0,0 +1,16 @@
+package com.jframe.json;
+
+/**
+ * 决定字段是否输出
+ * @author jiangjian45
+ * Created at 2026/10/21 22:00
+ */
+public interface PropertyFilter extends SerializeFilter {
+    /**
+     * @param object 字段所属的对象，POJO、Map或JSONObject
+     * @param name   字段名
+     * @param value  字段值，可能为null
+     * @return false不输出该字段
+     */
+    boolean apply(Object object, String name, Object value);
+}
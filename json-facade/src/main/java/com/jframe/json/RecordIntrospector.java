@@ -0,0 +1,15 @@
+package com.jframe.json;
+
+/**
+ * record的识别与组件读取，由{@link Platform#recordIntrospector()}提供，Java 8上没有实现
+ * @author jiangjian45
+ * Created at 2026/10/22 09:30
+ */
+interface RecordIntrospector {
+    boolean isRecord(Class<?> clazz);
+
+    /**
+     * 查找组件的访问器与规范构造器，结果随jackson的序列化器缓存，每个类只调用一次
+     */
+    RecordModule.Components components(Class<?> clazz);
+}
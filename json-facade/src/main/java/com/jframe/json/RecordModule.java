@@ -0,0 +1,216 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * record的序列化与反序列化，jackson 2.11不识别record。
+ * 组件的读取与规范构造器的调用使用{@link RecordIntrospector}提供的MethodHandle，不经过反射；
+ * 只在{@link Platform#recordIntrospector()}有实现时注册，Java 8上不注册
+ * @author jiangjian45
+ * Created at 2026/10/21 18:10
+ */
+final class RecordModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    private final transient RecordIntrospector records;
+
+    RecordModule(RecordIntrospector records) {
+        super("json-facade-record");
+        this.records = records;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                Class<?> clazz = type.getRawClass();
+                return records.isRecord(clazz) ? new RecordSerializer(records.components(clazz)) : null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+                Class<?> clazz = type.getRawClass();
+                if (!records.isRecord(clazz)) {
+                    return null;
+                }
+                Components components = records.components(clazz);
+                JavaType[] types = new JavaType[components.types.length];
+                for (int i = 0; i < types.length; i++) {
+                    types[i] = config.getTypeFactory().constructType(components.types[i]);
+                }
+                return new RecordDeserializer(clazz, components, types);
+            }
+        });
+    }
+
+    /**
+     * record的组件名、类型、访问器与规范构造器。
+     * accessors的类型统一为(Object)Object，constructor的类型为(Object[])Object
+     */
+    static final class Components {
+        final String[] names;
+        final Type[] types;
+        final Class<?>[] rawTypes;
+        final MethodHandle[] accessors;
+        final MethodHandle constructor;
+
+        Components(String[] names, Type[] types, Class<?>[] rawTypes, MethodHandle[] accessors, MethodHandle constructor) {
+            this.names = names;
+            this.types = types;
+            this.rawTypes = rawTypes;
+            this.accessors = accessors;
+            this.constructor = constructor;
+        }
+
+        Object get(int i, Object record) {
+            try {
+                return (Object) accessors[i].invokeExact(record);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        Object newInstance(Object[] args) {
+            try {
+                return (Object) constructor.invokeExact(args);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            if (e instanceof RuntimeException) {
+                return (RuntimeException) e;
+            }
+            return new JsonConvertException((Exception) e);
+        }
+    }
+
+    /**
+     * 按声明顺序输出组件，与全局配置一致跳过null值
+     */
+    private static final class RecordSerializer extends JsonSerializer<Object> {
+        private final Components components;
+        private final SerializedString[] names;
+
+        RecordSerializer(Components components) {
+            this.components = components;
+            this.names = new SerializedString[components.names.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = new SerializedString(components.names[i]);
+            }
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            FilterChain chain = FilterChain.of(provider);
+            if (chain != null) {
+                serialize(value, gen, provider, chain);
+                return;
+            }
+            gen.writeStartObject(value);
+            for (int i = 0; i < names.length; i++) {
+                Object component = components.get(i, value);
+                if (component == null) {
+                    continue;
+                }
+                gen.writeFieldName(names[i]);
+                provider.defaultSerializeValue(component, gen);
+            }
+            gen.writeEndObject();
+        }
+
+        private void serialize(Object value, JsonGenerator gen, SerializerProvider provider, FilterChain chain)
+                throws IOException {
+            gen.writeStartObject(value);
+            for (int i = 0; i < names.length; i++) {
+                String name = components.names[i];
+                Object component = components.get(i, value);
+                if (!chain.apply(value, name, component)) {
+                    continue;
+                }
+                String outputName = chain.name(value, name, component);
+                Object output = chain.value(value, name, component);
+                if (output == null) {
+                    continue;
+                }
+                gen.writeFieldName(outputName);
+                provider.defaultSerializeValue(output, gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * 收集全部组件后调用规范构造器。与全局配置一致，未知字段忽略，key先精确匹配再忽略大小写匹配，
+     * 缺失或为null的基本类型组件取默认值
+     */
+    private static final class RecordDeserializer extends JsonDeserializer<Object> {
+        private final Class<?> type;
+        private final Components components;
+        private final JavaType[] types;
+        private final Object[] defaults;
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final Map<String, Integer> lowerCasePositions = new HashMap<>();
+
+        RecordDeserializer(Class<?> type, Components components, JavaType[] types) {
+            this.type = type;
+            this.components = components;
+            this.types = types;
+            this.defaults = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                positions.put(components.names[i], i);
+                lowerCasePositions.put(components.names[i].toLowerCase(Locale.ROOT), i);
+                if (components.rawTypes[i].isPrimitive()) {
+                    // 长度为1的基本类型数组中的元素即为默认值
+                    defaults[i] = Array.get(Array.newInstance(components.rawTypes[i], 1), 0);
+                }
+            }
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return ctxt.handleUnexpectedToken(type, p);
+            }
+            Object[] args = defaults.clone();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.getCurrentName();
+                Integer position = positions.get(name);
+                if (position == null) {
+                    position = lowerCasePositions.get(name.toLowerCase(Locale.ROOT));
+                }
+                if (p.nextToken() == JsonToken.VALUE_NULL || position == null) {
+                    p.skipChildren();
+                    continue;
+                }
+                args[position] = ctxt.readValue(p, types[position]);
+            }
+            return components.newInstance(args);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 按编译后的{@link JSONSchema.Node}在token流上执行一次校验。
+ * build为false时没有约束的子树直接跳过，不创建任何值；build为true时同时构建与{@link JSON#parseObject(String)}相同的JSONObject。
+ * 错误路径只在出错时生成，非线程安全，每次校验新建
+ * @author jiangjian45
+ * Created at 2026/10/21 10:40
+ */
+final class SchemaValidator {
+    /**
+     * 错误数达到上限时中止遍历，不需要堆栈
+     */
+    private static final RuntimeException STOP = new RuntimeException("stop", null, false, false) {
+        private static final long serialVersionUID = 1L;
+    };
+
+    private final int maxErrors;
+    private final boolean build;
+    private final JSONTreeReader treeReader = JSONTreeReader.of(Concurrency.NONE);
+    private final List<String> errors = new ArrayList<String>(1);
+
+    /**
+     * 当前路径，String为属性名，Integer为数组下标
+     */
+    private Object[] path = new Object[16];
+    private int depth;
+
+    SchemaValidator(int maxErrors, boolean build) {
+        this.maxErrors = maxErrors;
+        this.build = build;
+    }
+
+    List<String> getErrors() {
+        return errors;
+    }
+
+    List<String> validate(JsonParser parser, JSONSchema.Node root) throws IOException {
+        read(parser, root);
+        return errors;
+    }
+
+    /**
+     * 读取并校验根节点，build为true时返回构建的值
+     */
+    Object read(JsonParser parser, JSONSchema.Node root) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonConvertException("no content to parse");
+        }
+        try {
+            return value(parser, token, root);
+        } catch (RuntimeException e) {
+            if (e == STOP) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private Object value(JsonParser parser, JsonToken token, JSONSchema.Node node) throws IOException {
+        if (node == null || node.isAny()) {
+            return build ? treeReader.readValue(parser, token) : skip(parser);
+        }
+        if (node.isNone()) {
+            error("value is not allowed");
+            return build ? treeReader.readValue(parser, token) : skip(parser);
+        }
+        if (node.valueEnum != null) {
+            return enumValue(parser, node);
+        }
+        return checkedValue(parser, token, node);
+    }
+
+    private Object checkedValue(JsonParser parser, JsonToken token, JSONSchema.Node node) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                if (!checkType(node, JSONSchema.TYPE_OBJECT, "object")) {
+                    return build ? treeReader.readValue(parser, token) : skip(parser);
+                }
+                return object(parser, node);
+            case START_ARRAY:
+                if (!checkType(node, JSONSchema.TYPE_ARRAY, "array")) {
+                    return build ? treeReader.readValue(parser, token) : skip(parser);
+                }
+                return array(parser, node);
+            case VALUE_STRING:
+                return string(parser, node);
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return number(parser, token, node);
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                if (checkType(node, JSONSchema.TYPE_BOOLEAN, "boolean") && node.stringEnum != null) {
+                    error("value is not in enum");
+                }
+                return token == JsonToken.VALUE_TRUE ? Boolean.TRUE : Boolean.FALSE;
+            case VALUE_NULL:
+                if (checkType(node, JSONSchema.TYPE_NULL, "null") && node.stringEnum != null) {
+                    error("value is not in enum");
+                }
+                return null;
+            default:
+                return build ? treeReader.readValue(parser, token) : skip(parser);
+        }
+    }
+
+    private Object object(JsonParser parser, JSONSchema.Node node) throws IOException {
+        Map<String, Object> map = build ? new HashMap<String, Object>(16) : null;
+        String[] requiredNames = node.requiredNames;
+        boolean[] present = requiredNames == null ? null : new boolean[requiredNames.length];
+        int count = 0;
+        String key;
+        while ((key = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            count++;
+            JSONSchema.Node child = node.properties == null ? null : node.properties.get(key);
+            if (child == null) {
+                child = node.additionalProperties;
+            }
+            if (present != null) {
+                Integer index = node.required.get(key);
+                if (index != null) {
+                    present[index] = true;
+                }
+            }
+            push(key);
+            if (child != null && child.isNone() && node.additionalProperties == child) {
+                error("additional property is not allowed");
+                child = null;
+            }
+            Object value = value(parser, token, child);
+            pop();
+            if (map != null) {
+                map.put(key, value);
+            }
+        }
+        if (present != null) {
+            for (int i = 0; i < present.length; i++) {
+                if (!present[i]) {
+                    error("required property " + requiredNames[i] + " is missing");
+                }
+            }
+        }
+        if (node.minProperties >= 0 && count < node.minProperties) {
+            error("object has " + count + " properties, less than " + node.minProperties);
+        }
+        if (node.maxProperties >= 0 && count > node.maxProperties) {
+            error("object has " + count + " properties, more than " + node.maxProperties);
+        }
+        if (node.stringEnum != null) {
+            error("value is not in enum");
+        }
+        return map == null ? null : new JSONObject(map);
+    }
+
+    private Object array(JsonParser parser, JSONSchema.Node node) throws IOException {
+        List<Object> list = build ? new ArrayList<Object>() : null;
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonConvertException("unexpected end of content");
+            }
+            push(count++);
+            Object value = value(parser, token, node.items);
+            pop();
+            if (list != null) {
+                list.add(value);
+            }
+        }
+        if (node.minItems >= 0 && count < node.minItems) {
+            error("array has " + count + " items, less than " + node.minItems);
+        }
+        if (node.maxItems >= 0 && count > node.maxItems) {
+            error("array has " + count + " items, more than " + node.maxItems);
+        }
+        if (node.stringEnum != null) {
+            error("value is not in enum");
+        }
+        return list == null ? null : new JSONArray(list);
+    }
+
+    private Object string(JsonParser parser, JSONSchema.Node node) throws IOException {
+        String text = parser.getText();
+        if (!checkType(node, JSONSchema.TYPE_STRING, "string")) {
+            return text;
+        }
+        if (node.minLength >= 0 || node.maxLength >= 0) {
+            int length = text.codePointCount(0, text.length());
+            if (node.minLength >= 0 && length < node.minLength) {
+                error("string length " + length + " is less than " + node.minLength);
+            }
+            if (node.maxLength >= 0 && length > node.maxLength) {
+                error("string length " + length + " is greater than " + node.maxLength);
+            }
+        }
+        if (node.pattern != null && !node.pattern.matcher(text).find()) {
+            error("string does not match pattern " + node.pattern.pattern());
+        }
+        if (node.stringEnum != null && !node.stringEnum.contains(text)) {
+            error("value is not in enum");
+        }
+        return text;
+    }
+
+    private Object number(JsonParser parser, JsonToken token, JSONSchema.Node node) throws IOException {
+        boolean integral = token == JsonToken.VALUE_NUMBER_INT;
+        BigDecimal decimal = integral ? null : parser.getDecimalValue();
+        if (!integral && node.types != 0 && (node.types & JSONSchema.TYPE_NUMBER) == 0) {
+            // integer类型允许小数部分为0的数
+            integral = decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0;
+        }
+        int type = integral ? JSONSchema.TYPE_INTEGER : JSONSchema.TYPE_NUMBER;
+        if (!checkType(node, type, integral ? "integer" : "number")) {
+            return integral && token == JsonToken.VALUE_NUMBER_INT ? parser.getNumberValue() : decimal;
+        }
+        if (node.hasNumberBounds()) {
+            BigDecimal value = decimal != null ? decimal : toDecimal(parser);
+            if (node.minimum != null && value.compareTo(node.minimum) < 0) {
+                error(value + " is less than minimum " + node.minimum);
+            }
+            if (node.maximum != null && value.compareTo(node.maximum) > 0) {
+                error(value + " is greater than maximum " + node.maximum);
+            }
+            if (node.exclusiveMinimum != null && value.compareTo(node.exclusiveMinimum) <= 0) {
+                error(value + " is not greater than exclusiveMinimum " + node.exclusiveMinimum);
+            }
+            if (node.exclusiveMaximum != null && value.compareTo(node.exclusiveMaximum) >= 0) {
+                error(value + " is not less than exclusiveMaximum " + node.exclusiveMaximum);
+            }
+        }
+        if (node.stringEnum != null) {
+            error("value is not in enum");
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return build ? parser.getNumberValue() : null;
+        }
+        return decimal;
+    }
+
+    /**
+     * enum中包含非字符串时，先缓存该值的token，一份用于校验其他约束，一份用于构建后按规范化字节比较
+     */
+    private Object enumValue(JsonParser parser, JSONSchema.Node node) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser).forceUseOfBigDecimal(true);
+        buffer.copyCurrentStructure(parser);
+
+        JsonParser replay = buffer.asParser();
+        Object value = checkedValue(replay, replay.nextToken(), node);
+        Object tree = value;
+        if (!build) {
+            replay = buffer.asParser();
+            tree = treeReader.readValue(replay, replay.nextToken());
+        }
+        if (!node.valueEnum.contains(ByteBuffer.wrap(JSON.toCanonicalBytes(tree)))) {
+            error("value is not in enum");
+        }
+        return build ? value : null;
+    }
+
+    private boolean checkType(JSONSchema.Node node, int type, String name) {
+        if (node.types != 0 && (node.types & type) == 0) {
+            error("expected type " + typeNames(node.types) + ", but was " + name);
+            return false;
+        }
+        return true;
+    }
+
+    private static String typeNames(int types) {
+        StringBuilder sb = new StringBuilder();
+        String[] names = {"object", "array", "string", "integer", "number", "boolean", "null"};
+        for (int i = 0; i < names.length; i++) {
+            if ((types & (1 << i)) != 0) {
+                // number包含integer，只显示number
+                if (i == 3 && (types & JSONSchema.TYPE_NUMBER) != 0) {
+                    continue;
+                }
+                sb.append(sb.length() == 0 ? "" : "|").append(names[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static BigDecimal toDecimal(JsonParser parser) throws IOException {
+        switch (parser.getNumberType()) {
+            case INT:
+            case LONG:
+                return BigDecimal.valueOf(parser.getLongValue());
+            default:
+                return parser.getDecimalValue();
+        }
+    }
+
+    private static Object skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    private void push(Object segment) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth << 1);
+        }
+        path[depth++] = segment;
+    }
+
+    private void pop() {
+        depth--;
+    }
+
+    private void error(String reason) {
+        StringBuilder pointer = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            pointer.append('/').append(String.valueOf(path[i]).replace("~", "~0").replace("/", "~1"));
+        }
+        // 根节点的JSON Pointer为空串(RFC 6901)
+        errors.add(pointer.append(": ").append(reason).toString());
+        if (errors.size() >= maxErrors) {
+            throw STOP;
+        }
+    }
+}
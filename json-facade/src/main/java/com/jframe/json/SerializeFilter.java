@@ -0,0 +1,10 @@
+package com.jframe.json;
+
+/**
+ * 序列化过滤器的标记接口，实现{@link PropertyFilter}、{@link NameFilter}、{@link ValueFilter}中的一个或多个，
+ * 通过{@link JSON#toJSONString(Object, SerializeFilter...)}使用。定义方式参照Fastjson
+ * @author jiangjian45
+ * Created at 2026/10/21 22:00
+ */
+public interface SerializeFilter {
+}
@@ -0,0 +1,196 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.MapProperty;
+import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.util.List;
+
+/**
+ * 在jackson构建bean序列化器时包装每个字段的写出器，Map的序列化器通过jackson的filterId把每个entry交给{@link #MAP_ENTRY_FILTER}。
+ * 包装只在类型首次序列化时进行一次，随序列化器缓存。只注册在{@link FilterChain}使用的ObjectMapper副本上，不影响没有过滤器的序列化
+ * @author jiangjian45
+ * Created at 2026/10/21 22:20
+ */
+final class SerializeFilterModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Map序列化器使用的filterId，对应的过滤器需要注册到ObjectMapper的FilterProvider上
+     */
+    static final String MAP_FILTER_ID = "json-facade-filter";
+
+    /**
+     * 对Map的每个entry应用{@link FilterChain}，key的序列化器与内容的省略规则仍由jackson的MapSerializer处理
+     */
+    static final SimpleBeanPropertyFilter MAP_ENTRY_FILTER = new MapEntryFilter();
+
+    SerializeFilterModule() {
+        super("json-facade-filter");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                for (int i = 0; i < beanProperties.size(); i++) {
+                    BeanPropertyWriter writer = beanProperties.get(i);
+                    if (writer instanceof UnwrappingBeanPropertyWriter) {
+                        // @JsonUnwrapped的写出器在此之前已创建，按注解重新取得名称转换规则
+                        NameTransformer unwrapper = config.getAnnotationIntrospector()
+                                .findUnwrappingNameTransformer(writer.getMember());
+                        beanProperties.set(i, new FilteredUnwrappingWriter(writer, unwrapper));
+                    } else {
+                        beanProperties.set(i, new FilteredPropertyWriter(writer));
+                    }
+                }
+                return beanProperties;
+            }
+
+            @Override
+            public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                         BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                // JSONObject的序列化器自行处理过滤器，自定义的Map序列化器不过滤
+                if (serializer instanceof MapSerializer) {
+                    return ((MapSerializer) serializer).withFilterId(MAP_FILTER_ID);
+                }
+                return serializer;
+            }
+        });
+    }
+
+    private static final class FilteredPropertyWriter extends BeanPropertyWriter {
+        private static final long serialVersionUID = 1L;
+
+        FilteredPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        private FilteredPropertyWriter(BeanPropertyWriter base, PropertyName name) {
+            super(base, name);
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new FilteredPropertyWriter(this, newName);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            FilterChain chain = FilterChain.of(prov);
+            if (chain == null) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            String name = getName();
+            Object value = get(bean);
+            if (!chain.apply(bean, name, value)) {
+                return;
+            }
+            String outputName = chain.name(bean, name, value);
+            Object output = chain.value(bean, name, value);
+            if (output == value && outputName.equals(name)) {
+                // 名称与值都未改变时按原有逻辑写出，包括@JsonInclude与循环引用检查
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            if (output == null) {
+                if (_nullSerializer != null) {
+                    gen.writeFieldName(outputName);
+                    _nullSerializer.serialize(null, gen, prov);
+                }
+                return;
+            }
+            // 值未被替换时沿用字段上配置的序列化器与类型信息
+            JsonSerializer<Object> serializer = output == value ? _serializer : null;
+            if (serializer == null) {
+                serializer = prov.findValueSerializer(output.getClass(), this);
+            }
+            // 与BeanPropertyWriter相同的省略规则，作用于过滤器输出的值
+            if (_suppressableValue != null) {
+                if (_suppressableValue == MARKER_FOR_EMPTY) {
+                    if (serializer.isEmpty(prov, output)) {
+                        return;
+                    }
+                } else if (_suppressableValue.equals(output)) {
+                    return;
+                }
+            }
+            if (output == bean && _handleSelfReference(bean, gen, prov, serializer)) {
+                return;
+            }
+            gen.writeFieldName(outputName);
+            if (output == value && _typeSerializer != null) {
+                serializer.serializeWithType(output, gen, prov, _typeSerializer);
+            } else {
+                serializer.serialize(output, gen, prov);
+            }
+        }
+    }
+
+    /**
+     * {@code @JsonUnwrapped}的字段，PropertyFilter作用于整个字段，展开后的子字段由各自的写出器过滤
+     */
+    private static final class FilteredUnwrappingWriter extends UnwrappingBeanPropertyWriter {
+        private static final long serialVersionUID = 1L;
+
+        FilteredUnwrappingWriter(BeanPropertyWriter base, NameTransformer unwrapper) {
+            super(base, unwrapper);
+        }
+
+        private FilteredUnwrappingWriter(UnwrappingBeanPropertyWriter base, NameTransformer transformer, SerializedString name) {
+            super(base, transformer, name);
+        }
+
+        @Override
+        protected UnwrappingBeanPropertyWriter _new(NameTransformer transformer, SerializedString newName) {
+            return new FilteredUnwrappingWriter(this, transformer, newName);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            FilterChain chain = FilterChain.of(prov);
+            if (chain != null && !chain.apply(bean, getName(), get(bean))) {
+                return;
+            }
+            super.serializeAsField(bean, gen, prov);
+        }
+    }
+
+    private static final class MapEntryFilter extends SimpleBeanPropertyFilter {
+        @Override
+        public void serializeAsField(Object map, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+                throws Exception {
+            FilterChain chain = FilterChain.of(provider);
+            if (chain == null || !(writer instanceof MapProperty)) {
+                writer.serializeAsField(map, gen, provider);
+                return;
+            }
+            String name = writer.getName();
+            Object value = ((MapProperty) writer).getValue();
+            if (!chain.apply(map, name, value)) {
+                return;
+            }
+            String outputName = chain.name(map, name, value);
+            Object output = chain.value(map, name, value);
+            if (output == value && outputName.equals(name)) {
+                // 名称与值都未改变时由MapProperty写出，key使用MapSerializer的key序列化器
+                writer.serializeAsField(map, gen, provider);
+                return;
+            }
+            if (output == null) {
+                return;
+            }
+            gen.writeFieldName(outputName);
+            provider.findValueSerializer(output.getClass(), writer).serialize(output, gen, provider);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.jframe.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 字符串值去重表，解析为JSONObject/JSONArray时相同的短字符串值(status、currency、country等)共享同一个String实例，
+ * 通过{@link JSON#setStringDedup(StringDedup)}启用。
+ * 表的大小固定，每个hash对应两个相邻的位置，都被占用时覆盖第一个，不会无限增长；
+ * String不可变，表中的读写不加锁。jackson内核命中时直接比较字符缓冲区，不创建新的String
+ * @author jiangjian45
+ * Created at 2026/10/21 23:00
+ */
+public final class StringDedup {
+    private static final int DEFAULT_MAX_ENTRIES = 4096;
+    private static final int DEFAULT_MAX_LENGTH = 32;
+    /**
+     * String对象头与字段，以及char[]/byte[]的对象头，按64位JVM开启压缩指针估算
+     */
+    private static final int STRING_OVERHEAD = 24;
+    private static final int ARRAY_OVERHEAD = 16;
+    /**
+     * Java 9起String默认使用紧凑存储，Latin-1字符占1字节；Java 8的String为char[]，每个字符2字节。
+     * 9~16运行的是多版本jar的基础层，Platform.featureVersion()仍为8，这里直接按运行时的规范版本判断
+     */
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version", "1.8").startsWith("1.");
+
+    private final String[] table;
+    private final int mask;
+    private final int maxLength;
+    /**
+     * 只对这些字段的值去重，为null时不限字段，数组元素同样去重
+     */
+    private final Set<String> fields;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * 最多4096个值，长度不超过32的字符串值都去重
+     */
+    public StringDedup() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param maxEntries 表的大小，向上取整为2的幂
+     * @param maxLength  去重的字符串值的最大长度
+     */
+    public StringDedup(int maxEntries, int maxLength) {
+        this(maxEntries, maxLength, (Set<String>) null);
+    }
+
+    /**
+     * @param maxEntries 表的大小，向上取整为2的幂
+     * @param maxLength  去重的字符串值的最大长度
+     * @param fields     只对这些字段的值去重
+     */
+    public StringDedup(int maxEntries, int maxLength, String... fields) {
+        this(maxEntries, maxLength, toSet(fields));
+    }
+
+    private StringDedup(int maxEntries, int maxLength, Set<String> fields) {
+        if (maxEntries <= 0 || maxLength <= 0) {
+            throw new IllegalArgumentException("maxEntries and maxLength must be positive.");
+        }
+        int size = Math.max(2, Integer.highestOneBit(maxEntries));
+        if (size < maxEntries) {
+            size <<= 1;
+        }
+        this.table = new String[size];
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+        this.fields = fields;
+    }
+
+    private static Set<String> toSet(String[] fields) {
+        if (fields == null) {
+            throw new IllegalArgumentException("fields is null.");
+        }
+        return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(fields)));
+    }
+
+    /**
+     * 去重一个字符串值
+     *
+     * @param field 值所在的字段名，数组元素为null
+     * @param value 字符串值
+     * @return 表中相同内容的实例，没有时返回value并放入表中
+     */
+    public String dedup(String field, String value) {
+        if (value == null || !accepts(field, value.length())) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int slot = slot(hash);
+        String cached = table[slot];
+        if (value.equals(cached)) {
+            return hit(cached);
+        }
+        cached = table[slot ^ 1];
+        if (value.equals(cached)) {
+            return hit(cached);
+        }
+        return miss(slot, value);
+    }
+
+    /**
+     * 按字符缓冲区中的内容去重，命中时不创建String
+     */
+    String dedup(String field, char[] chars, int offset, int length) {
+        if (!accepts(field, length)) {
+            return new String(chars, offset, length);
+        }
+        // 与String.hashCode()一致，两种入口共用同一个位置
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = slot(hash);
+        String cached = table[slot];
+        if (matches(cached, chars, offset, length)) {
+            return hit(cached);
+        }
+        cached = table[slot ^ 1];
+        if (matches(cached, chars, offset, length)) {
+            return hit(cached);
+        }
+        return miss(slot, new String(chars, offset, length));
+    }
+
+    private boolean accepts(String field, int length) {
+        return length <= maxLength && (fields == null || field != null && fields.contains(field));
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean matches(String cached, char[] chars, int offset, int length) {
+        if (cached == null || cached.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cached.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String hit(String cached) {
+        hits.increment();
+        savedBytes.add(STRING_OVERHEAD + ((ARRAY_OVERHEAD + valueBytes(cached) + 7) & ~7));
+        return cached;
+    }
+
+    /**
+     * String内部数组的字节数，紧凑存储下含有Latin-1以外字符的String按UTF-16存储
+     */
+    private static int valueBytes(String value) {
+        int length = value.length();
+        if (!COMPACT_STRINGS) {
+            return length << 1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                return length << 1;
+            }
+        }
+        return length;
+    }
+
+    private String miss(int slot, String value) {
+        misses.increment();
+        if (table[slot] != null && table[slot ^ 1] == null) {
+            slot ^= 1;
+        }
+        table[slot] = value;
+        return value;
+    }
+
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    public StringDedupStats stats() {
+        int size = 0;
+        for (String value : table) {
+            if (value != null) {
+                size++;
+            }
+        }
+        return new StringDedupStats(hits.sum(), misses.sum(), size, savedBytes.sum());
+    }
+}
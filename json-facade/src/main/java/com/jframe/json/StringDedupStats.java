@@ -0,0 +1,56 @@
+package com.jframe.json;
+
+/**
+ * 字符串值去重表的统计快照
+ * @author jiangjian45
+ * Created at 2026/10/21 23:10
+ */
+public final class StringDedupStats {
+    private final long hits;
+    private final long misses;
+    private final int size;
+    private final long savedBytes;
+
+    public StringDedupStats(long hits, long misses, int size, long savedBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+        this.savedBytes = savedBytes;
+    }
+
+    /**
+     * 复用了表中实例的次数
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * 表中当前的字符串个数
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 命中时省下的String与内部数组的估算字节数，按64位JVM、压缩指针计算，Java 8按char[]、9及以上按紧凑字符串计算
+     */
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0D : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "StringDedupStats{hits=" + hits + ", misses=" + misses + ", size=" + size + ", savedBytes=" + savedBytes
+                + ", hitRate=" + String.format("%.4f", getHitRate()) + '}';
+    }
+}
@@ -0,0 +1,149 @@
+package com.jframe.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁分段缓冲区池。
+ * 按线程id散列到分段，每个分段中每种缓冲区最多保留{@code buffersPerSlot}个，通过CAS取出/放回，
+ * 不依赖ThreadLocal，平台线程与大量虚拟线程的复用效果一致，池的总容量有上限，超过{@code maxBufferSize}的缓冲区不回收
+ * @author jiangjian45
+ * Created at 2026/10/20 17:10
+ */
+public final class StripedBufferPool implements BufferPool {
+    /**
+     * 每种缓冲区(byte/char)支持的slot数，jackson目前各使用4个
+     */
+    private static final int MAX_SLOTS = 8;
+    private static final int DEFAULT_BUFFERS_PER_SLOT = 2;
+    private static final int DEFAULT_MAX_BUFFER_SIZE = 64 * 1024;
+
+    private final AtomicReferenceArray<byte[]>[] byteStripes;
+    private final AtomicReferenceArray<char[]>[] charStripes;
+    private final int stripeMask;
+    private final int buffersPerSlot;
+    private final int maxBufferSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+
+    /**
+     * 分段数为CPU核数的2倍
+     */
+    public StripedBufferPool() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_BUFFERS_PER_SLOT, DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * @param stripes        分段数，向上取整为2的幂
+     * @param buffersPerSlot 每个分段中每种缓冲区保留的个数
+     * @param maxBufferSize  可回收的缓冲区最大长度
+     */
+    @SuppressWarnings("unchecked")
+    public StripedBufferPool(int stripes, int buffersPerSlot, int maxBufferSize) {
+        if (stripes <= 0 || buffersPerSlot <= 0 || maxBufferSize <= 0) {
+            throw new IllegalArgumentException("stripes, buffersPerSlot and maxBufferSize must be positive.");
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripeMask = size - 1;
+        this.buffersPerSlot = buffersPerSlot;
+        this.maxBufferSize = maxBufferSize;
+        this.byteStripes = new AtomicReferenceArray[size];
+        this.charStripes = new AtomicReferenceArray[size];
+        for (int i = 0; i < size; i++) {
+            byteStripes[i] = new AtomicReferenceArray<byte[]>(MAX_SLOTS * buffersPerSlot);
+            charStripes[i] = new AtomicReferenceArray<char[]>(MAX_SLOTS * buffersPerSlot);
+        }
+    }
+
+    @Override
+    public byte[] allocBytes(int slot, int minSize) {
+        if (slot < 0 || slot >= MAX_SLOTS) {
+            misses.increment();
+            return null;
+        }
+        AtomicReferenceArray<byte[]> stripe = byteStripes[stripe()];
+        int start = slot * buffersPerSlot;
+        for (int i = start, end = start + buffersPerSlot; i < end; i++) {
+            byte[] buffer = stripe.get(i);
+            if (buffer != null && buffer.length >= minSize && stripe.compareAndSet(i, buffer, null)) {
+                hits.increment();
+                return buffer;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    public void releaseBytes(int slot, byte[] buffer) {
+        if (buffer == null || slot < 0 || slot >= MAX_SLOTS || buffer.length > maxBufferSize) {
+            drops.increment();
+            return;
+        }
+        AtomicReferenceArray<byte[]> stripe = byteStripes[stripe()];
+        int start = slot * buffersPerSlot;
+        for (int i = start, end = start + buffersPerSlot; i < end; i++) {
+            if (stripe.get(i) == null && stripe.compareAndSet(i, null, buffer)) {
+                releases.increment();
+                return;
+            }
+        }
+        drops.increment();
+    }
+
+    @Override
+    public char[] allocChars(int slot, int minSize) {
+        if (slot < 0 || slot >= MAX_SLOTS) {
+            misses.increment();
+            return null;
+        }
+        AtomicReferenceArray<char[]> stripe = charStripes[stripe()];
+        int start = slot * buffersPerSlot;
+        for (int i = start, end = start + buffersPerSlot; i < end; i++) {
+            char[] buffer = stripe.get(i);
+            if (buffer != null && buffer.length >= minSize && stripe.compareAndSet(i, buffer, null)) {
+                hits.increment();
+                return buffer;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    public void releaseChars(int slot, char[] buffer) {
+        if (buffer == null || slot < 0 || slot >= MAX_SLOTS || buffer.length > maxBufferSize) {
+            drops.increment();
+            return;
+        }
+        AtomicReferenceArray<char[]> stripe = charStripes[stripe()];
+        int start = slot * buffersPerSlot;
+        for (int i = start, end = start + buffersPerSlot; i < end; i++) {
+            if (stripe.get(i) == null && stripe.compareAndSet(i, null, buffer)) {
+                releases.increment();
+                return;
+            }
+        }
+        drops.increment();
+    }
+
+    @Override
+    public BufferPoolStats stats() {
+        return new BufferPoolStats(hits.sum(), misses.sum(), releases.sum(), drops.sum());
+    }
+
+    /**
+     * 线程id散列后取分段，虚拟线程的id同样唯一且连续分配，能均匀分布到各分段
+     */
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+}
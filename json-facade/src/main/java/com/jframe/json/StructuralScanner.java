@@ -0,0 +1,15 @@
+package com.jframe.json;
+
+/**
+ * {@link SwarParser}第一阶段的可替换实现，由{@link Platform#structuralScanner()}提供
+ * @author jiangjian45
+ * Created at 2026/10/21 18:05
+ */
+interface StructuralScanner {
+    /**
+     * 扫描结构字符与未转义的引号，通过{@link SwarParser#setIndex}写回结果
+     *
+     * @return false表示字符串未结束
+     */
+    boolean scan(byte[] bytes, SwarParser parser);
+}
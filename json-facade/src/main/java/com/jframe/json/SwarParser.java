@@ -0,0 +1,617 @@
+package com.jframe.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Engine#SWAR}的实现。
+ * <p>
+ * 第一阶段每次读取8个字节为一个long，用位运算同时比较8个字节，得到引号、反斜杠与结构字符({@code {}[]:,})的位掩码，
+ * 引号掩码做前缀异或得到字符串内部的区间，去掉字符串内的结构字符后，把所有结构字符与未转义的引号位置写入索引。
+ * 只有含反斜杠的组逐字节处理转义。
+ * <p>
+ * 第二阶段按索引构建JSONObject/JSONArray：字符串直接取两个引号之间的字节，标量值取前一个结构字符到下一个结构字符之间的字节。
+ * 任何不符合标准JSON的输入都返回{@link #FALLBACK}，由jackson重新解析。非线程安全，每次解析新建
+ * @author jiangjian45
+ * Created at 2026/10/21 16:10
+ */
+final class SwarParser {
+    /**
+     * 无法处理的输入
+     */
+    static final Object FALLBACK = new Object();
+
+    private static final RuntimeException UNSUPPORTED = new RuntimeException("unsupported", null, false, false) {
+        private static final long serialVersionUID = 1L;
+    };
+
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH = 0x8080808080808080L;
+    private static final long CASE = 0x2020202020202020L;
+    private static final long QUOTE = 0x2222222222222222L;
+    private static final long BACKSLASH = 0x5C5C5C5C5C5C5C5CL;
+    private static final long COLON = 0x3A3A3A3A3A3A3A3AL;
+    private static final long COMMA = 0x2C2C2C2C2C2C2C2CL;
+    /**
+     * '['/'{'与']'/'}'只差0x20，或上0x20后各比较一次
+     */
+    private static final long OPEN = 0x7B7B7B7B7B7B7B7BL;
+    private static final long CLOSE = 0x7D7D7D7D7D7D7D7DL;
+    private static final long SPACES = 0x2020202020202020L;
+    private static final int KEY_CACHE_SIZE = 256;
+    private static final int MAX_CACHED_KEY_LENGTH = 32;
+    /**
+     * JDK提供了更快的第一阶段实现时替换{@link #index()}，见{@link Platform#structuralScanner()}
+     */
+    private static final StructuralScanner SCANNER = Platform.structuralScanner();
+
+    private final byte[] bytes;
+    /**
+     * 按小端序读取long，JDK9+的heap ByteBuffer为一次非对齐读取
+     */
+    private final ByteBuffer words;
+    private final int length;
+    private final Concurrency concurrency;
+    private final boolean lazyNumber;
+    private final StringDedup dedup;
+
+    private int[] index;
+    private int count;
+    private int cursor;
+    /**
+     * 最近读取的值之后的位置
+     */
+    private int valueEnd;
+    private char[] chars;
+    /**
+     * 整个输入是否全是ASCII、是否含有反斜杠，由第一阶段统计，字符串没有转义时省去逐个检查
+     */
+    private boolean ascii;
+    private boolean escapes;
+    /**
+     * 本次解析中出现过的key，数组中的对象通常有相同的key，复用String与其hash
+     */
+    private final String[] keys = new String[KEY_CACHE_SIZE];
+
+    private SwarParser(byte[] bytes, Concurrency concurrency, boolean lazyNumber) {
+        this.bytes = bytes;
+        this.words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.length = bytes.length;
+        this.concurrency = concurrency;
+        this.lazyNumber = lazyNumber;
+        this.dedup = JSON.getStringDedup();
+    }
+
+    /**
+     * @param object true解析为JSONObject，false解析为JSONArray
+     * @return 解析结果，无法处理时返回{@link #FALLBACK}
+     */
+    static Object parse(byte[] utf8, boolean object, Concurrency concurrency, Feature[] features) {
+        SwarParser parser = new SwarParser(utf8, concurrency, Feature.isEnabled(features, Feature.LAZY_NUMBER));
+        try {
+            parser.index();
+            return parser.root(object ? '{' : '[');
+        } catch (RuntimeException e) {
+            if (e == UNSUPPORTED) {
+                return FALLBACK;
+            }
+            throw e;
+        }
+    }
+
+    // ---------------------------------------------------------------- 第一阶段
+
+    private void index() {
+        if (SCANNER != null && length >= 64) {
+            if (!SCANNER.scan(bytes, this)) {
+                throw UNSUPPORTED;
+            }
+            return;
+        }
+        int[] index = new int[Math.max(16, length >>> 2)];
+        int count = 0;
+        boolean escaped = false;
+        // 0或0xFF，上一组末尾是否在字符串内
+        int inString = 0;
+        long highBits = 0;
+        long backslashBits = 0;
+        for (int i = 0; i < length; i += 8) {
+            long word;
+            if (i + 8 <= length) {
+                word = words.getLong(i);
+            } else {
+                // 尾部不足8字节时用空格补齐
+                word = SPACES;
+                for (int k = 0; i + k < length; k++) {
+                    word &= ~(0xFFL << (k << 3));
+                    word |= (bytes[i + k] & 0xFFL) << (k << 3);
+                }
+            }
+            highBits |= word;
+            int quotes = moveMask(equal(word, QUOTE));
+            long backslashes = equal(word, BACKSLASH);
+            if (backslashes != 0 || escaped) {
+                backslashBits |= backslashes;
+                for (int k = 0; k < 8; k++) {
+                    if (escaped) {
+                        quotes &= ~(1 << k);
+                        escaped = false;
+                    } else if (((word >>> (k << 3)) & 0xFF) == '\\') {
+                        escaped = true;
+                    }
+                }
+            }
+            long cased = word | CASE;
+            int structural = moveMask(equal(cased, OPEN) | equal(cased, CLOSE) | equal(word, COLON) | equal(word, COMMA));
+            int inside = quotes;
+            inside ^= inside << 1;
+            inside ^= inside << 2;
+            inside ^= inside << 4;
+            inside = (inside ^ inString) & 0xFF;
+            inString = (inside & 0x80) != 0 ? 0xFF : 0;
+            int bits = (structural & ~inside) | quotes;
+            if (bits != 0) {
+                if (count + 8 > index.length) {
+                    index = Arrays.copyOf(index, index.length << 1);
+                }
+                // 固定写4个位置再按实际个数前进，避免按位数循环的分支预测失败，多写的位置会被后续覆盖
+                int n = Integer.bitCount(bits);
+                index[count] = i + Integer.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                index[count + 1] = i + Integer.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                index[count + 2] = i + Integer.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                index[count + 3] = i + Integer.numberOfTrailingZeros(bits);
+                if (n > 4) {
+                    for (int k = 4; k < n; k++) {
+                        bits &= bits - 1;
+                        index[count + k] = i + Integer.numberOfTrailingZeros(bits);
+                    }
+                }
+                count += n;
+            }
+        }
+        if (inString != 0) {
+            // 字符串未结束
+            throw UNSUPPORTED;
+        }
+        this.index = index;
+        this.count = count;
+        this.ascii = (highBits & HIGH) == 0;
+        this.escapes = backslashBits != 0;
+    }
+
+    /**
+     * 由{@link StructuralScanner}写回第一阶段的结果，index的长度须大于count
+     */
+    void setIndex(int[] index, int count, boolean ascii, boolean escapes) {
+        this.index = index;
+        this.count = count;
+        this.ascii = ascii;
+        this.escapes = escapes;
+    }
+
+    /**
+     * 与pattern相等的字节最高位为1，其余为0，字节间没有进位
+     */
+    private static long equal(long word, long pattern) {
+        long x = word ^ pattern;
+        long t = (x & LOW7) + LOW7;
+        return ~(t | x | LOW7);
+    }
+
+    /**
+     * 把每个字节的最高位收集为8位掩码，第k位对应第k个字节
+     */
+    private static int moveMask(long mask) {
+        return (int) (((mask >>> 7) * 0x0102040810204080L) >>> 56);
+    }
+
+    // ---------------------------------------------------------------- 第二阶段
+
+    private Object root(char type) {
+        int p = skipWhitespace(0);
+        if (p >= length || bytes[p] != type || count == 0 || index[0] != p) {
+            // null、其他类型的根节点与BOM交给jackson处理
+            throw UNSUPPORTED;
+        }
+        // 根节点之后的内容与jackson一样忽略
+        return type == '{' ? object() : array();
+    }
+
+    private JSONObject object() {
+        Map<String, Object> map = concurrency.newMap(16);
+        int from = index[cursor++] + 1;
+        if (peek() == '}') {
+            whitespace(from, index[cursor]);
+            valueEnd = index[cursor++] + 1;
+            return new JSONObject(map);
+        }
+        for (;;) {
+            int open = expect('"', from);
+            int close = next();
+            String key = key(open + 1, close);
+            int colon = expect(':', close + 1);
+            Object value = value(colon + 1, key);
+            if (value != null) {
+                map.put(key, value);
+            } else if (concurrency == Concurrency.NONE) {
+                map.put(key, null);
+            }
+            int separator = next();
+            whitespace(valueEnd, separator);
+            if (bytes[separator] == '}') {
+                valueEnd = separator + 1;
+                return new JSONObject(map);
+            }
+            if (bytes[separator] != ',') {
+                throw UNSUPPORTED;
+            }
+            from = separator + 1;
+        }
+    }
+
+    private JSONArray array() {
+        List<Object> list = new ArrayList<Object>();
+        int from = index[cursor++] + 1;
+        if (peek() == ']' && isWhitespace(from, index[cursor])) {
+            valueEnd = index[cursor++] + 1;
+            return new JSONArray(concurrency.newList(list));
+        }
+        for (;;) {
+            list.add(value(from, null));
+            int separator = next();
+            whitespace(valueEnd, separator);
+            if (bytes[separator] == ']') {
+                valueEnd = separator + 1;
+                return new JSONArray(concurrency.newList(list));
+            }
+            if (bytes[separator] != ',') {
+                throw UNSUPPORTED;
+            }
+            from = separator + 1;
+        }
+    }
+
+    /**
+     * 读取from之后的一个值，结束后cursor指向值之后的第一个索引
+     *
+     * @param field 值所在的字段名，数组元素为null，用于字符串值去重
+     */
+    private Object value(int from, String field) {
+        int p = skipWhitespace(from);
+        if (p >= length) {
+            throw UNSUPPORTED;
+        }
+        byte b = bytes[p];
+        if (b == '"' || b == '{' || b == '[') {
+            if (cursor >= count || index[cursor] != p) {
+                throw UNSUPPORTED;
+            }
+            if (b == '{') {
+                return object();
+            }
+            if (b == '[') {
+                return array();
+            }
+            cursor++;
+            int close = next();
+            valueEnd = close + 1;
+            String value = string(p + 1, close);
+            return dedup == null ? value : dedup.dedup(field, value);
+        }
+        if (cursor >= count) {
+            throw UNSUPPORTED;
+        }
+        int end = index[cursor];
+        while (end > p && isWhitespace(bytes[end - 1])) {
+            end--;
+        }
+        valueEnd = end;
+        return scalar(p, end);
+    }
+
+    private Object scalar(int start, int end) {
+        int len = end - start;
+        switch (bytes[start]) {
+            case 't':
+                if (len == 4 && bytes[start + 1] == 'r' && bytes[start + 2] == 'u' && bytes[start + 3] == 'e') {
+                    return Boolean.TRUE;
+                }
+                throw UNSUPPORTED;
+            case 'f':
+                if (len == 5 && bytes[start + 1] == 'a' && bytes[start + 2] == 'l' && bytes[start + 3] == 's'
+                        && bytes[start + 4] == 'e') {
+                    return Boolean.FALSE;
+                }
+                throw UNSUPPORTED;
+            case 'n':
+                if (len == 4 && bytes[start + 1] == 'u' && bytes[start + 2] == 'l' && bytes[start + 3] == 'l') {
+                    return null;
+                }
+                throw UNSUPPORTED;
+            default:
+                return number(start, end);
+        }
+    }
+
+    /**
+     * 与jackson一致：整数按大小返回Integer/Long/BigInteger，小数返回BigDecimal或JSONNumber
+     */
+    private Object number(int start, int end) {
+        int i = start;
+        boolean negative = bytes[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int digitsStart = i;
+        if (i >= end || !isDigit(bytes[i])) {
+            throw UNSUPPORTED;
+        }
+        if (bytes[i] == '0') {
+            i++;
+            if (i < end && isDigit(bytes[i])) {
+                // 前导0由jackson按宽松规则处理
+                throw UNSUPPORTED;
+            }
+        } else {
+            while (i < end && isDigit(bytes[i])) {
+                i++;
+            }
+        }
+        int digitsEnd = i;
+        boolean integral = true;
+        if (i < end && bytes[i] == '.') {
+            i = digits(i + 1, end);
+            integral = false;
+        }
+        if (i < end && (bytes[i] | 0x20) == 'e') {
+            i++;
+            if (i < end && (bytes[i] == '+' || bytes[i] == '-')) {
+                i++;
+            }
+            i = digits(i, end);
+            integral = false;
+        }
+        if (i != end) {
+            throw UNSUPPORTED;
+        }
+        if (!integral) {
+            if (lazyNumber) {
+                return JSONNumber.of(bytes, start, end - start);
+            }
+            return new BigDecimal(ascii(start, end));
+        }
+        if (digitsEnd - digitsStart <= 18) {
+            long value = 0;
+            for (int k = digitsStart; k < digitsEnd; k++) {
+                value = value * 10 + (bytes[k] - '0');
+            }
+            if (negative) {
+                value = -value;
+            }
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+        BigInteger value = new BigInteger(ascii(start, end));
+        if (value.bitLength() < 64) {
+            return value.longValue();
+        }
+        return value;
+    }
+
+    private int digits(int i, int end) {
+        int start = i;
+        while (i < end && isDigit(bytes[i])) {
+            i++;
+        }
+        if (i == start) {
+            throw UNSUPPORTED;
+        }
+        return i;
+    }
+
+    /**
+     * 按与String.hashCode相同的算法计算hash后查找缓存，内容逐字节比较。
+     * 含转义或多字节字符的key解码后长度小于字节数，不会误命中
+     */
+    private String key(int start, int end) {
+        int len = end - start;
+        if (len > MAX_CACHED_KEY_LENGTH) {
+            return string(start, end);
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+        String cached = keys[slot];
+        if (cached != null && cached.length() == len) {
+            int i = 0;
+            while (i < len && cached.charAt(i) == bytes[start + i]) {
+                i++;
+            }
+            if (i == len) {
+                return cached;
+            }
+        }
+        String key = string(start, end);
+        keys[slot] = key;
+        return key;
+    }
+
+    /**
+     * 两个引号之间的字符串，没有转义且全是ASCII时直接构造
+     */
+    private String string(int start, int end) {
+        if (escapes) {
+            for (int i = start; i < end; i++) {
+                if (bytes[i] == '\\') {
+                    return decode(start, end);
+                }
+            }
+        }
+        if (ascii) {
+            return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        // 没有转义时用JDK解码，出现替换字符说明可能有非法字节，按严格规则重新解码
+        String value = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        return value.indexOf('\uFFFD') < 0 ? value : decode(start, end);
+    }
+
+    /**
+     * 处理转义与多字节UTF-8，规则与jackson的UTF8StreamJsonParser一致
+     */
+    private String decode(int start, int end) {
+        if (chars == null || chars.length < end - start) {
+            chars = new char[Math.max(64, end - start)];
+        }
+        char[] out = chars;
+        int n = 0;
+        int i = start;
+        while (i < end) {
+            int c = bytes[i++];
+            if (c == '\\') {
+                if (i >= end) {
+                    throw UNSUPPORTED;
+                }
+                c = bytes[i++];
+                switch (c) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        out[n++] = (char) c;
+                        break;
+                    case 'b':
+                        out[n++] = '\b';
+                        break;
+                    case 'f':
+                        out[n++] = '\f';
+                        break;
+                    case 'n':
+                        out[n++] = '\n';
+                        break;
+                    case 'r':
+                        out[n++] = '\r';
+                        break;
+                    case 't':
+                        out[n++] = '\t';
+                        break;
+                    case 'u':
+                        if (i + 4 > end) {
+                            throw UNSUPPORTED;
+                        }
+                        out[n++] = (char) (hex(bytes[i]) << 12 | hex(bytes[i + 1]) << 8 | hex(bytes[i + 2]) << 4 | hex(bytes[i + 3]));
+                        i += 4;
+                        break;
+                    default:
+                        throw UNSUPPORTED;
+                }
+            } else if (c >= 0) {
+                out[n++] = (char) c;
+            } else if ((c & 0xE0) == 0xC0) {
+                out[n++] = (char) ((c & 0x1F) << 6 | continuation(i++, end));
+            } else if ((c & 0xF0) == 0xE0) {
+                int c2 = continuation(i++, end);
+                out[n++] = (char) ((c & 0x0F) << 12 | c2 << 6 | continuation(i++, end));
+            } else if ((c & 0xF8) == 0xF0) {
+                int c2 = continuation(i++, end);
+                int c3 = continuation(i++, end);
+                int codePoint = ((c & 0x07) << 18 | c2 << 12 | c3 << 6 | continuation(i++, end)) - 0x10000;
+                out[n++] = (char) (0xD800 | (codePoint >> 10));
+                out[n++] = (char) (0xDC00 | (codePoint & 0x3FF));
+            } else {
+                throw UNSUPPORTED;
+            }
+        }
+        return new String(out, 0, n);
+    }
+
+    private int continuation(int i, int end) {
+        if (i >= end || (bytes[i] & 0xC0) != 0x80) {
+            throw UNSUPPORTED;
+        }
+        return bytes[i] & 0x3F;
+    }
+
+    private static int hex(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        int lower = b | 0x20;
+        if (lower >= 'a' && lower <= 'f') {
+            return lower - 'a' + 10;
+        }
+        throw UNSUPPORTED;
+    }
+
+    private String ascii(int start, int end) {
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 下一个索引位置的字节，没有时返回0
+     */
+    private byte peek() {
+        return cursor < count ? bytes[index[cursor]] : 0;
+    }
+
+    private int next() {
+        if (cursor >= count) {
+            throw UNSUPPORTED;
+        }
+        return index[cursor++];
+    }
+
+    /**
+     * 下一个索引必须是c，且与from之间只有空白
+     */
+    private int expect(char c, int from) {
+        int p = next();
+        if (bytes[p] != c) {
+            throw UNSUPPORTED;
+        }
+        whitespace(from, p);
+        return p;
+    }
+
+    private void whitespace(int from, int to) {
+        if (!isWhitespace(from, to)) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private boolean isWhitespace(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < length && isWhitespace(bytes[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
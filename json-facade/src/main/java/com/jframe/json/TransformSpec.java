@@ -0,0 +1,183 @@
+package com.jframe.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link JSON#transform(java.io.InputStream, java.io.OutputStream, TransformSpec)}使用的改写规则：按路径改名、删除、替换或脱敏字段。
+ * 路径语法与{@link Projection}相同，以.分隔，数组对其中的每个元素生效，{@code [*]}可以省略，例如
+ * <pre>
+ * TransformSpec spec = TransformSpec.builder()
+ *         .drop("password")
+ *         .rename("user.mobile", "phone")
+ *         .mask("user.mobile", 3, 4)
+ *         .replace("items[*].cost", 0)
+ *         .build();
+ * </pre>
+ * 改名的目标是路径的最后一段，其余规则作用于原字段名；同一路径上drop与replace优先于子路径上的规则。实例不可变，可作为常量复用
+ * @author jiangjian45
+ * Created at 2026/10/21 23:40
+ */
+public final class TransformSpec {
+    private final Node root;
+    private final String description;
+
+    private TransformSpec(Node root, String description) {
+        this.root = root;
+        this.description = description;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    Node root() {
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return "TransformSpec" + description;
+    }
+
+    enum Action {
+        /**
+         * 只改名或由子路径处理
+         */
+        NONE,
+        DROP,
+        REPLACE,
+        MASK
+    }
+
+    /**
+     * 编译后的规则树，children为null时值原样复制
+     */
+    static final class Node {
+        Map<String, Node> children;
+        String rename;
+        Action action = Action.NONE;
+        Object replacement;
+        int keepPrefix;
+        int keepSuffix;
+
+        Node child(String name) {
+            return children == null ? null : children.get(name);
+        }
+    }
+
+    public static final class Builder {
+        private final List<Rule> rules = new ArrayList<Rule>();
+
+        private Builder() {
+        }
+
+        /**
+         * 将路径指向的字段改名为name
+         */
+        public Builder rename(String path, String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name is null.");
+            }
+            return add(path, Action.NONE, name, null, 0, 0);
+        }
+
+        /**
+         * 删除路径指向的字段
+         */
+        public Builder drop(String path) {
+            return add(path, Action.DROP, null, null, 0, 0);
+        }
+
+        /**
+         * 将路径指向的字段的值替换为value，value按默认的序列化方式写出
+         */
+        public Builder replace(String path, Object value) {
+            return add(path, Action.REPLACE, null, value, 0, 0);
+        }
+
+        /**
+         * 将路径指向的值全部替换为*，长度不变
+         */
+        public Builder mask(String path) {
+            return mask(path, 0, 0);
+        }
+
+        /**
+         * 保留前keepPrefix与后keepSuffix个字符，其余替换为*，长度不变。
+         * 数字与布尔值按文本脱敏后写为字符串，对象与数组中的每个标量值都脱敏，null保持不变
+         */
+        public Builder mask(String path, int keepPrefix, int keepSuffix) {
+            if (keepPrefix < 0 || keepSuffix < 0) {
+                throw new IllegalArgumentException("keepPrefix and keepSuffix must not be negative.");
+            }
+            return add(path, Action.MASK, null, null, keepPrefix, keepSuffix);
+        }
+
+        private Builder add(String path, Action action, String rename, Object replacement, int keepPrefix, int keepSuffix) {
+            rules.add(new Rule(path, Projection.parse(path), action, rename, replacement, keepPrefix, keepSuffix));
+            return this;
+        }
+
+        public TransformSpec build() {
+            if (rules.isEmpty()) {
+                throw new IllegalArgumentException("rules is empty.");
+            }
+            Node root = new Node();
+            StringBuilder description = new StringBuilder("[");
+            for (Rule rule : rules) {
+                Node node = root;
+                for (String name : rule.names) {
+                    if (node.children == null) {
+                        node.children = new HashMap<String, Node>();
+                    }
+                    Node child = node.children.get(name);
+                    if (child == null) {
+                        child = new Node();
+                        node.children.put(name, child);
+                    }
+                    node = child;
+                }
+                if (rule.rename != null) {
+                    node.rename = rule.rename;
+                }
+                if (rule.action != Action.NONE) {
+                    node.action = rule.action;
+                    node.replacement = rule.replacement;
+                    node.keepPrefix = rule.keepPrefix;
+                    node.keepSuffix = rule.keepSuffix;
+                }
+                if (description.length() > 1) {
+                    description.append(", ");
+                }
+                description.append(rule.action == Action.NONE ? "rename" : rule.action.name().toLowerCase(Locale.ROOT))
+                        .append(' ').append(rule.path);
+            }
+            return new TransformSpec(root, description.append(']').toString());
+        }
+    }
+
+    private static final class Rule {
+        final String path;
+        final List<String> names;
+        final Action action;
+        final String rename;
+        final Object replacement;
+        final int keepPrefix;
+        final int keepSuffix;
+
+        Rule(String path, List<String> names, Action action, String rename, Object replacement, int keepPrefix,
+             int keepSuffix) {
+            this.path = path;
+            this.names = names;
+            this.action = action;
+            this.rename = rename;
+            this.replacement = replacement;
+            this.keepPrefix = keepPrefix;
+            this.keepSuffix = keepSuffix;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.jframe.json;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Iterator;
-import java.util.Map;
+import java.lang.reflect.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,7 +15,266 @@ import java.util.regex.Pattern;
  */
 public class TypeUtils {
     private static final Pattern NUMBER_WITH_TRAILING_ZEROS_PATTERN = Pattern.compile("\\.0*$");
+    /**
+     * 枚举常量或方法上是否有jackson注解，每个枚举只检查一次
+     */
+    private static final ClassValue<Boolean> JACKSON_ENUMS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return JavaBeanInfo.hasJacksonAnnotations(type);
+        }
+    };
+
+
+    public static <T> T cast(Object obj, Class<T> clazz) {
+        return (T) cast(obj, (Type) clazz);
+    }
+
+    /**
+     * 将JSONObject/Map/List及标量值直接转换为目标类型，支持JavaBean、泛型集合、Map、枚举和数组，
+     * 不经过json文本；JavaBean按预先解析的setter/字段绑定，带jackson注解等无法直接绑定的类型交给jackson转换
+     *
+     * @param obj  值
+     * @param type 目标类型
+     * @return 转换后的值
+     */
+    public static <T> T cast(Object obj, Type type) {
+        return (T) castValue(obj, type);
+    }
+
+    private static Object castValue(Object obj, Type type) {
+        if (obj == null) {
+            return null;
+        }
+        if (type instanceof Class) {
+            return castToClass(obj, (Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type rawType = parameterizedType.getRawType();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (rawType instanceof Class) {
+                Class<?> rawClass = (Class<?>) rawType;
+                if (Collection.class.isAssignableFrom(rawClass) && arguments.length == 1) {
+                    return castToCollection(obj, rawClass, arguments[0]);
+                }
+                if (Map.class.isAssignableFrom(rawClass) && arguments.length == 2) {
+                    return castToMap(obj, rawClass, arguments[0], arguments[1]);
+                }
+            }
+            return JSON.mapper().convertValue(obj, JSON.mapper().getTypeFactory().constructType(type));
+        }
+        if (type instanceof GenericArrayType) {
+            return castToArray(obj, ((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof WildcardType) {
+            return castValue(obj, ((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length == 0 ? obj : castValue(obj, bounds[0]);
+        }
+        throw new JsonConvertException("can not cast to " + type + ", value : " + obj);
+    }
+
+    private static Object castToClass(Object obj, Class<?> clazz) {
+        if (clazz == Object.class) {
+            return obj;
+        }
+        if (clazz == String.class) {
+            return castToString(obj);
+        }
+        if (clazz == int.class || clazz == Integer.class) {
+            return castToInt(obj);
+        }
+        if (clazz == long.class || clazz == Long.class) {
+            return castToLong(obj);
+        }
+        if (clazz == boolean.class || clazz == Boolean.class) {
+            return castToBoolean(obj);
+        }
+        if (clazz == double.class || clazz == Double.class) {
+            return castToDouble(obj);
+        }
+        if (clazz == BigDecimal.class) {
+            return castToBigDecimal(obj);
+        }
+        if (clazz == float.class || clazz == Float.class) {
+            return castToFloat(obj);
+        }
+        if (clazz == short.class || clazz == Short.class) {
+            return castToShort(obj);
+        }
+        if (clazz == byte.class || clazz == Byte.class) {
+            return castToByte(obj);
+        }
+        if (clazz == char.class || clazz == Character.class) {
+            return castToChar(obj);
+        }
+        if (clazz == BigInteger.class) {
+            return castToBigInteger(obj);
+        }
+        if (clazz == Date.class) {
+            return castToDate(obj);
+        }
+        if (clazz == LocalDateTime.class) {
+            return castToLocalDateTime(obj);
+        }
+        if (clazz.isEnum()) {
+            return castToEnum(obj, clazz);
+        }
+        if (clazz.isArray()) {
+            return castToArray(obj, clazz.getComponentType());
+        }
+        if (clazz == JSONObject.class || clazz == Map.class) {
+            if (obj instanceof JSONObject) {
+                return obj;
+            }
+            if (obj instanceof Map) {
+                return new JSONObject((Map<String, Object>) obj);
+            }
+        }
+        if (clazz == JSONArray.class || clazz == List.class || clazz == Collection.class) {
+            if (obj instanceof JSONArray) {
+                return obj;
+            }
+            if (obj instanceof List) {
+                return new JSONArray((List<Object>) obj);
+            }
+        }
+        if (clazz.isInstance(obj)) {
+            return obj;
+        }
+        if (Collection.class.isAssignableFrom(clazz)) {
+            return castToCollection(obj, clazz, Object.class);
+        }
+        if (obj instanceof Map) {
+            JavaBeanInfo beanInfo = JavaBeanInfo.of(clazz);
+            if (beanInfo != null) {
+                return beanInfo.bind((Map<?, ?>) obj);
+            }
+        }
+        if (obj instanceof String && JSON.isJson((String) obj)) {
+            return JSON.parseObject((String) obj, clazz);
+        }
+        return JSON.mapper().convertValue(obj, clazz);
+    }
+
+    private static Object castToEnum(Object obj, Class<?> clazz) {
+        // @JsonProperty/@JsonCreator/@JsonValue等改变了枚举的写法，交给jackson
+        if (JACKSON_ENUMS.get(clazz)) {
+            return JSON.mapper().convertValue(obj, clazz);
+        }
+        Object[] constants = clazz.getEnumConstants();
+        if (obj instanceof String) {
+            String strVal = (String) obj;
+            if (strVal.length() == 0) {
+                return null;
+            }
+            for (Object constant : constants) {
+                if (((Enum<?>) constant).name().equals(strVal)) {
+                    return constant;
+                }
+            }
+        } else if (obj instanceof Number) {
+            int ordinal = ((Number) obj).intValue();
+            if (ordinal >= 0 && ordinal < constants.length) {
+                return constants[ordinal];
+            }
+        }
+        // 其余写法(如数字字符串)按jackson的规则处理，无法转换时由jackson报错
+        return JSON.mapper().convertValue(obj, clazz);
+    }
 
+    private static Object castToArray(Object obj, Type componentType) {
+        Collection<?> collection = toCollection(obj);
+        Class<?> componentClass = rawClass(componentType);
+        Object array = Array.newInstance(componentClass, collection.size());
+        int i = 0;
+        for (Object item : collection) {
+            Object element = castValue(item, componentType);
+            if (element != null || !componentClass.isPrimitive()) {
+                Array.set(array, i, element);
+            }
+            i++;
+        }
+        return array;
+    }
+
+    private static Object castToCollection(Object obj, Class<?> rawClass, Type elementType) {
+        Collection<?> source = toCollection(obj);
+        Collection<Object> collection;
+        if (rawClass.isAssignableFrom(JSONArray.class)) {
+            collection = new JSONArray(source.size());
+        } else if (rawClass.isAssignableFrom(ArrayList.class)) {
+            collection = new ArrayList<Object>(source.size());
+        } else if (rawClass.isAssignableFrom(LinkedHashSet.class)) {
+            collection = new LinkedHashSet<Object>(source.size());
+        } else if (rawClass.isAssignableFrom(TreeSet.class)) {
+            collection = new TreeSet<Object>();
+        } else {
+            return JSON.mapper().convertValue(obj, rawClass);
+        }
+        for (Object item : source) {
+            collection.add(castValue(item, elementType));
+        }
+        return collection;
+    }
+
+    private static Object castToMap(Object obj, Class<?> rawClass, Type keyType, Type valueType) {
+        if (!(obj instanceof Map)) {
+            if (obj instanceof String && JSON.isJsonObj((String) obj)) {
+                return castToMap(JSON.parseObject((String) obj), rawClass, keyType, valueType);
+            }
+            throw new JsonConvertException("can not cast to " + rawClass.getName() + ", value : " + obj);
+        }
+        Map<?, ?> source = (Map<?, ?>) obj;
+        Map<Object, Object> map;
+        if (rawClass.isAssignableFrom(JSONObject.class) && keyType == String.class) {
+            map = (Map) new JSONObject(source.size());
+        } else if (rawClass.isAssignableFrom(LinkedHashMap.class)) {
+            map = new LinkedHashMap<Object, Object>(source.size());
+        } else if (rawClass.isAssignableFrom(TreeMap.class)) {
+            map = new TreeMap<Object, Object>();
+        } else {
+            return JSON.mapper().convertValue(obj, rawClass);
+        }
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            map.put(castValue(entry.getKey(), keyType), castValue(entry.getValue(), valueType));
+        }
+        return map;
+    }
+
+    private static Collection<?> toCollection(Object obj) {
+        if (obj instanceof Collection) {
+            return (Collection<?>) obj;
+        }
+        if (obj instanceof String && JSON.isJsonArray((String) obj)) {
+            return JSON.parseArray((String) obj);
+        }
+        if (obj.getClass().isArray()) {
+            int length = Array.getLength(obj);
+            List<Object> list = new ArrayList<Object>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(Array.get(obj, i));
+            }
+            return list;
+        }
+        return Collections.singletonList(obj);
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawClass(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawClass(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        return Object.class;
+    }
 
     public static String castToString(Object value) {
         if (value == null) {
@@ -22,6 +283,80 @@ public class TypeUtils {
         return value.toString();
     }
 
+    public static Date castToDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+
+        if (value instanceof Calendar) {
+            return ((Calendar) value).getTime();
+        }
+
+        if (value instanceof LocalDateTime) {
+            return Date.from(((LocalDateTime) value).atZone(DateTimeCodec.DEFAULT_ZONE).toInstant());
+        }
+
+        if (value instanceof Number) {
+            return new Date(((Number) value).longValue());
+        }
+
+        if (value instanceof String) {
+            String strVal = ((String) value).trim();
+            if (strVal.length() == 0 //
+                    || "null".equals(strVal) //
+                    || "NULL".equals(strVal)) {
+                return null;
+            }
+            if (isEpochMillis(strVal)) {
+                return new Date(Long.parseLong(strVal));
+            }
+            return Date.from(DateTimeCodec.parseInstant(strVal, DateTimeCodec.DEFAULT_ZONE));
+        }
+
+        throw new JsonConvertException("can not cast to Date, value : " + value);
+    }
+
+    public static LocalDateTime castToLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+
+        if (value instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) value).toInstant(), DateTimeCodec.DEFAULT_ZONE);
+        }
+
+        if (value instanceof Calendar) {
+            return LocalDateTime.ofInstant(((Calendar) value).toInstant(), DateTimeCodec.DEFAULT_ZONE);
+        }
+
+        if (value instanceof Number) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Number) value).longValue()), DateTimeCodec.DEFAULT_ZONE);
+        }
+
+        if (value instanceof String) {
+            String strVal = ((String) value).trim();
+            if (strVal.length() == 0 //
+                    || "null".equals(strVal) //
+                    || "NULL".equals(strVal)) {
+                return null;
+            }
+            if (isEpochMillis(strVal)) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(strVal)), DateTimeCodec.DEFAULT_ZONE);
+            }
+            return DateTimeCodec.parseLocalDateTime(strVal);
+        }
+
+        throw new JsonConvertException("can not cast to LocalDateTime, value : " + value);
+    }
+
     public static Byte castToByte(Object value) {
         if (value == null) {
             return null;
@@ -117,6 +452,8 @@ public class TypeUtils {
             }
         } else if (value instanceof BigDecimal) {
             return (BigDecimal) value;
+        } else if (value instanceof JSONNumber) {
+            return ((JSONNumber) value).decimalValue();
         } else if (value instanceof BigInteger) {
             return new BigDecimal((BigInteger) value);
         } else if (value instanceof Map && ((Map) value).size() == 0) {
@@ -141,6 +478,10 @@ public class TypeUtils {
             return null;
         }
 
+        if (value instanceof JSONNumber) {
+            value = ((JSONNumber) value).decimalValue();
+        }
+
         if (value instanceof Float) {
             Float floatValue = (Float) value;
             if (Float.isNaN(floatValue) || Float.isInfinite(floatValue)) {
@@ -306,6 +647,14 @@ public class TypeUtils {
         return -1;
     }
 
+    /**
+     * 是否为毫秒时间戳：至少一位数字，不超过18位以保证不溢出long，其余交给DateTimeCodec解析并报告错误
+     */
+    private static boolean isEpochMillis(String str) {
+        int digits = str.charAt(0) == '+' || str.charAt(0) == '-' ? str.length() - 1 : str.length();
+        return digits > 0 && digits <= 18 && isNumber(str);
+    }
+
     public static boolean isNumber(String str) {
         for (int i = 0; i < str.length(); ++i) {
             char ch = str.charAt(i);
@@ -0,0 +1,16 @@
+package com.jframe.json;
+
+/**
+ * 替换输出的字段值，常用于脱敏
+ * @author jiangjian45
+ * Created at 2026/10/21 22:00
+ */
+public interface ValueFilter extends SerializeFilter {
+    /**
+     * @param object 字段所属的对象，POJO、Map或JSONObject
+     * @param name   原始字段名，不受NameFilter影响
+     * @param value  字段值，多个ValueFilter时为前一个的返回值
+     * @return 输出的值，返回null时不输出该字段
+     */
+    Object process(Object object, String name, Object value);
+}
@@ -0,0 +1,109 @@
+package com.jframe.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+
+/**
+ * 与JDK版本相关的实现入口，本类为Java 17版本，打包在多版本jar的META-INF/versions/17下。
+ * record通过MethodHandle读写；启动参数包含--add-modules jdk.incubator.vector时第一阶段扫描使用Vector API，
+ * 可通过系统属性json.facade.vector=false关闭；运行在21+上时识别虚拟线程
+ * @author jiangjian45
+ * Created at 2026/10/21 18:30
+ */
+final class Platform {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_PROPERTY = "json.facade.vector";
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+    private static final StructuralScanner SCANNER = loadScanner();
+    private static final RecordIntrospector RECORDS = new Records();
+
+    private Platform() {
+    }
+
+    static int featureVersion() {
+        return 17;
+    }
+
+    static RecordIntrospector recordIntrospector() {
+        return RECORDS;
+    }
+
+    static boolean isVirtualThread(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    static StructuralScanner structuralScanner() {
+        return SCANNER;
+    }
+
+    /**
+     * Thread.isVirtual()在21中正式提供，17上不存在
+     */
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * jdk.incubator.vector默认不在模块图中，未加载时不能引用VectorScanner，否则类加载失败
+     */
+    private static StructuralScanner loadScanner() {
+        if ("false".equalsIgnoreCase(System.getProperty(VECTOR_PROPERTY))
+                || !ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return null;
+        }
+        try {
+            return (StructuralScanner) Class.forName("com.jframe.json.VectorScanner").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static final class Records implements RecordIntrospector {
+        @Override
+        public boolean isRecord(Class<?> clazz) {
+            return clazz.isRecord();
+        }
+
+        /**
+         * 访问器与构造器只在此处反射查找一次，转为MethodHandle后读写不再经过反射
+         */
+        @Override
+        public RecordModule.Components components(Class<?> clazz) {
+            RecordComponent[] components = clazz.getRecordComponents();
+            String[] names = new String[components.length];
+            Type[] types = new Type[components.length];
+            Class<?>[] rawTypes = new Class<?>[components.length];
+            MethodHandle[] accessors = new MethodHandle[components.length];
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+                for (int i = 0; i < components.length; i++) {
+                    names[i] = components[i].getName();
+                    types[i] = components[i].getGenericType();
+                    rawTypes[i] = components[i].getType();
+                    accessors[i] = lookup.unreflect(components[i].getAccessor())
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                }
+                MethodHandle constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class, rawTypes))
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                return new RecordModule.Components(names, types, rawTypes, accessors, constructor);
+            } catch (ReflectiveOperationException e) {
+                throw new JsonConvertException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jframe.json;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * 使用Vector API的第一阶段实现，每次处理64字节，比较结果直接转为64位掩码，其余逻辑与{@link SwarParser}的SWAR实现一致。
+ * 依赖jdk.incubator.vector模块，只由{@link Platform}在模块存在时加载
+ * @author jiangjian45
+ * Created at 2026/10/21 18:40
+ */
+final class VectorScanner implements StructuralScanner {
+    private static final int BLOCK = 64;
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() > BLOCK
+            ? ByteVector.SPECIES_512 : ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final byte SPACE = ' ';
+
+    @Override
+    public boolean scan(byte[] bytes, SwarParser parser) {
+        int length = bytes.length;
+        int[] index = new int[Math.max(16, length >>> 2)];
+        int count = 0;
+        boolean escaped = false;
+        // 0或-1，上一块末尾是否在字符串内
+        long inString = 0;
+        boolean high = false;
+        boolean backslash = false;
+        for (int i = 0; i < length; i += BLOCK) {
+            byte[] block = bytes;
+            int offset = i;
+            if (i + BLOCK > length) {
+                // 尾部不足64字节时用空格补齐
+                byte[] tail = new byte[BLOCK];
+                Arrays.fill(tail, SPACE);
+                System.arraycopy(bytes, i, tail, 0, length - i);
+                block = tail;
+                offset = 0;
+            }
+            long quotes = 0;
+            long backslashes = 0;
+            long structural = 0;
+            for (int j = 0; j < BLOCK; j += LANES) {
+                ByteVector v = ByteVector.fromArray(SPECIES, block, offset + j);
+                ByteVector cased = v.or((byte) 0x20);
+                quotes |= v.eq((byte) '"').toLong() << j;
+                backslashes |= v.eq((byte) '\\').toLong() << j;
+                structural |= cased.eq((byte) '{').or(cased.eq((byte) '}')).or(v.eq((byte) ':')).or(v.eq((byte) ','))
+                        .toLong() << j;
+                high |= v.lt((byte) 0).anyTrue();
+            }
+            if (backslashes != 0 || escaped) {
+                backslash |= backslashes != 0;
+                for (int k = 0; k < BLOCK; k++) {
+                    if (escaped) {
+                        quotes &= ~(1L << k);
+                        escaped = false;
+                    } else if ((backslashes & (1L << k)) != 0) {
+                        escaped = true;
+                    }
+                }
+            }
+            long inside = quotes;
+            inside ^= inside << 1;
+            inside ^= inside << 2;
+            inside ^= inside << 4;
+            inside ^= inside << 8;
+            inside ^= inside << 16;
+            inside ^= inside << 32;
+            inside ^= inString;
+            inString = inside >> 63;
+            long bits = (structural & ~inside) | quotes;
+            if (bits != 0) {
+                // 多留一个位置，第二阶段可能读取index[count]
+                if (count + BLOCK + 1 > index.length) {
+                    index = Arrays.copyOf(index, Math.max(index.length << 1, count + BLOCK + 1));
+                }
+                while (bits != 0) {
+                    index[count++] = i + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+        if (inString != 0) {
+            return false;
+        }
+        parser.setIndex(index, count, !high, backslash);
+        return true;
+    }
+}
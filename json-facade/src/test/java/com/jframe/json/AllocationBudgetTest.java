@@ -0,0 +1,253 @@
+package com.jframe.json;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * 热点路径每次操作分配的字节数，超过allocation-budget-{JDK版本}.properties中的预算时失败。
+ * 预算在CI使用的JDK 8/17/21上分别实测，其他JDK没有对应的预算文件时跳过；有意增加分配时同步调整各预算文件，
+ * 使用-Dallocation.budget.report=true运行时输出每项的实测值
+ * @author jiangjian45
+ * Created at 2026/10/21 21:00
+ */
+public class AllocationBudgetTest {
+    private static final String BUDGET_FILE = "/allocation-budget-" + javaVersion() + ".properties";
+    private static final int WARMUP = 5000;
+    private static final int ITERATIONS = 2000;
+    private static final String DOCUMENT = "{\"id\":1024,\"name\":\"json-facade\",\"price\":12.50,\"enabled\":true,"
+            + "\"created\":\"2026-10-21 21:00:00\",\"tags\":[\"a\",\"b\",\"c\"],\"owner\":{\"id\":7,\"email\":\"owner@example.com\"},"
+            + "\"items\":[{\"sku\":\"A-1\",\"count\":3,\"weight\":0.25},{\"sku\":\"B-2\",\"count\":1,\"weight\":1.5}]}";
+
+    private static Properties budgets;
+    private static com.sun.management.ThreadMXBean threads;
+    /**
+     * 保存每次操作的结果，避免被JIT当作无用代码消除
+     */
+    private static volatile Object sink;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("thread allocation counter is not available", bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue("thread allocation counter is not supported", threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BUDGET_FILE)) {
+            assumeTrue("no allocation budget measured for this JDK : " + BUDGET_FILE, in != null);
+            budgets.load(in);
+        }
+    }
+
+    @Test
+    public void parseObject() {
+        assertBudget("parseObject", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return JSON.parseObject(DOCUMENT);
+            }
+        });
+        assertBudget("parseArray", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return JSON.parseArray("[1,2,3,\"a\",\"b\",null,true,1.5]");
+            }
+        });
+    }
+
+    @Test
+    public void toJSONString() {
+        final JSONObject object = JSON.parseObject(DOCUMENT);
+        assertBudget("toJSONString.object", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return JSON.toJSONString(object);
+            }
+        });
+        final JSONArray array = object.getJSONArray("items");
+        assertBudget("toJSONString.array", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return JSON.toJSONString(array);
+            }
+        });
+    }
+
+    @Test
+    public void jsonObjectGetters() {
+        final JSONObject object = JSON.parseObject(DOCUMENT);
+        assertBudget("JSONObject.getIntValue", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getIntValue("id");
+            }
+        });
+        assertBudget("JSONObject.getLong", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getLong("id");
+            }
+        });
+        assertBudget("JSONObject.getString", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getString("name");
+            }
+        });
+        assertBudget("JSONObject.getBigDecimal", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getBigDecimal("price");
+            }
+        });
+        assertBudget("JSONObject.getBooleanValue", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getBooleanValue("enabled");
+            }
+        });
+        assertBudget("JSONObject.getDate", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getDate("created");
+            }
+        });
+        assertBudget("JSONObject.getJSONObject", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return object.getJSONObject("owner");
+            }
+        });
+    }
+
+    @Test
+    public void jsonArrayGetters() {
+        final JSONArray array = JSON.parseArray("[1024,\"2048\",12.50,true,\"2026-10-21 21:00:00\",{\"a\":1}]");
+        assertBudget("JSONArray.getIntValue", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return array.getIntValue(0);
+            }
+        });
+        assertBudget("JSONArray.getLong", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return array.getLong(1);
+            }
+        });
+        assertBudget("JSONArray.getDoubleValue", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return array.getDoubleValue(2);
+            }
+        });
+        assertBudget("JSONArray.getString", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return array.getString(3);
+            }
+        });
+        assertBudget("JSONArray.getDate", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return array.getDate(4);
+            }
+        });
+        assertBudget("JSONArray.getJSONObject", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return array.getJSONObject(5);
+            }
+        });
+    }
+
+    @Test
+    public void typeUtilsCasts() {
+        final BigDecimal decimal = new BigDecimal("12.50");
+        assertBudget("TypeUtils.castToLong.string", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToLong("1234567890");
+            }
+        });
+        assertBudget("TypeUtils.castToLong.number", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToLong(decimal);
+            }
+        });
+        assertBudget("TypeUtils.castToDouble", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToDouble("12.50");
+            }
+        });
+        assertBudget("TypeUtils.castToBigDecimal", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToBigDecimal(1024L);
+            }
+        });
+        assertBudget("TypeUtils.castToDate", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToDate("2026-10-21 21:00:00");
+            }
+        });
+        assertBudget("TypeUtils.castToLocalDateTime", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToLocalDateTime("2026-10-21 21:00:00");
+            }
+        });
+        assertBudget("TypeUtils.castToString", new Callable<Object>() {
+            @Override
+            public Object call() {
+                return TypeUtils.castToString(decimal);
+            }
+        });
+    }
+
+    private static void assertBudget(String operation, Callable<Object> op) {
+        String budget = budgets.getProperty(operation);
+        assertNotNull("no budget for " + operation + " in " + BUDGET_FILE, budget);
+        long bytesPerOp = measure(op);
+        if (Boolean.getBoolean("allocation.budget.report")) {
+            System.out.println(operation + "=" + bytesPerOp);
+        }
+        long limit = Long.parseLong(budget.trim());
+        assertTrue(operation + " allocated " + bytesPerOp + " bytes/op, budget is " + limit, bytesPerOp <= limit);
+    }
+
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    private static long measure(Callable<Object> op) {
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                sink = op.call();
+            }
+            long threadId = Thread.currentThread().getId();
+            long start = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink = op.call();
+            }
+            return (threads.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 压缩格式的读写往返、分块并行gzip的拼接，以及调用方的流保持打开
+ * @author jiangjian45
+ * Created at 2026/10/23 17:00
+ */
+public class CompressionTest {
+
+    @Test
+    public void roundTrip() {
+        JSONObject document = document(2000);
+        for (Compression compression : new Compression[]{Compression.NONE, Compression.GZIP, Compression.DEFLATE}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JSON.writeCompressed(out, document, compression);
+            assertEquals(compression.name(), document,
+                    JSON.parseObject(new ByteArrayInputStream(out.toByteArray()), compression));
+            assertEquals(compression.name(), document.getJSONArray("items"), JSON.parseObject(
+                    new ByteArrayInputStream(out.toByteArray()), compression, Document.class).items);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSON.writeCompressed(out, document.getJSONArray("items"), Compression.DEFLATE);
+        assertEquals(document.getJSONArray("items"),
+                JSON.parseArray(new ByteArrayInputStream(out.toByteArray()), Compression.DEFLATE));
+    }
+
+    /**
+     * 并行压缩的输出是单个gzip member，JDK的GZIPInputStream可直接读取
+     */
+    @Test
+    public void parallelGzip() throws IOException {
+        // 约1MB，跨越多个128KB的块
+        JSONObject document = document(20000);
+        byte[] expected = JSON.toJSONString(document).getBytes(StandardCharsets.UTF_8);
+        assertTrue(expected.length > 3 * 128 * 1024);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSON.writeCompressed(out, document, Compression.GZIP, 4);
+        assertArrayEquals(expected, gunzip(out.toByteArray()));
+        assertEquals(document, JSON.parseObject(new ByteArrayInputStream(out.toByteArray()), Compression.GZIP));
+
+        try {
+            JSON.writeCompressed(new ByteArrayOutputStream(), document, Compression.DEFLATE, 4);
+            fail();
+        } catch (IllegalArgumentException expectedException) {
+            // 预期的失败
+        }
+    }
+
+    /**
+     * 任意切分的写入、恰好写满整块、不可压缩的数据与中途flush
+     */
+    @Test
+    public void blockBoundaries() throws IOException {
+        Random random = new Random(42);
+        byte[] text = JSON.toJSONString(document(300)).getBytes(StandardCharsets.UTF_8);
+        byte[] noise = new byte[40000];
+        random.nextBytes(noise);
+        int blockSize = 1024;
+        for (byte[] data : new byte[][]{text, noise, new byte[blockSize * 4], new byte[blockSize - 1], new byte[blockSize + 1]}) {
+            for (int chunk : new int[]{1, 333, blockSize, 5000}) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(out, blockSize, 3);
+                for (int off = 0; off < data.length; off += chunk) {
+                    int len = Math.min(chunk, data.length - off);
+                    if (len == 1) {
+                        gzip.write(data[off]);
+                    } else {
+                        gzip.write(data, off, len);
+                    }
+                    if (off % (chunk * 7) == 0) {
+                        gzip.flush();
+                    }
+                }
+                gzip.close();
+                assertArrayEquals("length " + data.length + " chunk " + chunk, data, gunzip(out.toByteArray()));
+            }
+        }
+    }
+
+    @Test
+    public void emptyDocument() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ParallelGzipOutputStream(out, 1024, 2).close();
+        assertArrayEquals(new byte[0], gunzip(out.toByteArray()));
+
+        for (Compression compression : new Compression[]{Compression.GZIP, Compression.DEFLATE}) {
+            out = new ByteArrayOutputStream();
+            JSON.writeCompressed(out, new JSONObject(), compression);
+            assertEquals(new JSONObject(), JSON.parseObject(new ByteArrayInputStream(out.toByteArray()), compression));
+        }
+        out = new ByteArrayOutputStream();
+        JSON.writeCompressed(out, new JSONArray(), Compression.GZIP, 2);
+        assertEquals("[]", new String(gunzip(out.toByteArray()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 写出结尾后out仍可继续写入，拼接的gzip member可按顺序读出
+     */
+    @Test
+    public void streamsStayOpen() throws IOException {
+        TrackingOutputStream out = new TrackingOutputStream();
+        JSON.writeCompressed(out, JSON.parseObject("{\"a\":1}"), Compression.GZIP);
+        JSON.writeCompressed(out, JSON.parseObject("{\"b\":2}"), Compression.GZIP, 2);
+        assertFalse(out.closed);
+        assertEquals("{\"a\":1}{\"b\":2}", new String(gunzip(out.toByteArray()), StandardCharsets.UTF_8));
+        out.write('x');
+
+        out = new TrackingOutputStream();
+        JSON.writeCompressed(out, JSON.parseObject("{\"a\":1}"), Compression.DEFLATE);
+        assertFalse(out.closed);
+
+        TrackingInputStream in = new TrackingInputStream(out.toByteArray());
+        assertEquals(JSON.parseObject("{\"a\":1}"), JSON.parseObject(in, Compression.DEFLATE));
+        assertFalse(in.closed);
+        in = new TrackingInputStream(out.toByteArray());
+        JSON.parseObject(in, Compression.DEFLATE, Document.class);
+        assertFalse(in.closed);
+    }
+
+    private static JSONObject document(int items) {
+        JSONArray array = new JSONArray();
+        for (int i = 0; i < items; i++) {
+            JSONObject item = new JSONObject();
+            item.put("id", i);
+            item.put("name", "item-" + i);
+            item.put("tags", JSON.parseArray("[\"a\",\"b\"]"));
+            array.add(item);
+        }
+        JSONObject document = new JSONObject();
+        document.put("items", array);
+        return document;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static class Document {
+        public JSONArray items;
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            if (closed) {
+                throw new IllegalStateException("closed");
+            }
+            super.write(b, off, len);
+        }
+    }
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+        boolean closed;
+
+        TrackingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
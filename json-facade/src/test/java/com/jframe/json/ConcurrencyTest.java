@@ -0,0 +1,195 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CONCURRENT模式：嵌套容器同为并发容器，increment与compute在多线程下是原子的
+ * @author jiangjian45
+ * Created at 2026/10/24 15:00
+ */
+public class ConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 2000;
+
+    @Test
+    public void nestedContainers() {
+        String text = "{\"a\":{\"b\":[{\"c\":1},[2,{\"d\":[]}]]},\"e\":[],\"f\":null}";
+        JSONObject object = JSON.parseObject(text, Concurrency.CONCURRENT);
+        assertEquals(JSON.parseObject(text).toJSONString().replace(",\"f\":null", ""), object.toJSONString());
+        assertConcurrent(object);
+        assertEquals(Concurrency.CONCURRENT, object.getJSONObject("a").getConcurrency());
+        assertEquals(Concurrency.CONCURRENT, object.getJSONObject("a").getJSONArray("b").getConcurrency());
+        // 不存在的key返回同样模式的空数组
+        assertEquals(Concurrency.CONCURRENT, object.getJSONArray("missing").getConcurrency());
+
+        JSONArray array = JSON.parseArray("[{\"a\":[1]},[{}]]", Concurrency.CONCURRENT);
+        assertConcurrent(array);
+        assertEquals(Concurrency.NONE, JSON.parseObject(text).getConcurrency());
+        assertEquals(Concurrency.CONCURRENT, new JSONObject(Concurrency.CONCURRENT).getConcurrency());
+        assertEquals(Concurrency.CONCURRENT, new JSONArray(Concurrency.CONCURRENT).getConcurrency());
+    }
+
+    /**
+     * ConcurrentHashMap不支持null，null值在解析时丢弃，put null等同于remove
+     */
+    @Test
+    public void nullValues() {
+        JSONObject object = JSON.parseObject("{\"a\":1,\"b\":null}", Concurrency.CONCURRENT);
+        assertFalse(object.containsKey("b"));
+        assertEquals(1, object.put("a", null));
+        assertFalse(object.containsKey("a"));
+        assertEquals(null, object.put("x", null));
+        assertTrue(object.isEmpty());
+    }
+
+    @Test
+    public void increment() throws Exception {
+        final JSONObject counters = new JSONObject(Concurrency.CONCURRENT);
+        counters.put("base", "10");
+        assertEquals(11L, counters.increment("base"));
+        assertEquals(1L, counters.increment("new"));
+        assertEquals(-4L, counters.increment("new", -5));
+        assertEquals(-4L, counters.getLongValue("new"));
+
+        runConcurrently(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS; i++) {
+                    counters.increment("hits");
+                    counters.increment("bytes", 3);
+                }
+            }
+        });
+        assertEquals((long) THREADS * ROUNDS, counters.getLongValue("hits"));
+        assertEquals(3L * THREADS * ROUNDS, counters.getLongValue("bytes"));
+    }
+
+    @Test
+    public void compute() throws Exception {
+        final JSONObject document = JSON.parseObject("{\"groups\":{}}", Concurrency.CONCURRENT);
+        final JSONObject groups = document.getJSONObject("groups");
+        runConcurrently(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS; i++) {
+                    final String key = "g" + (i % 10);
+                    JSONArray members = (JSONArray) groups.computeIfAbsent(key, new Function<String, Object>() {
+                        @Override
+                        public Object apply(String k) {
+                            return new JSONArray(Concurrency.CONCURRENT);
+                        }
+                    });
+                    members.add(i);
+                    groups.compute("total", new BiFunction<String, Object, Object>() {
+                        @Override
+                        public Object apply(String k, Object old) {
+                            return old == null ? 1 : (Integer) old + 1;
+                        }
+                    });
+                    groups.merge("max", i, new BiFunction<Object, Object, Object>() {
+                        @Override
+                        public Object apply(Object old, Object value) {
+                            return Math.max((Integer) old, (Integer) value);
+                        }
+                    });
+                }
+            }
+        });
+        assertEquals(THREADS * ROUNDS, groups.getIntValue("total"));
+        assertEquals(ROUNDS - 1, groups.getIntValue("max"));
+        int members = 0;
+        for (int g = 0; g < 10; g++) {
+            members += groups.getJSONArray("g" + g).size();
+        }
+        assertEquals(THREADS * ROUNDS, members);
+        // compute返回null时删除key
+        groups.computeIfPresent("total", new BiFunction<String, Object, Object>() {
+            @Override
+            public Object apply(String k, Object old) {
+                return null;
+            }
+        });
+        assertFalse(groups.containsKey("total"));
+    }
+
+    /**
+     * 并发写入与序列化同时进行，序列化不会抛出ConcurrentModificationException
+     */
+    @Test
+    public void writeWhileSerializing() throws Exception {
+        final JSONObject object = JSON.parseObject("{\"items\":[]}", Concurrency.CONCURRENT);
+        final JSONArray items = object.getJSONArray("items");
+        runConcurrently(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < ROUNDS / 10; i++) {
+                    object.put("k" + (i % 50), i);
+                    items.add(i);
+                    JSON.parseObject(object.toJSONString());
+                }
+            }
+        });
+        assertEquals(THREADS * ROUNDS / 10, items.size());
+    }
+
+    private static void assertConcurrent(Object value) {
+        if (value instanceof JSONObject) {
+            assertTrue(((JSONObject) value).getInnerMap() instanceof ConcurrentHashMap);
+            for (Object child : ((JSONObject) value).values()) {
+                assertConcurrent(child);
+            }
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            assertEquals(Concurrency.CONCURRENT, array.getConcurrency());
+            for (Object child : array) {
+                assertConcurrent(child);
+            }
+        } else {
+            assertFalse(String.valueOf(value), value instanceof Map || value instanceof List);
+        }
+    }
+
+    private static void runConcurrently(final Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        task.run();
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.junit.Test;
+
+import java.text.DateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 定长格式的快速解析、回退到DateTimeFormatter的格式，以及jackson使用的JSONDateFormat
+ * @author jiangjian45
+ * Created at 2026/10/23 14:00
+ */
+public class DateTimeCodecTest {
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    @Test
+    public void fixedPatterns() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), DateTimeCodec.parseLocalDateTime("2024-02-29"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), DateTimeCodec.parseLocalDateTime("2024-01-02 03:04:05"));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), DateTimeCodec.parseLocalDateTime("2024-01-02T03:04:05"));
+        assertEquals(LocalDateTime.of(2024, 12, 31, 23, 59, 59), DateTimeCodec.parseLocalDateTime("2024-12-31 23:59:59"));
+    }
+
+    @Test
+    public void fractionDigits() {
+        String nanos = "123456789";
+        for (int digits = 1; digits <= 9; digits++) {
+            String fraction = nanos.substring(0, digits);
+            int expected = Integer.parseInt((fraction + "000000000").substring(0, 9));
+            assertEquals(fraction, expected, DateTimeCodec.parseLocalDateTime("2024-01-02 03:04:05." + fraction).getNano());
+        }
+        assertInvalid("2024-01-02 03:04:05.1234567890");
+        assertInvalid("2024-01-02 03:04:05.");
+        assertInvalid("2024-01-02 03:04:05.12a");
+    }
+
+    @Test
+    public void invalidDates() {
+        for (String str : Arrays.asList("2024-04-31", "2024-04-31 00:00:00", "2023-02-29", "2023-02-29 12:00:00",
+                "2023-02-29T12:00:00", "2024-01-01 24:00:00", "2024-01-01T24:00:00", "2024-01-01 23:60:00",
+                "2024-01-01 23:59:60", "2024-13-01", "2024-00-01", "2024-01-00", "2024/01/01", "2024-01-01 1:02:03",
+                "-", "")) {
+            assertInvalid(str);
+        }
+    }
+
+    @Test
+    public void parseInstant() {
+        Instant midnight = Instant.parse("2024-01-01T00:00:00Z");
+        assertEquals(midnight, DateTimeCodec.parseInstant("2024-01-01 00:00:00", UTC));
+        assertEquals(midnight, DateTimeCodec.parseInstant("2024-01-01 08:00:00", ZoneId.of("Asia/Shanghai")));
+        // 自带偏移量的ISO格式不使用传入的zone
+        assertEquals(midnight, DateTimeCodec.parseInstant("2024-01-01T00:00:00Z", ZoneId.of("Asia/Shanghai")));
+        assertEquals(midnight, DateTimeCodec.parseInstant("2024-01-01T08:00:00+08:00", UTC));
+        assertEquals(midnight, DateTimeCodec.parseInstant("2023-12-31T19:00:00.000-05:00", UTC));
+        assertEquals(midnight, DateTimeCodec.parseInstant("2024-01-01T08:00:00+08:00[Asia/Shanghai]", UTC));
+        assertEquals(midnight.plusMillis(500), DateTimeCodec.parseInstant("2024-01-01T00:00:00.5", UTC));
+        try {
+            DateTimeCodec.parseInstant("2024-01-01T00:00:00+25:00", UTC);
+            fail();
+        } catch (JsonConvertException expected) {
+            // 预期的失败
+        }
+    }
+
+    @Test
+    public void format() {
+        assertEquals("0999-01-02 03:04:05", DateTimeCodec.format(LocalDateTime.of(999, 1, 2, 3, 4, 5)));
+        assertEquals("2024-12-31 23:59:59", DateTimeCodec.format(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999999999)));
+        assertEquals("1970-01-01 08:00:00", DateTimeCodec.format(0, ZoneId.of("Asia/Shanghai")));
+        assertEquals("+10000-01-01 00:00:00", DateTimeCodec.format(LocalDateTime.of(10000, 1, 1, 0, 0)));
+    }
+
+    @Test
+    public void castFromString() {
+        assertEquals(new Date(1700000000000L), TypeUtils.castToDate("1700000000000"));
+        assertEquals(new Date(-1000L), TypeUtils.castToDate("-1000"));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0).atZone(DateTimeCodec.DEFAULT_ZONE).toInstant(),
+                TypeUtils.castToDate("1970-01-01").toInstant());
+        for (String str : Arrays.asList("-", "+", "+-1", "99999999999999999999")) {
+            try {
+                TypeUtils.castToDate(str);
+                fail(str);
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+            try {
+                TypeUtils.castToLocalDateTime(str);
+                fail(str);
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+        }
+    }
+
+    /**
+     * clone得到独立的JSONDateFormat，@JsonFormat的timezone与locale仍然使用DateTimeCodec
+     */
+    @Test
+    public void jacksonDateFormat() throws Exception {
+        DateFormat format = JSON.mapper().getDateFormat();
+        DateFormat copy = (DateFormat) format.clone();
+        assertTrue(copy instanceof JSONDateFormat);
+        assertNotSame(format, copy);
+        copy.setTimeZone(TimeZone.getTimeZone("UTC"));
+        assertEquals("1970-01-01 00:00:00", copy.format(new Date(0)));
+        assertEquals(TimeZone.getTimeZone(DateTimeCodec.DEFAULT_ZONE), format.getTimeZone());
+        assertEquals(new Date(0), copy.parse("1970-01-01T00:00:00"));
+
+        Event event = new Event();
+        event.utc = new Date(0);
+        event.shanghai = new Date(0);
+        event.english = new Date(0);
+        String json = JSON.toJSONString(event);
+        assertEquals("{\"utc\":\"1970-01-01 00:00:00\",\"shanghai\":\"1970-01-01 08:00:00\",\"english\":\"1970-01-01 00:00:00\"}",
+                json);
+        Event parsed = JSON.parseObject(json, Event.class);
+        assertEquals(new Date(0), parsed.utc);
+        assertEquals(new Date(0), parsed.shanghai);
+        assertEquals(new Date(0), parsed.english);
+    }
+
+    private static void assertInvalid(String str) {
+        try {
+            DateTimeCodec.parseLocalDateTime(str);
+            fail(str);
+        } catch (JsonConvertException expected) {
+            // 预期的失败
+        }
+        try {
+            DateTimeCodec.parseInstant(str, UTC);
+            fail(str);
+        } catch (JsonConvertException expected) {
+            // 预期的失败
+        }
+    }
+
+    public static class Event {
+        @JsonFormat(timezone = "UTC")
+        public Date utc;
+        @JsonFormat(timezone = "Asia/Shanghai")
+        public Date shanghai;
+        @JsonFormat(locale = "en", timezone = "UTC")
+        public Date english;
+    }
+}
@@ -0,0 +1,127 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 字符串形式嵌入的JSON文档的三种处理方式：PARSE、WRITE_BACK与KEEP_STRING
+ * @author jiangjian45
+ * Created at 2026/10/25 11:00
+ */
+public class EmbeddedJsonTest {
+    private static final String TEXT = "{\"ext\":\"{\\\"a\\\":1,\\\"inner\\\":\\\"{\\\\\\\"b\\\\\\\":2}\\\"}\","
+            + "\"list\":\"[1,2]\"}";
+
+    /**
+     * 默认每次访问重新解析，修改解析结果不影响原字符串
+     */
+    @Test
+    public void parse() {
+        JSONObject object = JSON.parseObject(TEXT);
+        assertEquals(EmbeddedJson.PARSE, object.getEmbeddedJson());
+        JSONObject ext = object.getJSONObject("ext");
+        assertEquals(1, ext.getIntValue("a"));
+        assertNotSame(ext, object.getJSONObject("ext"));
+        assertEquals(EmbeddedJson.PARSE, ext.getEmbeddedJson());
+        ext.put("a", 2);
+        assertEquals(1, object.getJSONObject("ext").getIntValue("a"));
+        assertNotSame(object.getJSONArray("list"), object.getJSONArray("list"));
+        assertEquals(JSON.parseObject(TEXT).toJSONString(), object.toJSONString());
+    }
+
+    /**
+     * 首次访问后用解析结果替换字符串，之后的修改会被序列化，嵌套的字符串沿用同样的方式
+     */
+    @Test
+    public void writeBack() {
+        JSONObject object = JSON.parseObject(TEXT).setEmbeddedJson(EmbeddedJson.WRITE_BACK);
+        JSONObject ext = object.getJSONObject("ext");
+        assertSame(ext, object.getJSONObject("ext"));
+        assertSame(ext, object.get("ext"));
+        assertEquals(EmbeddedJson.WRITE_BACK, ext.getEmbeddedJson());
+        JSONObject inner = ext.getJSONObject("inner");
+        assertSame(inner, ext.get("inner"));
+        inner.put("c", 3);
+        ext.put("a", 5);
+        JSONArray list = object.getJSONArray("list");
+        assertSame(list, object.getJSONArray("list"));
+        list.add(3);
+        assertEquals(JSON.parseObject("{\"ext\":{\"a\":5,\"inner\":{\"b\":2,\"c\":3}},\"list\":[1,2,3]}"),
+                JSON.parseObject(object.toJSONString()));
+    }
+
+    /**
+     * 解析结果缓存在旁路中，序列化仍输出原字符串；字符串被替换后缓存失效
+     */
+    @Test
+    public void keepString() {
+        JSONObject object = JSON.parseObject(TEXT).setEmbeddedJson(EmbeddedJson.KEEP_STRING);
+        String original = object.getString("ext");
+        JSONObject ext = object.getJSONObject("ext");
+        assertSame(ext, object.getJSONObject("ext"));
+        assertSame(original, object.get("ext"));
+        assertEquals(EmbeddedJson.KEEP_STRING, ext.getEmbeddedJson());
+        assertSame(ext.getJSONObject("inner"), ext.getJSONObject("inner"));
+        ext.put("a", 5);
+        assertEquals(JSON.parseObject(TEXT).toJSONString(), object.toJSONString());
+        assertSame(object.getJSONArray("list"), object.getJSONArray("list"));
+
+        // 相同内容的新字符串实例同样重新解析
+        object.put("ext", new String(original));
+        JSONObject reparsed = object.getJSONObject("ext");
+        assertNotSame(ext, reparsed);
+        assertEquals(1, reparsed.getIntValue("a"));
+        object.put("ext", "{\"a\":9}");
+        assertEquals(9, object.getJSONObject("ext").getIntValue("a"));
+
+        // 切换回PARSE后清空缓存
+        object.setEmbeddedJson(EmbeddedJson.PARSE);
+        assertNotSame(object.getJSONObject("ext"), object.getJSONObject("ext"));
+    }
+
+    /**
+     * 并发模式下WRITE_BACK只写回一次，所有线程拿到同一个对象
+     */
+    @Test
+    public void writeBackConcurrent() throws Exception {
+        final JSONObject object = JSON.parseObject(TEXT, Concurrency.CONCURRENT).setEmbeddedJson(EmbeddedJson.WRITE_BACK);
+        final JSONObject[] results = new JSONObject[8];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    results[index] = object.getJSONObject("ext");
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (JSONObject result : results) {
+            assertSame(object.get("ext"), result);
+        }
+        assertEquals(Concurrency.CONCURRENT, results[0].getConcurrency());
+    }
+
+    @Test
+    public void frozen() {
+        JSONObject frozen = JSON.parseObject(TEXT).freeze();
+        try {
+            frozen.setEmbeddedJson(EmbeddedJson.WRITE_BACK);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            // 预期的失败
+        }
+        // 只读对象按PARSE处理，不写回
+        assertEquals(1, frozen.getJSONObject("ext").getIntValue("a"));
+        assertTrue(frozen.get("ext") instanceof String);
+    }
+}
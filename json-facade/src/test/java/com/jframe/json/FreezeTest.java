@@ -0,0 +1,213 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 冻结后的JSONObject/JSONArray：深度只读，equals与hashCode和未冻结的树一致
+ * @author jiangjian45
+ * Created at 2026/10/24 14:00
+ */
+public class FreezeTest {
+    private static final String DOCUMENT = "{\"id\":1,\"name\":\"a\",\"none\":null,\"price\":1.50,"
+            + "\"tags\":[\"x\",{\"k\":[1,2]}],\"inner\":{\"deep\":{\"v\":true}}}";
+
+    @Test
+    public void immutable() {
+        JSONObject source = JSON.parseObject(DOCUMENT);
+        JSONObject frozen = source.freeze();
+        assertTrue(frozen.isFrozen());
+        assertFalse(source.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertTrue(frozen.getJSONObject("inner").isFrozen());
+        assertTrue(frozen.getJSONObject("inner").getJSONObject("deep").isFrozen());
+        assertTrue(frozen.getJSONArray("tags").isFrozen());
+        assertTrue(frozen.getJSONArray("tags").getJSONObject(1).getJSONArray("k").isFrozen());
+
+        final JSONObject inner = frozen.getJSONObject("inner");
+        final JSONArray tags = frozen.getJSONArray("tags");
+        for (Runnable mutation : Arrays.<Runnable>asList(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.put("x", 1);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.remove("deep");
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.clear();
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.keySet().clear();
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.entrySet().iterator().next().setValue(1);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.getJSONObject("deep").put("v", false);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        tags.add(1);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        tags.set(0, "y");
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        tags.remove(0);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        Iterator<Object> iterator = tags.iterator();
+                        iterator.next();
+                        iterator.remove();
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        tags.subList(0, 1).clear();
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        tags.getJSONObject(1).getJSONArray("k").add(3);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        inner.setEmbeddedJson(EmbeddedJson.KEEP_STRING);
+                    }
+                })) {
+            try {
+                mutation.run();
+                fail();
+            } catch (UnsupportedOperationException expected) {
+                // 预期的失败
+            }
+        }
+        assertEquals(JSON.parseObject(DOCUMENT), frozen);
+    }
+
+    /**
+     * 冻结是深度复制，之后修改源对象不影响冻结的结果
+     */
+    @Test
+    public void detachedFromSource() {
+        JSONObject source = JSON.parseObject(DOCUMENT);
+        JSONObject frozen = source.freeze();
+        source.getJSONObject("inner").getJSONObject("deep").put("v", false);
+        source.getJSONArray("tags").add(3);
+        source.put("name", "b");
+        assertEquals(JSON.parseObject(DOCUMENT), frozen);
+        assertEquals(Boolean.TRUE, frozen.getJSONObject("inner").getJSONObject("deep").get("v"));
+
+        Map<String, Object> map = new HashMap<String, Object>();
+        List<Object> list = new ArrayList<Object>(Arrays.<Object>asList(1, 2));
+        map.put("list", list);
+        JSONObject object = new JSONObject(map).freeze();
+        list.add(3);
+        assertEquals(2, object.getJSONArray("list").size());
+        assertTrue(object.getJSONArray("list").isFrozen());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        JSONObject source = JSON.parseObject(DOCUMENT);
+        JSONObject frozen = source.freeze();
+        JSONObject other = JSON.parseObject(DOCUMENT).freeze();
+        assertEquals(source, frozen);
+        assertEquals(frozen, source);
+        assertEquals(frozen, other);
+        assertEquals(source.hashCode(), frozen.hashCode());
+        assertEquals(frozen.hashCode(), other.hashCode());
+        assertEquals(new HashMap<String, Object>(source), frozen);
+        assertEquals(frozen, new HashMap<String, Object>(source));
+
+        JSONArray array = source.getJSONArray("tags");
+        assertEquals(array, frozen.getJSONArray("tags"));
+        assertEquals(frozen.getJSONArray("tags"), array);
+        assertEquals(array.hashCode(), frozen.getJSONArray("tags").hashCode());
+        assertEquals(new ArrayList<Object>(array), frozen.getJSONArray("tags"));
+        assertEquals(JSON.parseArray("[]").freeze(), Collections.emptyList());
+
+        // 作为HashSet的元素与未冻结的对象互相命中
+        Set<Object> set = new HashSet<Object>();
+        set.add(frozen);
+        assertTrue(set.contains(source));
+        assertTrue(set.contains(other));
+
+        JSONObject changed = JSON.parseObject(DOCUMENT);
+        changed.getJSONObject("inner").getJSONObject("deep").put("v", false);
+        assertNotEquals(frozen, changed.freeze());
+        assertNotEquals(frozen, changed);
+        assertNotEquals(changed.freeze(), frozen);
+    }
+
+    /**
+     * 超过顺序查找阈值后按索引查找，key的顺序保持不变
+     */
+    @Test
+    public void largeObjects() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + (99 - i), i);
+        }
+        JSONObject source = new JSONObject(map);
+        JSONObject frozen = source.freeze();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, frozen.getIntValue("key" + (99 - i)));
+        }
+        assertFalse(frozen.containsKey("key100"));
+        assertEquals(null, frozen.get("key100"));
+        assertEquals(new ArrayList<String>(map.keySet()), new ArrayList<String>(frozen.keySet()));
+        assertEquals(source.toJSONString(), frozen.toJSONString());
+        assertEquals(source.hashCode(), frozen.hashCode());
+        assertEquals(source, frozen);
+    }
+}
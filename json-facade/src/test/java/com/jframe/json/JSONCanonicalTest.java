@@ -0,0 +1,163 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 规范化输出与MurmurHash3 x64 128：公开的测试向量、key排序、数字规范化和转义规则
+ * @author jiangjian45
+ * Created at 2026/10/23 11:00
+ */
+public class JSONCanonicalTest {
+    /**
+     * MurmurHash3_x64_128参考实现的输出，{seed, 输入, h1, h2}
+     */
+    private static final Object[][] VECTORS = {
+            {0, "", 0x0000000000000000L, 0x0000000000000000L},
+            {0, "hell", 0x629942693e10f867L, 0x92db0b82baeb5347L},
+            {1, "hello", 0xa78ddff5adae8d10L, 0x128900ef20900135L},
+            {2, "hello ", 0x8a486b23f422e826L, 0xf962a2c58947765fL},
+            {3, "hello w", 0x2ea59f466f6bed8cL, 0xc610990acc428a17L},
+            {4, "hello wo", 0x79f6305a386c572cL, 0x46305aed3483b94eL},
+            {5, "hello wor", 0xc2219d213ec1f1b5L, 0xa1d8e2e0a52785bdL},
+            {0, "The quick brown fox jumps over the lazy dog", 0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L},
+            {0, "The quick brown fox jumps over the lazy cog", 0x658ca970ff85269aL, 0x43fee3eaa68e5c3eL}
+    };
+
+    @Test
+    public void murmur3Vectors() {
+        for (Object[] vector : VECTORS) {
+            byte[] bytes = ((String) vector[1]).getBytes(StandardCharsets.UTF_8);
+            long[] expected = {(Long) vector[2], (Long) vector[3]};
+            Murmur3Sink sink = new Murmur3Sink((Integer) vector[0]);
+            sink.write(bytes, 0, bytes.length);
+            assertArrayEquals((String) vector[1], expected, sink.finish());
+            if ((Integer) vector[0] == 0) {
+                assertArrayEquals((String) vector[1], expected, JSON.hash128(bytes));
+                assertEquals(expected[0], JSON.hash64(bytes));
+            }
+        }
+    }
+
+    /**
+     * 按任意位置切分写入，结果与一次写入相同
+     */
+    @Test
+    public void murmur3Streaming() {
+        byte[] bytes = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        long[] expected = JSON.hash128(bytes);
+        for (int split = 0; split <= bytes.length; split++) {
+            Murmur3Sink sink = new Murmur3Sink();
+            sink.write(bytes, 0, split);
+            for (int i = split; i < bytes.length; i++) {
+                sink.write(bytes[i]);
+            }
+            assertArrayEquals("split at " + split, expected, sink.finish());
+        }
+
+        String text = "中文key与ascii混合的较长字符串，跨越多个16字节的块";
+        expected = JSON.hash128(text.getBytes(StandardCharsets.UTF_16LE));
+        for (int prefix = 0; prefix < 16; prefix++) {
+            Murmur3Sink sink = new Murmur3Sink();
+            byte[] head = text.substring(0, prefix).getBytes(StandardCharsets.UTF_16LE);
+            sink.write(head, 0, head.length);
+            sink.writeChars(text.substring(prefix));
+            assertArrayEquals("prefix " + prefix, expected, sink.finish());
+        }
+    }
+
+    @Test
+    public void keyOrder() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("b", 1);
+        map.put("a", new JSONObject(new LinkedHashMap<String, Object>(JSON.parseObject("{\"z\":1,\"y\":[{\"d\":1,\"c\":2}]}"))));
+        map.put("", 2);
+        map.put("😀", 3);
+        map.put("B", 4);
+        map.put("none", null);
+        // 按UTF-16码元排序，代理字符排在U+E000之前；值为null的key不输出
+        assertCanonical("{\"B\":4,\"a\":{\"y\":[{\"c\":2,\"d\":1}],\"z\":1},\"b\":1,\"😀\":3,\"\":2}", map);
+        assertCanonical("[null,{},[]]", Arrays.asList(null, new JSONObject(), new JSONArray()));
+        assertEquals(JSON.hash64(JSON.parseObject("{\"a\":1,\"b\":[1,2]}")), JSON.hash64(JSON.parseObject("{\"b\":[1,2],\"a\":1}")));
+    }
+
+    /**
+     * 跨越插入排序阈值的各种长度，与TreeMap的顺序一致
+     */
+    @Test
+    public void manyKeys() {
+        Random random = new Random(7);
+        for (int size : new int[]{2, 7, 8, 9, 16, 17, 100, 1000}) {
+            List<String> keys = new ArrayList<String>();
+            for (int i = 0; i < size; i++) {
+                keys.add(Integer.toString(random.nextInt(size * 10), 36) + "-" + i);
+            }
+            Collections.shuffle(keys, random);
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            for (String key : keys) {
+                map.put(key, key.length());
+            }
+            StringBuilder expected = new StringBuilder("{");
+            for (Map.Entry<String, Object> entry : new TreeMap<String, Object>(map).entrySet()) {
+                if (expected.length() > 1) {
+                    expected.append(',');
+                }
+                expected.append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+            }
+            assertCanonical(expected.append('}').toString(), map);
+        }
+    }
+
+    @Test
+    public void numbers() {
+        assertCanonical("1", 1);
+        assertCanonical("1", 1.0);
+        assertCanonical("1", new BigDecimal("1.00"));
+        assertCanonical("1.5", new BigDecimal("1.50"));
+        assertCanonical("0", -0.0);
+        assertCanonical("0", new BigDecimal("0.000"));
+        assertCanonical("0.1", 0.1);
+        assertCanonical("0.1", 0.1f);
+        assertCanonical("-12.5", new BigDecimal("-1.25e1"));
+        assertCanonical("100000000000000000000", new BigDecimal("1e20"));
+        assertCanonical("1e21", new BigDecimal("1e21"));
+        assertCanonical("1e30", BigInteger.TEN.pow(30));
+        assertCanonical("0.0000001", new BigDecimal("1e-7"));
+        assertCanonical("15e-9", new BigDecimal("1.5e-8"));
+        assertCanonical("9223372036854775807", Long.MAX_VALUE);
+        assertCanonical("\"NaN\"", Double.NaN);
+        // 解析得到的数字与等值的java数字输出一致
+        assertCanonical("[1,1.5,1e21]", JSON.parseArray("[1.000,15e-1,1000000000000000000000]"));
+    }
+
+    @Test
+    public void escapes() {
+        assertCanonical("\"\\\"\\\\\\b\\t\\n\\f\\r\\u0001\\u001f/\u007f\"", "\"\\\b\t\n\f\r\u0001\u001f/\u007f");
+        // 非ASCII字符按UTF-8原样输出，不转义
+        assertCanonical("\"é中😀\"", "é中😀");
+        // 孤立的代理字符替换为U+FFFD
+        assertCanonical("\"�a�\"", "\uD83Da\uDE00");
+        assertCanonical("[true,false,null]", Arrays.asList(true, false, null));
+    }
+
+    private static void assertCanonical(String expected, Object value) {
+        byte[] bytes = JSON.toCanonicalBytes(value);
+        assertEquals(expected, new String(bytes, StandardCharsets.UTF_8));
+        // 流式hash与先生成字节再hash的结果一致
+        assertArrayEquals(JSON.hash128(bytes), JSON.hash128(value));
+    }
+}
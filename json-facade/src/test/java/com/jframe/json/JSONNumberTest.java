@@ -0,0 +1,161 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * LAZY_NUMBER：原始文本的往返输出，以及castTo*与按BigDecimal解析时的结果一致
+ * @author jiangjian45
+ * Created at 2026/10/24 16:00
+ */
+public class JSONNumberTest {
+    private static final String[] NUMBERS = {
+            "0.0", "-0.0", "1.5", "1.50", "-2.25", "0.1", "0.30000000000000004", "123456.789", "9.999999999999999",
+            "12345678901234.5", "1234567890123456.7", "-123456789012345678.9", "1e5", "1E-5", "-1.25e+10", "2.5E3",
+            "3.141592653589793238462643383279", "1.7976931348623157e308", "4.9e-324", "1e400", "99999.99", "300.7",
+            "-129.9", "70000.5", "9223372036854775807.5", "-9223372036854775808.0"
+    };
+
+    @Test
+    public void roundTrip() {
+        for (Engine engine : new Engine[]{Engine.JACKSON, Engine.SWAR}) {
+            for (String number : NUMBERS) {
+                String text = "[" + number + ",{\"v\":" + number + "}]";
+                JSONArray array = engine.parseArray(text.getBytes(StandardCharsets.UTF_8), Concurrency.NONE,
+                        new Feature[]{Feature.LAZY_NUMBER});
+                assertTrue(number, array.get(0) instanceof JSONNumber);
+                assertTrue(number, array.getJSONObject(1).get("v") instanceof JSONNumber);
+                assertEquals(engine + " " + number, text, array.toJSONString());
+                assertEquals(engine + " " + number, text, engine.parseArray(text, Concurrency.NONE,
+                        new Feature[]{Feature.LAZY_NUMBER}).toJSONString());
+                assertEquals(number, array.get(0).toString());
+            }
+        }
+        // 整数仍为Integer/Long/BigInteger
+        JSONArray array = JSON.parseArray("[1,9223372036854775807,92233720368547758070]", Feature.LAZY_NUMBER);
+        assertEquals(Integer.class, array.get(0).getClass());
+        assertEquals(Long.class, array.get(1).getClass());
+        assertEquals(BigInteger.class, array.get(2).getClass());
+        // 未开启时为BigDecimal
+        assertEquals(BigDecimal.class, JSON.parseObject("{\"v\":1.5}").get("v").getClass());
+    }
+
+    /**
+     * castTo*对JSONNumber与同样文本的BigDecimal结果一致，超出范围时抛出同样的异常
+     */
+    @Test
+    public void castPaths() {
+        for (String number : NUMBERS) {
+            JSONNumber lazy = JSONNumber.of(number);
+            BigDecimal decimal = new BigDecimal(number);
+            assertEquals(number, decimal, lazy.decimalValue());
+            assertEquals(number, Double.parseDouble(number), lazy.doubleValue(), 0D);
+            for (Cast cast : Cast.values()) {
+                Object expected = cast.apply(decimal);
+                Object actual = cast.apply(lazy);
+                if (expected instanceof Double || expected instanceof Float) {
+                    // -0.0按BigDecimal转换时丢失符号，数值上相等即可
+                    assertEquals(cast + " " + number, ((Number) expected).doubleValue(), ((Number) actual).doubleValue(), 0D);
+                } else if (expected instanceof BigDecimal) {
+                    assertEquals(cast + " " + number, 0, ((BigDecimal) expected).compareTo((BigDecimal) actual));
+                } else {
+                    assertEquals(cast + " " + number, expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * 先取double再取long/BigDecimal，缓存的值不影响结果
+     */
+    @Test
+    public void cachedValues() {
+        JSONNumber number = JSONNumber.of("12345.678");
+        assertEquals(12345.678D, number.doubleValue(), 0D);
+        assertEquals(12345L, number.longValue());
+        assertEquals(new BigDecimal("12345.678"), number.decimalValue());
+        assertEquals(12345.678D, number.doubleValue(), 0D);
+        assertEquals(12345, number.intValue());
+
+        number = JSONNumber.of("-0.5e1");
+        assertEquals(-5L, number.longValue());
+        assertEquals(-5D, number.doubleValue(), 0D);
+    }
+
+    @Test
+    public void gettersOnLazyTree() {
+        JSONObject object = JSON.parseObject("{\"price\":19.90,\"rate\":1e-3,\"count\":3.0}", Feature.LAZY_NUMBER);
+        assertEquals(new BigDecimal("19.90"), object.getBigDecimal("price"));
+        assertEquals(19.9D, object.getDoubleValue("price"), 0D);
+        assertEquals(19, object.getIntValue("price"));
+        assertEquals(0.001D, object.getDouble("rate"), 0D);
+        assertEquals(3L, object.getLongValue("count"));
+        assertEquals(new BigDecimal("19.90"), object.getObject("price", BigDecimal.class));
+        assertEquals(Double.valueOf(19.9D), object.getObject("price", Double.class));
+        Price price = object.toJavaObject(Price.class);
+        assertEquals(new BigDecimal("19.90"), price.price);
+        assertEquals(0.001D, price.rate, 0D);
+        assertEquals(3, price.count);
+        assertEquals(JSON.parseObject(object.toJSONString()), JSON.parseObject("{\"price\":19.90,\"rate\":1e-3,\"count\":3.0}"));
+    }
+
+    @Test
+    public void equalsAndCompare() {
+        assertEquals(JSONNumber.of("1.50"), JSONNumber.of("1.50"));
+        assertEquals(JSONNumber.of("1.50").hashCode(), JSONNumber.of("1.50").hashCode());
+        String longText = "3.141592653589793238462643383279";
+        assertEquals(JSONNumber.of(longText), JSONNumber.of(longText));
+        assertEquals(JSONNumber.of(longText).hashCode(), JSONNumber.of(longText).hashCode());
+        // equals按原始文本，数值比较用compareTo
+        assertNotEquals(JSONNumber.of("1.5"), JSONNumber.of("1.50"));
+        assertEquals(0, JSONNumber.of("1.5").compareTo(JSONNumber.of("1.50")));
+        assertTrue(JSONNumber.of("-2").compareTo(JSONNumber.of("1e-9")) < 0);
+    }
+
+    private enum Cast {
+        BIG_DECIMAL, BIG_INTEGER, DOUBLE, FLOAT, LONG, INT, SHORT, BYTE, BOOLEAN;
+
+        /**
+         * @return 转换结果，抛出异常时返回异常的类型
+         */
+        Object apply(Object value) {
+            try {
+                switch (this) {
+                    case BIG_DECIMAL:
+                        return TypeUtils.castToBigDecimal(value);
+                    case BIG_INTEGER:
+                        return TypeUtils.castToBigInteger(value);
+                    case DOUBLE:
+                        return TypeUtils.castToDouble(value);
+                    case FLOAT:
+                        return TypeUtils.castToFloat(value);
+                    case LONG:
+                        return TypeUtils.castToLong(value);
+                    case INT:
+                        return TypeUtils.castToInt(value);
+                    case SHORT:
+                        return TypeUtils.castToShort(value);
+                    case BYTE:
+                        return TypeUtils.castToByte(value);
+                    default:
+                        return TypeUtils.castToBoolean(value);
+                }
+            } catch (RuntimeException e) {
+                return e.getClass();
+            }
+        }
+    }
+
+    public static class Price {
+        public BigDecimal price;
+        public double rate;
+        public int count;
+    }
+}
@@ -0,0 +1,164 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * JSON Merge Patch、JSON Patch与diff，用例取自RFC 7386/6902的附录
+ * @author jiangjian45
+ * Created at 2026/10/22 11:00
+ */
+public class JSONPatchTest {
+
+    @Test
+    public void mergePatch() {
+        assertMerge("{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"a\":null}", "{}");
+        assertMerge("{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}");
+        assertMerge("{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"c\"}", "{\"a\":[\"b\"]}", "{\"a\":[\"b\"]}");
+        assertMerge("{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}");
+        assertMerge("{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}");
+        assertMerge("{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}");
+        assertMerge("{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}");
+    }
+
+    @Test
+    public void patchOperations() {
+        assertPatch("{\"foo\":\"bar\"}", "[{\"op\":\"add\",\"path\":\"/baz\",\"value\":\"qux\"}]",
+                "{\"foo\":\"bar\",\"baz\":\"qux\"}");
+        assertPatch("{\"foo\":[\"bar\",\"baz\"]}", "[{\"op\":\"add\",\"path\":\"/foo/1\",\"value\":\"qux\"}]",
+                "{\"foo\":[\"bar\",\"qux\",\"baz\"]}");
+        assertPatch("{\"foo\":[\"bar\"]}", "[{\"op\":\"add\",\"path\":\"/foo/-\",\"value\":[\"abc\",\"def\"]}]",
+                "{\"foo\":[\"bar\",[\"abc\",\"def\"]]}");
+        assertPatch("{\"baz\":\"qux\",\"foo\":\"bar\"}", "[{\"op\":\"remove\",\"path\":\"/baz\"}]", "{\"foo\":\"bar\"}");
+        assertPatch("{\"foo\":[\"bar\",\"qux\",\"baz\"]}", "[{\"op\":\"remove\",\"path\":\"/foo/1\"}]",
+                "{\"foo\":[\"bar\",\"baz\"]}");
+        assertPatch("{\"baz\":\"qux\",\"foo\":\"bar\"}", "[{\"op\":\"replace\",\"path\":\"/baz\",\"value\":\"boo\"}]",
+                "{\"baz\":\"boo\",\"foo\":\"bar\"}");
+        assertPatch("{\"foo\":{\"bar\":\"baz\",\"waldo\":\"fred\"},\"qux\":{\"corge\":\"grault\"}}",
+                "[{\"op\":\"move\",\"from\":\"/foo/waldo\",\"path\":\"/qux/thud\"}]",
+                "{\"foo\":{\"bar\":\"baz\"},\"qux\":{\"corge\":\"grault\",\"thud\":\"fred\"}}");
+        assertPatch("{\"foo\":[\"all\",\"grass\",\"cows\",\"eat\"]}", "[{\"op\":\"move\",\"from\":\"/foo/1\",\"path\":\"/foo/3\"}]",
+                "{\"foo\":[\"all\",\"cows\",\"eat\",\"grass\"]}");
+        assertPatch("{\"/\":1,\"m~n\":2}", "[{\"op\":\"test\",\"path\":\"/~1\",\"value\":1},"
+                + "{\"op\":\"copy\",\"from\":\"/m~0n\",\"path\":\"/x\"}]", "{\"/\":1,\"m~n\":2,\"x\":2}");
+        assertPatch("{\"a\":1}", "[{\"op\":\"test\",\"path\":\"/a\",\"value\":1.0}]", "{\"a\":1}");
+    }
+
+    @Test
+    public void copyThenMutate() {
+        JSONObject target = JSON.parseObject("{\"a\":{\"x\":1,\"y\":2}}");
+        JSON.applyPatch(target, JSON.parseArray("[{\"op\":\"copy\",\"from\":\"/a\",\"path\":\"/b\"},"
+                + "{\"op\":\"add\",\"path\":\"/b/z\",\"value\":3}]"));
+        assertEquals(JSON.parseObject("{\"a\":{\"x\":1,\"y\":2},\"b\":{\"x\":1,\"y\":2,\"z\":3}}"), target);
+
+        // from已在本次修改中复制过，copy出的值仍然是独立的容器
+        target = JSON.parseObject("{\"a\":{\"x\":[1]}}");
+        JSON.applyPatch(target, JSON.parseArray("[{\"op\":\"add\",\"path\":\"/a/y\",\"value\":2},"
+                + "{\"op\":\"copy\",\"from\":\"/a\",\"path\":\"/b\"},"
+                + "{\"op\":\"add\",\"path\":\"/b/x/-\",\"value\":9},"
+                + "{\"op\":\"remove\",\"path\":\"/a/y\"}]"));
+        assertEquals(JSON.parseObject("{\"a\":{\"x\":[1]},\"b\":{\"x\":[1,9],\"y\":2}}"), target);
+    }
+
+    @Test
+    public void moveIntoChild() {
+        JSONObject target = JSON.parseObject("{\"a\":{\"b\":{}}}");
+        assertFails(target, "[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/a/b/c\"}]");
+        assertEquals(JSON.parseObject("{\"a\":{\"b\":{}}}"), target);
+
+        JSON.applyPatch(target, JSON.parseArray("[{\"op\":\"move\",\"from\":\"/a/b\",\"path\":\"/a/c\"}]"));
+        assertEquals(JSON.parseObject("{\"a\":{\"c\":{}}}"), target);
+    }
+
+    @Test
+    public void failedPatchLeavesTargetUnchanged() {
+        JSONObject target = JSON.parseObject("{\"a\":{\"b\":[1,2]},\"c\":1}");
+        JSONObject nested = target.getJSONObject("a");
+        assertFails(target, "[{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":3},{\"op\":\"remove\",\"path\":\"/missing\"}]");
+        assertFails(target, "[{\"op\":\"replace\",\"path\":\"/c\",\"value\":2},{\"op\":\"test\",\"path\":\"/c\",\"value\":1}]");
+        assertFails(target, "[{\"op\":\"add\",\"path\":\"/a/b/5\",\"value\":3}]");
+        assertFails(target, "[{\"op\":\"add\",\"path\":\"/a/b/01\",\"value\":3}]");
+        assertFails(target, "[{\"op\":\"unknown\",\"path\":\"/a\"}]");
+        assertEquals(JSON.parseObject("{\"a\":{\"b\":[1,2]},\"c\":1}"), target);
+        assertTrue(nested == target.getJSONObject("a"));
+
+        // 成功时只复制修改路径上的容器，原来的子树不被修改
+        JSON.applyPatch(target, JSON.parseArray("[{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":3}]"));
+        assertEquals(JSON.parseArray("[1,2,3]"), target.getJSONObject("a").getJSONArray("b"));
+        assertEquals(JSON.parseArray("[1,2]"), nested.getJSONArray("b"));
+    }
+
+    @Test
+    public void diff() {
+        assertDiff("{\"a\":1,\"b\":[1,2,3],\"c\":{\"d\":\"e\"}}", "{\"a\":2,\"b\":[1],\"c\":{\"f\":null},\"g\":[]}");
+        assertDiff("{\"a/b\":1,\"m~n\":{}}", "{\"a/b\":[1],\"m~n\":{\"x\":1}}");
+        assertEquals(new JSONArray(), JSON.diff(JSON.parseObject("{\"a\":1}"), JSON.parseObject("{\"a\":1.0}")));
+        assertEquals(JSON.parseArray("[{\"op\":\"replace\",\"path\":\"/a/0\",\"value\":\"x\"}]"),
+                JSON.diff(JSON.parseObject("{\"a\":[1]}"), JSON.parseObject("{\"a\":[\"x\"]}")));
+
+        Random random = new Random(20261022L);
+        for (int i = 0; i < 500; i++) {
+            assertDiff(randomObject(random, 0).toJSONString(), randomObject(random, 0).toJSONString());
+        }
+    }
+
+    private static void assertMerge(String target, String patch, String expected) {
+        assertEquals(JSON.parseObject(expected), JSON.parseObject(target).merge(JSON.parseObject(patch)));
+    }
+
+    private static void assertPatch(String target, String ops, String expected) {
+        assertEquals(JSON.parseObject(expected), JSON.applyPatch(JSON.parseObject(target), JSON.parseArray(ops)));
+    }
+
+    private static void assertFails(JSONObject target, String ops) {
+        try {
+            JSON.applyPatch(target, JSON.parseArray(ops));
+            fail("patch should fail : " + ops);
+        } catch (JsonConvertException expected) {
+            // 预期的失败
+        }
+    }
+
+    private static void assertDiff(String source, String target) {
+        JSONObject sourceObject = JSON.parseObject(source);
+        JSONArray ops = JSON.diff(sourceObject, JSON.parseObject(target));
+        assertEquals(ops.toJSONString(), JSON.parseObject(target), JSON.applyPatch(sourceObject, ops));
+    }
+
+    private static JSONObject randomObject(Random random, int depth) {
+        JSONObject object = new JSONObject();
+        int size = random.nextInt(5);
+        for (int i = 0; i < size; i++) {
+            object.put("k" + random.nextInt(6), randomValue(random, depth + 1));
+        }
+        return object;
+    }
+
+    private static Object randomValue(Random random, int depth) {
+        switch (depth > 3 ? random.nextInt(3) : random.nextInt(5)) {
+            case 0:
+                return random.nextInt(4);
+            case 1:
+                return "s" + random.nextInt(3);
+            case 2:
+                return random.nextBoolean() ? null : Boolean.TRUE;
+            case 3:
+                JSONArray array = new JSONArray();
+                int size = random.nextInt(4);
+                for (int i = 0; i < size; i++) {
+                    array.add(randomValue(random, depth + 1));
+                }
+                return array;
+            default:
+                return randomObject(random, depth);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * getByPath及其类型化的变体，路径语法与非法路径
+ * @author jiangjian45
+ * Created at 2026/10/25 10:00
+ */
+public class JSONPathTest {
+    private static final JSONObject ORDER = JSON.parseObject("{\"id\":\"42\",\"paid\":\"true\",\"amount\":\"19.90\","
+            + "\"user\":{\"name\":\"张三\",\"age\":30,\"vip\":1},"
+            + "\"items\":[{\"sku\":\"A1\",\"price\":1.5,\"qty\":2},{\"sku\":\"B2\",\"price\":2,\"qty\":\"3\"}],"
+            + "\"matrix\":[[1,2],[3,4]],\"x.y\":{\"a]b\":7},\"extra\":\"{\\\"k\\\":1}\"}");
+
+    @Test
+    public void typedVariants() {
+        assertEquals("张三", ORDER.getStringByPath("user.name"));
+        assertEquals("30", ORDER.getStringByPath("user.age"));
+        assertEquals(Long.valueOf(42), ORDER.getLongByPath("id"));
+        assertEquals(Integer.valueOf(30), ORDER.getIntegerByPath("user.age"));
+        assertEquals(Integer.valueOf(3), ORDER.getIntegerByPath("items[1].qty"));
+        assertEquals(new BigDecimal("19.90"), ORDER.getBigDecimalByPath("amount"));
+        assertEquals(new BigDecimal("1.5"), ORDER.getBigDecimalByPath("items[0].price"));
+        assertEquals(Boolean.TRUE, ORDER.getBooleanByPath("paid"));
+        assertEquals(Boolean.TRUE, ORDER.getBooleanByPath("user.vip"));
+        // 不存在的路径返回null
+        assertNull(ORDER.getStringByPath("user.missing"));
+        assertNull(ORDER.getLongByPath("items[5].qty"));
+        assertNull(ORDER.getIntegerByPath("user.name.first"));
+        assertNull(ORDER.getBigDecimalByPath("items.price"));
+        assertNull(ORDER.getBooleanByPath("missing"));
+        try {
+            ORDER.getIntegerByPath("user.name");
+            fail();
+        } catch (NumberFormatException expected) {
+            // 预期的失败
+        }
+    }
+
+    @Test
+    public void syntax() {
+        assertEquals("B2", ORDER.getByPath("$.items[1].sku"));
+        assertEquals("B2", ORDER.getByPath("items[-1].sku"));
+        assertEquals("A1", ORDER.getByPath("$['items'][0]['sku']"));
+        assertEquals("A1", ORDER.getByPath("items[ 0 ].sku"));
+        assertEquals(4, ORDER.getByPath("matrix[1][1]"));
+        assertEquals(3, ORDER.getByPath("matrix[-1][0]"));
+        // 引号中的属性名可以包含.与]
+        assertEquals(7, ORDER.getByPath("['x.y'][\"a]b\"]"));
+        assertSame(ORDER.getInnerMap(), ORDER.getByPath("$"));
+        assertSame(ORDER.get("items"), ORDER.getByPath("$.items"));
+        // 负数下标越界、对象上的下标、数组上的属性名均为null
+        assertNull(ORDER.getByPath("items[-3]"));
+        assertNull(ORDER.getByPath("user[0]"));
+        assertNull(ORDER.getByPath("items.sku"));
+        // 不解析字符串形式的JSON
+        assertNull(ORDER.getByPath("extra.k"));
+    }
+
+    /**
+     * 直接遍历Map/List，值为普通的Map或List时同样可以取到
+     */
+    @Test
+    public void plainContainers() {
+        Map<String, Object> inner = new LinkedHashMap<String, Object>();
+        inner.put("list", Arrays.asList("a", "b"));
+        JSONObject object = new JSONObject();
+        object.put("inner", inner);
+        assertEquals("b", object.getByPath("inner.list[1]"));
+    }
+
+    @Test
+    public void invalidPaths() {
+        for (String path : Arrays.asList("", "a.", ".a", "a..b", "a[0]b", "a[0].", "a[0]..b", "a.[0]", "a[", "a[x]",
+                "a[]", "a[0", "a]", "a]b", "a['b]", "a['b'c]", "a['b'", "$a", "$.", "$..a", "[0]x", "a[0]['b']c")) {
+            try {
+                ORDER.getByPath(path);
+                fail(path);
+            } catch (IllegalArgumentException expected) {
+                assertEquals("invalid path : " + path, expected.getMessage());
+            }
+        }
+        try {
+            ORDER.getByPath(null);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * schema编译与token流上的校验
+ * @author jiangjian45
+ * Created at 2026/10/23 10:20
+ */
+public class JSONSchemaTest {
+    private static final JSONSchema ORDER = JSONSchema.compile("{\"type\":\"object\",\"required\":[\"id\",\"status\"],"
+            + "\"properties\":{\"id\":{\"type\":\"integer\",\"minimum\":1},"
+            + "\"status\":{\"enum\":[\"NEW\",\"PAID\"]},"
+            + "\"code\":{\"type\":\"string\",\"pattern\":\"^[A-Z]{2}\\\\d+$\",\"maxLength\":6},"
+            + "\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"},\"maxItems\":2}},"
+            + "\"additionalProperties\":false}");
+
+    @Test
+    public void validate() {
+        assertEquals(Collections.emptyList(), ORDER.validate("{\"id\":1,\"status\":\"PAID\",\"code\":\"AB12\",\"tags\":[\"a\"]}"));
+        assertEquals(Arrays.asList("/id: 0 is less than minimum 1", "/status: value is not in enum",
+                "/code: string does not match pattern ^[A-Z]{2}\\d+$", "/tags/1: expected type string, but was integer",
+                "/tags: array has 3 items, more than 2"),
+                ORDER.validate("{\"id\":0,\"status\":\"DONE\",\"code\":\"a1\",\"tags\":[\"a\",2,\"c\"]}"));
+        assertEquals(Arrays.asList("/other: additional property is not allowed", ": required property status is missing"),
+                ORDER.validate("{\"id\":2,\"other\":1}"));
+        assertFalse(ORDER.isValid("[]"));
+    }
+
+    @Test
+    public void integerAcceptsZeroFraction() {
+        JSONSchema schema = JSONSchema.compile("{\"type\":\"integer\"}");
+        assertTrue(schema.isValid("2.0"));
+        assertFalse(schema.isValid("2.5"));
+    }
+
+    @Test
+    public void enumComparesCanonicalValues() {
+        JSONSchema schema = JSONSchema.compile("{\"enum\":[1.50,{\"a\":1,\"b\":[true,null]},\"x\"]}");
+        assertTrue(schema.isValid("1.5"));
+        assertTrue(schema.isValid("{\"b\":[true,null],\"a\":1}"));
+        assertTrue(schema.isValid("\"x\""));
+        assertFalse(schema.isValid("{\"a\":1}"));
+        assertFalse(schema.isValid("\"1.5\""));
+    }
+
+    /**
+     * enum和const同时声明时取交集，与声明顺序无关
+     */
+    @Test
+    public void enumAndConstIntersect() {
+        for (JSONSchema schema : Arrays.asList(compile("enum", Arrays.asList("a", "b"), "const", "b"),
+                compile("const", "b", "enum", Arrays.asList("a", "b")))) {
+            assertTrue(schema.isValid("\"b\""));
+            assertFalse(schema.isValid("\"a\""));
+        }
+        for (JSONSchema schema : Arrays.asList(compile("enum", Arrays.asList(1, "a"), "const", 1),
+                compile("const", 1, "enum", Arrays.asList(1, "a")))) {
+            assertTrue(schema.isValid("1.0"));
+            assertFalse(schema.isValid("\"a\""));
+        }
+        // 交集为空时任何值都不通过
+        for (JSONSchema schema : Arrays.asList(compile("enum", Arrays.asList("a", "b"), "const", "c"),
+                compile("const", 1, "enum", Arrays.asList("1", "a")))) {
+            for (String json : Arrays.asList("\"a\"", "\"b\"", "\"c\"", "\"1\"", "1", "null", "{}", "[]")) {
+                assertFalse(json, schema.isValid(json));
+            }
+        }
+    }
+
+    @Test
+    public void parseObject() {
+        JSONObject order = JSON.parseObject("{\"id\":3,\"status\":\"NEW\"}", ORDER);
+        assertEquals(3, order.getIntValue("id"));
+        try {
+            JSON.parseObject("{\"id\":3}", ORDER);
+            fail();
+        } catch (JsonValidationException expected) {
+            assertEquals(Collections.singletonList(": required property status is missing"), expected.getErrors());
+        }
+    }
+
+    @Test
+    public void rejectsUnsupportedKeywords() {
+        try {
+            JSONSchema.compile("{\"allOf\":[{\"type\":\"string\"}]}");
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals("invalid schema at #/allOf : unsupported keyword", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void rejectsInvalidCounts() {
+        assertTrue(JSONSchema.compile("{\"minLength\":2.0}").isValid("\"ab\""));
+        assertFalse(JSONSchema.compile("{\"minLength\":2.0}").isValid("\"a\""));
+        assertTrue(JSONSchema.compile("{\"maxItems\":2147483647}").isValid("[]"));
+        for (String schema : Arrays.asList("{\"minLength\":1.5}", "{\"maxLength\":-1}", "{\"maxItems\":\"1\"}",
+                "{\"minItems\":2147483648}", "{\"maxLength\":4294967297}", "{\"maxProperties\":1e20}")) {
+            try {
+                JSONSchema.compile(schema);
+                fail(schema);
+            } catch (IllegalArgumentException expected) {
+                assertTrue(expected.getMessage(), expected.getMessage().startsWith("invalid schema at #/"));
+            }
+        }
+    }
+
+    private static JSONSchema compile(String first, Object firstValue, String second, Object secondValue) {
+        Map<String, Object> schema = new LinkedHashMap<String, Object>();
+        schema.put(first, firstValue);
+        schema.put(second, secondValue);
+        return JSONSchema.compile(schema);
+    }
+}
@@ -0,0 +1,249 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 堆外文档存储：写入、覆盖、压缩、淘汰、失效的视图与并发读取
+ * @author jiangjian45
+ * Created at 2026/10/22 15:10
+ */
+public class JSONStoreTest {
+    private static final String DOCUMENT = "{\"id\":1,\"name\":\"张三\",\"price\":12.50,\"big\":123456789012345678901,"
+            + "\"ok\":true,\"none\":null,\"tags\":[\"a\",2,3.5],\"owner\":{\"id\":7,\"roles\":[]}}";
+
+    @Test
+    public void putAndGet() {
+        JSONStore store = new JSONStore(4096, 2);
+        store.putJSON("doc", DOCUMENT);
+        store.put("map", JSON.parseObject(DOCUMENT));
+        store.put("list", JSON.parseArray("[1,{\"a\":\"b\"},null]"));
+        store.put("scalar", "text");
+
+        JSONStoreObject doc = store.getJSONObject("doc");
+        assertEquals(1, doc.getIntValue("id"));
+        assertEquals("张三", doc.getString("name"));
+        assertEquals(0, new java.math.BigDecimal("12.50").compareTo(doc.getBigDecimal("price")));
+        assertEquals(new java.math.BigInteger("123456789012345678901"), doc.getBigInteger("big"));
+        assertTrue(doc.getBooleanValue("ok"));
+        assertTrue(doc.containsKey("none"));
+        assertNull(doc.get("none"));
+        assertFalse(doc.containsKey("missing"));
+        assertEquals(new LinkedHashSet<String>(Arrays.asList("id", "name", "price", "big", "ok", "none", "tags", "owner")),
+                doc.keySet());
+        assertEquals(3, doc.getJSONArray("tags").size());
+        assertEquals("a", doc.getJSONArray("tags").getString(0));
+        assertEquals(7, doc.getJSONObject("owner").getIntValue("id"));
+        assertTrue(doc.getJSONObject("owner").getJSONArray("roles").isEmpty());
+        assertEquals(JSON.parseObject(DOCUMENT), doc.toJSONObject());
+        assertEquals(JSON.parseObject(DOCUMENT), store.getJSONObject("map").toJSONObject());
+
+        JSONStoreArray list = store.getJSONArray("list");
+        assertEquals(3, list.size());
+        assertEquals("b", list.getJSONObject(1).getString("a"));
+        assertNull(list.get(2));
+        try {
+            list.get(3);
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+            // 预期的失败
+        }
+        assertEquals("text", store.get("scalar"));
+        assertNull(store.get("missing"));
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    public void overwriteAndRemove() {
+        JSONStore store = new JSONStore(4096, 2);
+        store.putJSON("k", "{\"v\":1}");
+        JSONStoreObject first = store.getJSONObject("k");
+        store.putJSON("k", "{\"v\":2}");
+        assertEquals(2, store.getJSONObject("k").getIntValue("v"));
+        // 覆盖不复用空间，旧视图仍可读取
+        assertEquals(1, first.getIntValue("v"));
+        assertEquals(1, store.size());
+        JSONStoreStats stats = store.stats();
+        assertTrue(stats.getLiveBytes() < stats.getUsedBytes());
+
+        assertTrue(store.remove("k"));
+        assertFalse(store.remove("k"));
+        assertNull(store.get("k"));
+        assertEquals(0, store.stats().getLiveBytes());
+    }
+
+    @Test
+    public void compaction() {
+        JSONStore store = new JSONStore(256, 2);
+        // 第一段写满后只保留少量存活文档
+        for (int i = 0; i < 6; i++) {
+            store.putJSON("k" + i, "{\"i\":" + i + ",\"pad\":\"0123456789\"}");
+        }
+        for (int i = 1; i < 6; i++) {
+            store.remove("k" + i);
+        }
+        // 写满第二段后复用第一段，存活数据不超过一半，压缩而不是淘汰
+        int written = 0;
+        while (store.stats().getCompactions() == 0) {
+            assertTrue("no compaction after " + written + " documents", written < 20);
+            store.putJSON("n" + written, "{\"i\":" + written + ",\"pad\":\"0123456789\"}");
+            written++;
+        }
+        assertEquals(0, store.stats().getEvictions());
+        assertEquals(0, store.getJSONObject("k0").getIntValue("i"));
+        for (int i = 0; i < written; i++) {
+            assertEquals(i, store.getJSONObject("n" + i).getIntValue("i"));
+        }
+        assertEquals(written + 1, store.size());
+    }
+
+    @Test
+    public void evictionInvalidatesViews() {
+        JSONStore store = new JSONStore(128, 2);
+        store.putJSON("old", "{\"pad\":\"0123456789012345678901234567890123456789\",\"a\":[1,2,3]}");
+        JSONStoreObject view = store.getJSONObject("old");
+        JSONStoreArray child = view.getJSONArray("a");
+        for (int i = 0; i < 10; i++) {
+            store.putJSON("new" + i, "{\"pad\":\"0123456789012345678901234567890123456789\",\"i\":" + i + "}");
+        }
+        assertTrue(store.stats().getEvictions() > 0);
+        assertNull(store.get("old"));
+        assertStale(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return view.get("a");
+            }
+        });
+        assertStale(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return view.keySet();
+            }
+        });
+        assertStale(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return view.toJSONObject();
+            }
+        });
+        assertStale(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return child.get(2);
+            }
+        });
+        assertStale(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return child.size();
+            }
+        });
+    }
+
+    /**
+     * 段被并发复用时视图可能读到任意数据，元素个数不合理时报告为损坏，不按它分配集合
+     */
+    @Test
+    public void corruptedCount() {
+        ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(0, JSONTape.OBJECT).putInt(1, 20).putInt(5, Integer.MAX_VALUE);
+        JSONStore.Segment segment = new JSONStore.Segment(0, buffer);
+        JSONStoreObject object = new JSONStoreObject(segment, segment.generation, 0);
+        try {
+            object.keySet();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().startsWith("corrupted tape"));
+        }
+        buffer.put(0, JSONTape.ARRAY).putInt(1, Integer.MAX_VALUE).putInt(5, 3);
+        JSONStoreArray array = new JSONStoreArray(segment, segment.generation, 0);
+        try {
+            array.toJSONArray();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().startsWith("corrupted tape"));
+        }
+    }
+
+    @Test
+    public void concurrentReaders() throws Exception {
+        final JSONStore store = new JSONStore(1024, 4);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < 3; t++) {
+                readers.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int reads = 0;
+                        while (running.get()) {
+                            for (int i = 0; i < 64; i++) {
+                                try {
+                                    JSONStoreObject object = store.getJSONObject("k" + i);
+                                    if (object != null) {
+                                        // 读到的内容要么完整正确，要么报告失效
+                                        JSONObject value = object.toJSONObject();
+                                        assertEquals("k" + i, value.getString("key"));
+                                        assertEquals(value.getIntValue("n") * 2, value.getIntValue("double"));
+                                        reads++;
+                                    }
+                                } catch (IllegalStateException e) {
+                                    assertTrue(e.getMessage(), e.getMessage().startsWith("document has been evicted"));
+                                }
+                            }
+                        }
+                        return reads;
+                    }
+                }));
+            }
+            for (int n = 0; n < 20000; n++) {
+                String key = "k" + (n % 64);
+                store.putJSON(key, "{\"key\":\"" + key + "\",\"n\":" + n + ",\"double\":" + (n * 2) + ",\"pad\":[1,2,3,4]}");
+                if (n % 7 == 0) {
+                    store.remove("k" + (n * 31 % 64));
+                }
+            }
+            running.set(false);
+            int reads = 0;
+            for (Future<Integer> reader : readers) {
+                reads += reader.get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(reads > 0);
+            JSONStoreStats stats = store.stats();
+            assertTrue(stats.toString(), stats.getCompactions() + stats.getEvictions() > 0);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertStale(Callable<Object> read) {
+        try {
+            read.call();
+            fail("stale view should fail");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().startsWith("document has been evicted"));
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
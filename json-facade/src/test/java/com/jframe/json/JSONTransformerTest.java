@@ -0,0 +1,94 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * 流式改写，byte[]输入(原始字节复制)与流输入(逐个token复制)的结果必须等价
+ * @author jiangjian45
+ * Created at 2026/10/22 11:40
+ */
+public class JSONTransformerTest {
+    private static final TransformSpec SPEC = TransformSpec.builder()
+            .drop("password")
+            .rename("user.mobile", "phone")
+            .mask("user.mobile", 3, 4)
+            .replace("items.cost", 0)
+            .mask("card")
+            .build();
+
+    @Test
+    public void rules() {
+        String json = "{\"id\":1,\"password\":\"x\",\"user\":{\"mobile\":\"13812345678\",\"name\":\"张三\"},"
+                + "\"items\":[{\"cost\":12.3,\"sku\":\"a\"},{\"cost\":{\"x\":1},\"sku\":\"b\"}],"
+                + "\"card\":{\"no\":[\"1234\",5678,true,null]}}";
+        String expected = "{\"id\":1,\"user\":{\"phone\":\"138****5678\",\"name\":\"张三\"},"
+                + "\"items\":[{\"cost\":0,\"sku\":\"a\"},{\"cost\":0,\"sku\":\"b\"}],"
+                + "\"card\":{\"no\":[\"****\",\"****\",\"****\",null]}}";
+        assertEquals(expected, transformBytes(json, SPEC));
+        assertEquals(expected, transformStream(json, SPEC));
+    }
+
+    @Test
+    public void untouchedSubtrees() {
+        String json = "{\"a\" : [ 1 , {\"b\" :2.50000000000000000001} ] , \"c\":{ },\"password\":null,"
+                + "\"big\":123456789012345678901234567890,\"s\":\"\\u00e9\\n\\\"\"}";
+        // byte[]输入保留未涉及子树的原始写法，流输入重新写出，两者内容相同，数字都不经过double
+        assertEquals("{\"a\":[ 1 , {\"b\" :2.50000000000000000001} ],\"c\":{ },"
+                + "\"big\":123456789012345678901234567890,\"s\":\"é\\n\\\"\"}", transformBytes(json, SPEC));
+        assertEquals("{\"a\":[1,{\"b\":2.50000000000000000001}],\"c\":{},"
+                + "\"big\":123456789012345678901234567890,\"s\":\"é\\n\\\"\"}", transformStream(json, SPEC));
+
+        StringBuilder large = new StringBuilder("[{\"password\":1,\"x\":[");
+        for (int i = 0; i < 3000; i++) {
+            large.append("1.000000000000000000001,");
+        }
+        large.append("2]}]");
+        assertEquals(JSON.parse(transformStream(large.toString(), SPEC)), JSON.parse(transformBytes(large.toString(), SPEC)));
+    }
+
+    @Test
+    public void rejectsLenientSyntax() {
+        String[] inputs = {
+                "{'password':'x','other':{'a':'b'}}",
+                "{\"other\":{c:1}}",
+                "{\"other\":{\"c\":01}}",
+                "{\"other\":{\"c\":\"line\nbreak\"}}",
+                "{\"other\":[1 /* comment */]}",
+                "{\"other\":[1,]}",
+                ""
+        };
+        for (String input : inputs) {
+            try {
+                transformBytes(input, SPEC);
+                fail("byte[] input should be rejected : " + input);
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+            try {
+                transformStream(input, SPEC);
+                fail("stream input should be rejected : " + input);
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+        }
+    }
+
+    private static String transformBytes(String json, TransformSpec spec) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSON.transform(json.getBytes(StandardCharsets.UTF_8), out, spec);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String transformStream(String json, TransformSpec spec) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSON.transform(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), out, spec);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,185 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * JSONObject/JSONArray专用序列化器的输出与jackson按普通Map/List序列化的结果一致
+ * @author jiangjian45
+ * Created at 2026/10/25 12:00
+ */
+public class JSONTreeSerializerTest {
+
+    /**
+     * JSONObject中为null的值不输出，JSONArray中的null保留，嵌套的普通Map与JSONObject规则相同
+     */
+    @Test
+    public void nulls() {
+        JSONObject object = new JSONObject(true);
+        object.put("a", null);
+        object.put("b", 1);
+        JSONArray array = new JSONArray();
+        array.add(null);
+        array.add(new JSONObject(true));
+        array.add(null);
+        object.put("array", array);
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("x", null);
+        map.put("y", Arrays.asList(null, "z"));
+        object.put("map", map);
+        JSONObject empty = new JSONObject(true);
+        empty.put("only", null);
+        object.put("empty", empty);
+        assertEquals("{\"b\":1,\"array\":[null,{},null],\"map\":{\"y\":[null,\"z\"]},\"empty\":{}}", object.toJSONString());
+        assertSameAsMapSerializer(object);
+        assertEquals("[null,{},null]", array.toJSONString());
+        assertSameAsMapSerializer(array);
+    }
+
+    /**
+     * 直接写出的叶子类型与交给jackson的其他类型
+     */
+    @Test
+    public void leaves() {
+        JSONObject object = new JSONObject(true);
+        object.put("string", "s\"\u0001中文😀");
+        object.put("int", Integer.MIN_VALUE);
+        object.put("long", Long.MAX_VALUE);
+        object.put("decimal", new BigDecimal("1.50"));
+        object.put("scientific", new BigDecimal("1E+3"));
+        object.put("boolean", false);
+        object.put("short", (short) 7);
+        object.put("byte", (byte) -1);
+        object.put("double", 0.1D);
+        object.put("float", 1.5F);
+        object.put("nan", Double.NaN);
+        object.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+        object.put("char", 'c');
+        object.put("date", new Date(0));
+        object.put("localDateTime", LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        object.put("enum", Concurrency.CONCURRENT);
+        object.put("uuid", new UUID(1, 2));
+        object.put("bytes", "abc".getBytes(StandardCharsets.UTF_8));
+        object.put("intArray", new int[]{1, 2});
+        object.put("pojo", new Pojo());
+        object.put("lazy", JSONNumber.of("1.250"));
+        object.put("list", new ArrayList<Object>(Arrays.<Object>asList(1L, "a", null)));
+        assertSameAsMapSerializer(object);
+        assertSameAsMapSerializer(new JSONArray(new ArrayList<Object>(object.values())));
+    }
+
+    /**
+     * 过滤器作用于JSONObject的每个字段，与作用于普通Map时一致
+     */
+    @Test
+    public void filters() {
+        JSONObject object = JSON.parseObject("{\"name\":\"a\",\"phone\":\"13812345678\",\"inner\":{\"phone\":\"1\",\"n\":null}}",
+                Feature.LAZY_NUMBER);
+        ValueFilter mask = new ValueFilter() {
+            @Override
+            public Object process(Object source, String name, Object value) {
+                return "phone".equals(name) ? "***" : value;
+            }
+        };
+        NameFilter upper = new NameFilter() {
+            @Override
+            public String process(Object source, String name, Object value) {
+                return name.toUpperCase();
+            }
+        };
+        assertEquals(JSON.toJSONString(plain(object), mask, upper), JSON.toJSONString(object, mask, upper));
+        assertEquals(JSON.parseObject("{\"NAME\":\"a\",\"PHONE\":\"***\",\"INNER\":{\"PHONE\":\"***\"}}"),
+                JSON.parseObject(JSON.toJSONString(object, mask, upper)));
+    }
+
+    /**
+     * 缓存的预编码key与超过缓存长度、超过缓存数量的key输出一致
+     */
+    @Test
+    public void keys() {
+        StringBuilder longKey = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longKey.append('k');
+        }
+        JSONArray array = new JSONArray();
+        for (int i = 0; i < 5000; i++) {
+            JSONObject object = new JSONObject(true);
+            object.put("quote\"\\key", i);
+            object.put("中文", i);
+            object.put(longKey.toString(), i);
+            object.put("key" + i, i);
+            array.add(object);
+        }
+        assertSameAsMapSerializer(array);
+        // 第二次输出使用已缓存的key
+        assertSameAsMapSerializer(array);
+    }
+
+    @Test
+    public void nullKey() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put(null, 1);
+        for (Object value : Arrays.asList(new JSONObject(map), map)) {
+            try {
+                JSON.toJSONString(value);
+                fail();
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+        }
+    }
+
+    private static void assertSameAsMapSerializer(JSON tree) {
+        assertEquals(JSON.toJSONString(plain(tree)), JSON.toJSONString(tree));
+        // 字节输出走UTF8JsonGenerator，增补字符输出为转义的代理对，与Map的输出一致即可
+        assertEquals(utf8(plain(tree)), utf8(tree));
+    }
+
+    private static String utf8(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSON.writeCompressed(out, value, Compression.NONE);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 深度转换为LinkedHashMap/ArrayList，由jackson的MapSerializer/CollectionSerializer输出
+     */
+    private static Object plain(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), plain(entry.getValue()));
+            }
+            return map;
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<Object>();
+            for (Object element : (List<?>) value) {
+                list.add(plain(element));
+            }
+            return list;
+        }
+        return value;
+    }
+
+    public static class Pojo {
+        public String name = "p";
+        public String none;
+        public Date time = new Date(1000);
+    }
+}
@@ -0,0 +1,192 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 流式写出：按flushSize分块flush，嵌入的POJO与{@link JSON#toJSONString(Object)}的配置一致
+ * @author jiangjian45
+ * Created at 2026/10/24 20:00
+ */
+public class JSONWriterTest {
+
+    /**
+     * 不在每个值之后flush，底层输出按累计的字节数flush，close时写出剩余内容
+     */
+    @Test
+    public void chunkedFlush() {
+        CountingOutputStream out = new CountingOutputStream();
+        List<Order> orders = new ArrayList<Order>();
+        JSONWriter writer = new JSONWriter(out, 16 * 1024);
+        writer.startArray();
+        for (int i = 0; i < 5000; i++) {
+            Order order = order(i);
+            orders.add(order);
+            writer.writeObject(order);
+        }
+        int flushesBeforeEnd = out.flushes;
+        int sizeBeforeEnd = out.size();
+        writer.endArray();
+        writer.close();
+
+        byte[] expected = JSON.toJSONString(orders).getBytes(StandardCharsets.UTF_8);
+        assertEquals(new String(expected, StandardCharsets.UTF_8), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(expected.length > 10 * 16 * 1024);
+        // 每次flush之间至少累计了flushSize个字节
+        assertTrue(String.valueOf(flushesBeforeEnd), flushesBeforeEnd >= 1 && flushesBeforeEnd <= sizeBeforeEnd / (16 * 1024));
+        assertTrue(out.closed);
+    }
+
+    @Test
+    public void chunkedFlushWriter() {
+        CountingWriter out = new CountingWriter();
+        JSONWriter writer = new JSONWriter(out, 4096);
+        writer.startObject();
+        for (int i = 0; i < 3000; i++) {
+            writer.writeKeyValue("k" + i, "value-" + i);
+        }
+        writer.endObject();
+        assertTrue(out.flushes > 0 && out.flushes <= out.getBuffer().length() / 4096);
+        writer.flush();
+        int length = out.getBuffer().length();
+        writer.close();
+        assertEquals(length, out.getBuffer().length());
+        JSONObject parsed = JSON.parseObject(out.toString());
+        assertEquals(3000, parsed.size());
+        assertEquals("value-2999", parsed.getString("k2999"));
+    }
+
+    /**
+     * 嵌入的POJO、Map与JSONObject按JSON的配置序列化：忽略null字段、日期格式、注解
+     */
+    @Test
+    public void embeddedPojoConfig() {
+        Order order = order(1);
+        order.remark = null;
+        order.created = new Date(0);
+        order.updated = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("order", order);
+        map.put("none", null);
+        JSONObject object = JSON.parseObject("{\"a\":1.50,\"b\":[null,\"x\"]}");
+
+        StringWriter out = new StringWriter();
+        JSONWriter writer = new JSONWriter(out);
+        writer.startObject();
+        writer.writeKeyValue("order", order);
+        writer.writeKeyValue("map", map);
+        writer.writeKeyValue("object", object);
+        writer.writeKeyValue("skipped", null);
+        writer.writeKey("null");
+        writer.writeValue(null);
+        writer.endObject();
+        writer.close();
+
+        Map<String, Object> expected = new LinkedHashMap<String, Object>();
+        expected.put("order", order);
+        expected.put("map", map);
+        expected.put("object", object);
+        assertTrue(out.toString(), out.toString().startsWith("{\"order\":" + JSON.toJSONString(order) + ",\"map\":"
+                + JSON.toJSONString(map) + ",\"object\":" + JSON.toJSONString(object)));
+        assertTrue(out.toString(), out.toString().contains("\"created\":" + JSON.toJSONString(new Date(0))));
+        assertTrue(out.toString(), out.toString().contains("\"order_id\":1"));
+        assertTrue(out.toString(), !out.toString().contains("remark"));
+        // 显式写出的null保留
+        assertTrue(out.toString(), out.toString().endsWith(",\"null\":null}"));
+        JSONObject parsed = JSON.parseObject(out.toString());
+        parsed.remove("null");
+        assertEquals(JSON.parseObject(JSON.toJSONString(expected)), parsed);
+    }
+
+    @Test
+    public void scalars() {
+        StringWriter out = new StringWriter();
+        JSONWriter writer = new JSONWriter(out);
+        writer.startArray();
+        for (Object value : Arrays.<Object>asList("s\"\n", 1, 2L, (short) 3, (byte) 4, new BigDecimal("1.50"),
+                new BigInteger("123456789012345678901234567890"), 0.1D, 1.5F, true, JSONNumber.of("1e5"), 'c')) {
+            writer.writeValue(value);
+        }
+        writer.endArray();
+        writer.close();
+        assertEquals("[\"s\\\"\\n\",1,2,3,4,1.50,123456789012345678901234567890,0.1,1.5,true,1e5,\"c\"]", out.toString());
+    }
+
+    @Test
+    public void invalidUsage() {
+        try {
+            new JSONWriter(new StringWriter(), 0);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+        JSONWriter writer = new JSONWriter(new StringWriter());
+        writer.startObject();
+        try {
+            writer.writeValue(1);
+            fail();
+        } catch (JsonConvertException expected) {
+            // 预期的失败
+        }
+    }
+
+    private static Order order(int i) {
+        Order order = new Order();
+        order.id = i;
+        order.remark = "remark-" + i;
+        order.amount = new BigDecimal(i).movePointLeft(2);
+        order.tags = Arrays.asList("a", "b");
+        return order;
+    }
+
+    public static class Order {
+        @JsonProperty("order_id")
+        public long id;
+        public String remark;
+        public BigDecimal amount;
+        public List<String> tags;
+        public Date created;
+        public LocalDateTime updated;
+    }
+
+    private static final class CountingOutputStream extends ByteArrayOutputStream {
+        int flushes;
+        boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class CountingWriter extends StringWriter {
+        int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
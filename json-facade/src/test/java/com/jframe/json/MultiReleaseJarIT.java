@@ -0,0 +1,81 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * 在打包后的多版本jar上运行，检查当前JDK加载的是对应版本的实现。
+ * 测试代码按Java 8编译，record在运行时编译后加载
+ * @author jiangjian45
+ * Created at 2026/10/22 10:00
+ */
+public class MultiReleaseJarIT {
+    private static final int JAVA_VERSION = javaVersion();
+
+    @Test
+    public void loadedFromJar() {
+        URL location = Platform.class.getProtectionDomain().getCodeSource().getLocation();
+        assertTrue("not running against the packaged jar : " + location, location.getPath().endsWith(".jar"));
+    }
+
+    @Test
+    public void platformMatchesRuntime() {
+        assertEquals(JAVA_VERSION >= 17 ? 17 : 8, Platform.featureVersion());
+        assertEquals(JAVA_VERSION >= 17, Platform.recordIntrospector() != null);
+    }
+
+    @Test
+    public void vectorScanner() {
+        if (Boolean.getBoolean("it.vector")) {
+            assertNotNull(Platform.structuralScanner());
+        } else {
+            assertNull(Platform.structuralScanner());
+        }
+    }
+
+    @Test
+    public void recordRoundTrip() throws Exception {
+        assumeTrue(JAVA_VERSION >= 17);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        Path dir = Files.createTempDirectory("record-it");
+        Path source = dir.resolve("Point.java");
+        Files.write(source, ("public record Point(int x, String name, java.util.List<Integer> tags) {}")
+                .getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, compiler.run(null, null, null, "-d", dir.toString(), source.toString()));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("Point");
+            Object point = type.getDeclaredConstructors()[0].newInstance(3, "p", Arrays.asList(1, 2));
+            String json = JSON.toJSONString(point);
+            assertEquals("{\"x\":3,\"name\":\"p\",\"tags\":[1,2]}", json);
+            assertEquals(point, JSON.parseObject(json, type));
+            assertEquals(point, JSON.parseObject("{\"NAME\":\"p\",\"tags\":[1,2],\"x\":3,\"unknown\":0}", type));
+        } finally {
+            for (File file : dir.toFile().listFiles()) {
+                file.delete();
+            }
+            Files.delete(dir);
+        }
+    }
+
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+}
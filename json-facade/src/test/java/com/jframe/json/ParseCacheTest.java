@@ -0,0 +1,204 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 解析结果缓存的命中、未命中、LRU淘汰与权重上限，以及JSON.cachedParse系列方法
+ * @author jiangjian45
+ * Created at 2026/10/25 14:00
+ */
+public class ParseCacheTest {
+
+    @Test
+    public void hitsAndMisses() {
+        ParseCache cache = new ParseCache();
+        String text = "{\"a\":[1,{\"b\":\"c\"}]}";
+        Object first = cache.get(text);
+        assertEquals(JSON.parseObject(text), first);
+        // 内容相同的不同String实例命中同一结果
+        assertSame(first, cache.get(new String(text)));
+        assertSame(first, cache.get(text));
+        assertEquals(JSON.parseArray("[1,2]"), cache.get("[1,2]"));
+
+        ParseCacheStats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(0, stats.getEvictions());
+        assertEquals(2, stats.getSize());
+        assertEquals(text.length() + "[1,2]".length(), stats.getWeight());
+        assertEquals(0.5D, stats.getHitRate(), 0D);
+
+        assertNull(cache.get(null));
+        assertEquals(2, cache.stats().getSize());
+
+        cache.clear();
+        stats = cache.stats();
+        assertEquals(0, stats.getSize());
+        assertEquals(0, stats.getWeight());
+        assertTrue(first != cache.get(text));
+    }
+
+    /**
+     * 结果深度只读，不会被调用方改坏
+     */
+    @Test
+    public void immutable() {
+        ParseCache cache = new ParseCache();
+        JSONObject object = (JSONObject) cache.get("{\"a\":{\"b\":[1]}}");
+        try {
+            object.put("x", 1);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            // 预期的失败
+        }
+        try {
+            object.getJSONObject("a").getJSONArray("b").add(2);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            // 预期的失败
+        }
+    }
+
+    /**
+     * 超过条数上限时淘汰，每段最多1条
+     */
+    @Test
+    public void entryBound() {
+        ParseCache cache = new ParseCache(16, Long.MAX_VALUE);
+        int count = 500;
+        for (int i = 0; i < count; i++) {
+            cache.get("[" + i + "]");
+        }
+        ParseCacheStats stats = cache.stats();
+        assertEquals(count, stats.getMisses());
+        assertTrue(stats.getSize() <= 16);
+        assertEquals(count, stats.getSize() + stats.getEvictions());
+    }
+
+    /**
+     * 按访问顺序淘汰：每次插入前访问的文本一直保留在缓存中
+     */
+    @Test
+    public void leastRecentlyUsed() {
+        ParseCache cache = new ParseCache(32, Long.MAX_VALUE);
+        String hot = "{\"hot\":true}";
+        Object value = cache.get(hot);
+        int count = 500;
+        for (int i = 0; i < count; i++) {
+            assertSame(value, cache.get(hot));
+            cache.get("[" + i + "]");
+        }
+        ParseCacheStats stats = cache.stats();
+        assertEquals(count, stats.getHits());
+        assertEquals(count + 1, stats.getMisses());
+        assertTrue(stats.getSize() <= 32);
+        assertEquals(count + 1, stats.getSize() + stats.getEvictions());
+        assertSame(value, cache.get(hot));
+    }
+
+    /**
+     * 每段权重上限为maxWeight/16：超过上限的单个文本不缓存，缓存的总权重不超过maxWeight
+     */
+    @Test
+    public void weightBound() {
+        ParseCache cache = new ParseCache(1024, 16 * 10);
+        String large = "[\"0123456789\"]";
+        Object value = cache.get(large);
+        assertEquals(JSON.parseArray(large), value);
+        assertTrue(value != cache.get(large));
+        ParseCacheStats stats = cache.stats();
+        assertEquals(2, stats.getMisses());
+        assertEquals(0, stats.getSize());
+        assertEquals(0, stats.getWeight());
+        assertEquals(0, stats.getEvictions());
+
+        // 每个文本5个字符，每段最多2条
+        int count = 500;
+        for (int i = 100; i < 100 + count; i++) {
+            cache.get("[" + i + "]");
+        }
+        stats = cache.stats();
+        assertTrue(stats.getWeight() <= 16 * 10);
+        assertTrue(stats.getSize() <= 16 * 2);
+        assertEquals(5L * stats.getSize(), stats.getWeight());
+        assertEquals(count, stats.getSize() + stats.getEvictions());
+
+        // 文本恰好等于每段上限时缓存，并淘汰同段的其他条目
+        String exact = "[12345678]";
+        assertEquals(10, exact.length());
+        assertSame(cache.get(exact), cache.get(exact));
+        assertTrue(cache.stats().getWeight() <= 16 * 10);
+    }
+
+    /**
+     * 上限接近MAX_VALUE时每段的上限不溢出
+     */
+    @Test
+    public void unboundedLimits() {
+        ParseCache cache = new ParseCache(Integer.MAX_VALUE, Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            cache.get("[" + i + "]");
+        }
+        ParseCacheStats stats = cache.stats();
+        assertEquals(100, stats.getSize());
+        assertEquals(0, stats.getEvictions());
+    }
+
+    @Test
+    public void cachedParse() {
+        ParseCache previous = JSON.getParseCache();
+        ParseCache cache = new ParseCache();
+        JSON.setParseCache(cache);
+        try {
+            JSONObject object = JSON.cachedParseObject("{\"a\":1}");
+            assertSame(object, JSON.cachedParseObject("{\"a\":1}"));
+            assertSame(JSON.cachedParseArray("[1]"), JSON.cachedParse("[1]"));
+            assertNull(JSON.cachedParseObject(null));
+            assertEquals(2, cache.stats().getHits());
+            try {
+                JSON.cachedParseObject("[1]");
+                fail();
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+            try {
+                JSON.cachedParseArray("{\"a\":1}");
+                fail();
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+        } finally {
+            JSON.setParseCache(previous);
+        }
+    }
+
+    @Test
+    public void invalidArguments() {
+        for (long[] args : new long[][]{{0, 1}, {1, 0}, {-1, 1}, {1, -1}}) {
+            try {
+                new ParseCache((int) args[0], args[1]);
+                fail();
+            } catch (IllegalArgumentException expected) {
+                // 预期的失败
+            }
+        }
+        try {
+            JSON.setParseCache(null);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+        try {
+            new ParseCache().get("{");
+            fail();
+        } catch (JsonConvertException expected) {
+            // 预期的失败
+        }
+    }
+}
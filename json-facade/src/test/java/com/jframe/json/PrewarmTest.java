@@ -0,0 +1,104 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 预热报告：阶段的顺序与耗时，预热成功与失败的类
+ * @author jiangjian45
+ * Created at 2026/10/24 17:00
+ */
+public class PrewarmTest {
+
+    @Test
+    public void phases() {
+        BootstrapReport report = JSON.prewarm(Order.class, Item.class);
+        assertEquals(Arrays.asList("serializers", "deserializers", "beanInfo"), new ArrayList<String>(report.getPhases().keySet()));
+        long total = 0;
+        for (Long nanos : report.getPhases().values()) {
+            assertTrue(nanos >= 0);
+            total += nanos;
+        }
+        assertEquals(total, report.getTotalNanos());
+        assertEquals(Arrays.asList(Order.class.getName(), Item.class.getName()), report.getWarmed());
+        assertEquals(Collections.emptyList(), report.getSkipped());
+        assertTrue(report.toString(), report.toString().startsWith("BootstrapReport{serializers="));
+        assertTrue(report.toString(), report.toString().contains("warmed=2"));
+
+        // 预热后的类可以正常使用
+        Order order = JSON.parseObject("{\"id\":1,\"items\":[{\"name\":\"a\"}]}", Order.class);
+        assertEquals("a", order.items.get(0).name);
+    }
+
+    /**
+     * 序列化器或反序列化器无法构建的类记录在skipped中，不计入warmed，也不进入后续阶段
+     */
+    @Test
+    public void skipped() {
+        BootstrapReport report = JSON.prewarm(Item.class, ConflictingGetters.class, ConflictingSetters.class);
+        assertEquals(Collections.singletonList(Item.class.getName()), report.getWarmed());
+        assertEquals(2, report.getSkipped().size());
+        assertTrue(report.getSkipped().get(0), report.getSkipped().get(0).startsWith(ConflictingGetters.class.getName() + " (serializer: "));
+        assertTrue(report.getSkipped().get(1), report.getSkipped().get(1).startsWith(ConflictingSetters.class.getName() + " (deserializer: "));
+        assertTrue(report.toString(), report.toString().contains("skipped=["));
+        assertEquals(3, report.getPhases().size());
+    }
+
+    @Test
+    public void emptyPrewarm() {
+        BootstrapReport report = JSON.prewarm();
+        assertEquals(3, report.getPhases().size());
+        assertEquals(Collections.emptyList(), report.getWarmed());
+    }
+
+    /**
+     * JSON类初始化的阶段在前，按预热列表执行的预热阶段在后
+     */
+    @Test
+    public void bootstrapReport() {
+        BootstrapReport report = JSON.bootstrapReport();
+        assertEquals(Arrays.asList("configure", "modules", "prewarmList", "serializers", "deserializers", "beanInfo"),
+                new ArrayList<String>(report.getPhases().keySet()));
+    }
+
+    public static class Order {
+        public long id;
+        public List<Item> items;
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    public static class ConflictingGetters {
+        @JsonProperty("value")
+        public String getA() {
+            return "a";
+        }
+
+        @JsonProperty("value")
+        public String getB() {
+            return "b";
+        }
+    }
+
+    public static class ConflictingSetters {
+        public String getValue() {
+            return "";
+        }
+
+        public void setValue(Integer value) {
+        }
+
+        public void setValue(Long value) {
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 投影解析：嵌套字段、{@code [*]}路径，以及与完整解析后取值的结果一致
+ * @author jiangjian45
+ * Created at 2026/10/24 18:00
+ */
+public class ProjectionTest {
+    private static final String ORDER = "{\"id\":7,\"note\":null,\"status\":\"PAID\","
+            + "\"user\":{\"name\":\"张三\",\"phone\":\"138\",\"address\":{\"city\":\"北京\",\"street\":\"x\"}},"
+            + "\"items\":[{\"sku\":\"A1\",\"price\":1.5,\"attrs\":{\"color\":\"red\",\"size\":\"L\"}},"
+            + "{\"sku\":\"B2\",\"price\":2,\"attrs\":null},\"bad\",null,[{\"sku\":\"C3\"}]],"
+            + "\"matrix\":[[{\"v\":1,\"w\":2}],[{\"v\":3}]],\"big\":{\"deep\":[1,[2,{\"x\":[3]}]]}}";
+
+    @Test
+    public void topLevelFields() {
+        JSONObject object = JSON.parseObject(ORDER, Projection.of("id", "note", "missing"));
+        assertEquals(JSON.parseObject("{\"id\":7,\"note\":null}"), object);
+        assertTrue(object.containsKey("note"));
+        assertEquals(JSON.parseObject("{}"), JSON.parseObject(ORDER, Projection.of("missing")));
+    }
+
+    @Test
+    public void nestedFields() {
+        assertEquals(JSON.parseObject("{\"user\":{\"name\":\"张三\",\"address\":{\"city\":\"北京\"}}}"),
+                JSON.parseObject(ORDER, Projection.of("user.name", "user.address.city")));
+        // 上级路径保留整个值，与声明顺序无关
+        JSONObject expected = JSON.parseObject("{\"user\":" + JSON.parseObject(ORDER).getJSONObject("user").toJSONString() + "}");
+        assertEquals(expected, JSON.parseObject(ORDER, Projection.of("user.name", "user")));
+        assertEquals(expected, JSON.parseObject(ORDER, Projection.of("user", "user.address.city")));
+        // 子路径遇到标量时不保留该字段
+        assertEquals(JSON.parseObject("{}"), JSON.parseObject(ORDER, Projection.of("status.code", "id.x")));
+    }
+
+    @Test
+    public void arrayElements() {
+        JSONObject expected = JSON.parseObject("{\"items\":[{\"sku\":\"A1\",\"attrs\":{\"color\":\"red\"}},"
+                + "{\"sku\":\"B2\",\"attrs\":null},null,[{\"sku\":\"C3\"}]]}");
+        assertEquals(expected, JSON.parseObject(ORDER, Projection.of("items[*].sku", "items[*].attrs.color")));
+        // [*]可以省略
+        assertEquals(expected, JSON.parseObject(ORDER, Projection.of("items.sku", "items.attrs.color")));
+        assertEquals(JSON.parseObject("{\"matrix\":[[{\"v\":1}],[{\"v\":3}]]}"),
+                JSON.parseObject(ORDER, Projection.of("matrix[*][*].v")));
+        assertEquals(JSON.parseObject("{\"big\":{\"deep\":[[{\"x\":[3]}]]}}"), JSON.parseObject(ORDER, Projection.of("big.deep.x")));
+        // 整个数组
+        assertEquals(JSON.parseObject(ORDER).getJSONArray("items"), JSON.parseObject(ORDER, Projection.of("items[*]")).getJSONArray("items"));
+
+        JSONArray array = JSON.parseArray("[{\"a\":1,\"b\":2},{\"b\":3},4,null]", Projection.of("a"));
+        assertEquals(JSON.parseArray("[{\"a\":1},{},null]"), array);
+    }
+
+    /**
+     * 与完整解析后逐个取值的结果一致
+     */
+    @Test
+    public void matchesFullParse() {
+        JSONObject full = JSON.parseObject(ORDER);
+        JSONObject projected = JSON.parseObject(ORDER, Projection.of("id", "user.address", "items[*].price", "status"));
+        assertEquals(full.get("id"), projected.get("id"));
+        assertEquals(full.get("status"), projected.get("status"));
+        assertEquals(full.getJSONObject("user").getJSONObject("address"), projected.getJSONObject("user").getJSONObject("address"));
+        assertEquals(full.getJSONArray("items").getJSONObject(0).get("price"),
+                projected.getJSONArray("items").getJSONObject(0).get("price"));
+        assertEquals(new HashSet<String>(Arrays.asList("id", "status", "user", "items")), projected.keySet());
+
+        JSONObject lazy = JSON.parseObject(ORDER, Projection.of("items.price"), Feature.LAZY_NUMBER);
+        assertTrue(lazy.getJSONArray("items").getJSONObject(0).get("price") instanceof JSONNumber);
+    }
+
+    @Test
+    public void nullAndInvalidDocuments() {
+        assertNull(JSON.parseObject("null", Projection.of("a")));
+        assertNull(JSON.parseArray("null", Projection.of("a")));
+        for (String text : Arrays.asList("[1]", "{\"a\":1,\"b\":[1,}", "{\"a\":", "")) {
+            try {
+                JSON.parseObject(text, Projection.of("a"));
+                fail(text);
+            } catch (JsonConvertException expected) {
+                // 预期的失败
+            }
+        }
+    }
+
+    @Test
+    public void invalidPaths() {
+        for (String path : Arrays.asList("", "a.", ".a", "a..b", "a[0]", "a[0]b", "a[*]b", "a]", "[*]")) {
+            try {
+                Projection.of(path);
+                fail(path);
+            } catch (IllegalArgumentException expected) {
+                // 预期的失败
+            }
+        }
+        try {
+            Projection.of();
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+        assertEquals("Projection[id, items[*].sku]", Projection.of("id", "items[*].sku").toString());
+    }
+}
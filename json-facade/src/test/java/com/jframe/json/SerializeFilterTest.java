@@ -0,0 +1,197 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * toJSONString的过滤器：POJO、Map与JSONObject上的脱敏、改名与过滤，以及与无过滤器时一致的输出规则
+ * @author jiangjian45
+ * Created at 2026/10/23 16:00
+ */
+public class SerializeFilterTest {
+    /**
+     * 手机号与身份证号脱敏
+     */
+    private static final ValueFilter MASK = new ValueFilter() {
+        @Override
+        public Object process(Object object, String name, Object value) {
+            if (value instanceof String && ("phone".equals(name) || "idCard".equals(name))) {
+                String text = (String) value;
+                return text.substring(0, 3) + "****" + text.substring(text.length() - 4);
+            }
+            return value;
+        }
+    };
+
+    private static final PropertyFilter PASS = new PropertyFilter() {
+        @Override
+        public boolean apply(Object object, String name, Object value) {
+            return true;
+        }
+    };
+
+    @Test
+    public void maskPojoMapAndJSONObject() {
+        User user = new User();
+        user.name = "张三";
+        user.phone = "13812345678";
+        user.idCard = "110101199001011234";
+        assertEquals("{\"name\":\"张三\",\"phone\":\"138****5678\",\"idCard\":\"110****1234\",\"tags\":[]}",
+                JSON.toJSONString(user, MASK));
+
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("phone", "13812345678");
+        map.put("user", user);
+        assertEquals("{\"phone\":\"138****5678\",\"user\":{\"name\":\"张三\",\"phone\":\"138****5678\","
+                + "\"idCard\":\"110****1234\",\"tags\":[]}}", JSON.toJSONString(map, MASK));
+
+        JSONObject object = JSON.parseObject("{\"phone\":\"13812345678\",\"inner\":{\"idCard\":\"110101199001011234\"}}");
+        assertEquals("{\"phone\":\"138****5678\",\"inner\":{\"idCard\":\"110****1234\"}}", JSON.toJSONString(object, MASK));
+        // 不修改原对象
+        assertEquals("13812345678", object.getString("phone"));
+        assertEquals("13812345678", user.phone);
+    }
+
+    @Test
+    public void propertyAndNameFilters() {
+        User user = new User();
+        user.name = "张三";
+        user.phone = "13812345678";
+        PropertyFilter noPhone = new PropertyFilter() {
+            @Override
+            public boolean apply(Object object, String name, Object value) {
+                return !"phone".equals(name);
+            }
+        };
+        NameFilter upper = new NameFilter() {
+            @Override
+            public String process(Object object, String name, Object value) {
+                return name.toUpperCase();
+            }
+        };
+        assertEquals("{\"NAME\":\"张三\",\"TAGS\":[]}", JSON.toJSONString(user, noPhone, upper));
+
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("phone", "1");
+        map.put("name", "a");
+        assertEquals("{\"NAME\":\"a\"}", JSON.toJSONString(map, noPhone, upper));
+    }
+
+    /**
+     * 过滤器输出的值同样遵循@JsonInclude，直通的过滤器不改变输出
+     */
+    @Test
+    public void jsonInclude() {
+        User user = new User();
+        user.name = "张三";
+        user.tags = Collections.emptyList();
+        String expected = JSON.toJSONString(user);
+        assertEquals("{\"name\":\"张三\",\"tags\":[]}", expected);
+        assertEquals(expected, JSON.toJSONString(user, PASS));
+
+        Profile profile = new Profile();
+        profile.nickname = "nick";
+        profile.tags = Arrays.asList("a");
+        ValueFilter blank = new ValueFilter() {
+            @Override
+            public Object process(Object object, String name, Object value) {
+                if ("nickname".equals(name)) {
+                    return "";
+                }
+                return "tags".equals(name) ? Collections.emptyList() : value;
+            }
+        };
+        // NON_EMPTY的字段被替换为空值后不输出
+        assertEquals("{}", JSON.toJSONString(profile, blank));
+        assertEquals("{\"nickname\":\"nick\",\"tags\":[\"a\"]}", JSON.toJSONString(profile, PASS));
+    }
+
+    /**
+     * Map的key仍使用jackson的key序列化器，内容的省略规则不变
+     */
+    @Test
+    public void mapKeysAndContent() {
+        Map<Date, Integer> dates = new TreeMap<Date, Integer>();
+        dates.put(new Date(0), 1);
+        assertEquals(JSON.toJSONString(dates), JSON.toJSONString(dates, PASS));
+
+        Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put(1, "a");
+        map.put("none", null);
+        assertEquals(JSON.toJSONString(map), JSON.toJSONString(map, PASS));
+    }
+
+    @Test
+    public void unwrapped() {
+        Order order = new Order();
+        order.id = 1;
+        order.buyer = new User();
+        order.buyer.name = "张三";
+        order.buyer.phone = "13812345678";
+        // 展开后的字段以输出的名称交给过滤器
+        ValueFilter mask = new ValueFilter() {
+            @Override
+            public Object process(Object object, String name, Object value) {
+                return "buyer_phone".equals(name) ? MASK.process(object, "phone", value) : value;
+            }
+        };
+        assertEquals("{\"id\":1,\"buyer_name\":\"张三\",\"buyer_phone\":\"138****5678\",\"buyer_tags\":[]}",
+                JSON.toJSONString(order, mask));
+        assertEquals(JSON.toJSONString(order), JSON.toJSONString(order, PASS));
+        PropertyFilter noBuyer = new PropertyFilter() {
+            @Override
+            public boolean apply(Object object, String name, Object value) {
+                return !"buyer".equals(name);
+            }
+        };
+        assertEquals("{\"id\":1}", JSON.toJSONString(order, noBuyer));
+        PropertyFilter noPhone = new PropertyFilter() {
+            @Override
+            public boolean apply(Object object, String name, Object value) {
+                return !"buyer_phone".equals(name);
+            }
+        };
+        assertEquals("{\"id\":1,\"buyer_name\":\"张三\",\"buyer_tags\":[]}", JSON.toJSONString(order, noPhone));
+    }
+
+    /**
+     * 过滤器只注册在共享ObjectMapper的副本上
+     */
+    @Test
+    public void defaultMapperUntouched() {
+        assertFalse(JSON.mapper().getRegisteredModuleIds().contains("json-facade-filter"));
+        JSON.toJSONString(new User(), MASK);
+        assertFalse(JSON.mapper().getRegisteredModuleIds().contains("json-facade-filter"));
+    }
+
+    public static class User {
+        public String name;
+        public String phone;
+        public String idCard;
+        public List<String> tags = Collections.emptyList();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class Profile {
+        public String nickname;
+        public List<String> tags;
+    }
+
+    public static class Order {
+        public long id;
+        @JsonUnwrapped(prefix = "buyer_")
+        public User buyer;
+    }
+}
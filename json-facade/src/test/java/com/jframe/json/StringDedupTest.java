@@ -0,0 +1,116 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * 字符串值去重在jackson与SWAR两种内核上的实例共享、字段过滤、长度限制与节省字节数的估算
+ * @author jiangjian45
+ * Created at 2026/10/24 11:00
+ */
+public class StringDedupTest {
+    private static final Engine[] ENGINES = {Engine.JACKSON, Engine.SWAR};
+    private static final String ORDERS = "[{\"status\":\"PAID\",\"currency\":\"CNY\",\"memo\":\"first order\"},"
+            + "{\"status\":\"PAID\",\"currency\":\"CNY\",\"memo\":\"first order\"}]";
+
+    @Test
+    public void sharesInstances() {
+        for (Engine engine : ENGINES) {
+            StringDedup dedup = new StringDedup();
+            JSONArray orders = parse(engine, dedup, ORDERS);
+            for (String field : new String[]{"status", "currency", "memo"}) {
+                assertSame(engine + " " + field, orders.getJSONObject(0).getString(field),
+                        orders.getJSONObject(1).getString(field));
+            }
+            // 数组元素同样去重，表在多次解析之间共享
+            JSONArray tags = parse(engine, dedup, "[\"PAID\",\"PAID\"]");
+            assertSame(engine.name(), orders.getJSONObject(0).getString("status"), tags.getString(0));
+            assertSame(engine.name(), tags.getString(0), tags.getString(1));
+            assertEquals(engine.name(), 5, dedup.stats().getHits());
+            assertEquals(engine.name(), 3, dedup.stats().getMisses());
+            assertEquals(engine.name(), 3, dedup.stats().getSize());
+
+            dedup.clear();
+            assertEquals(engine.name(), 0, dedup.stats().getSize());
+        }
+    }
+
+    @Test
+    public void fieldFilter() {
+        for (Engine engine : ENGINES) {
+            StringDedup dedup = new StringDedup(64, 32, "status");
+            JSONArray orders = parse(engine, dedup, ORDERS);
+            assertSame(engine.name(), orders.getJSONObject(0).getString("status"), orders.getJSONObject(1).getString("status"));
+            assertNotSame(engine.name(), orders.getJSONObject(0).getString("currency"),
+                    orders.getJSONObject(1).getString("currency"));
+            // 限定字段时数组元素没有字段名，不去重
+            JSONArray tags = parse(engine, dedup, "[\"PAID\",\"PAID\"]");
+            assertNotSame(engine.name(), tags.getString(0), tags.getString(1));
+            assertEquals(engine.name(), 1, dedup.stats().getHits());
+            assertEquals(engine.name(), 1, dedup.stats().getSize());
+        }
+    }
+
+    @Test
+    public void lengthLimit() {
+        for (Engine engine : ENGINES) {
+            StringDedup dedup = new StringDedup(64, 4);
+            JSONArray orders = parse(engine, dedup, ORDERS);
+            assertSame(engine.name(), orders.getJSONObject(0).getString("status"), orders.getJSONObject(1).getString("status"));
+            assertNotSame(engine.name(), orders.getJSONObject(0).getString("memo"), orders.getJSONObject(1).getString("memo"));
+            assertEquals(engine.name(), 2, dedup.stats().getSize());
+        }
+    }
+
+    /**
+     * Java 8的String为char[]，9及以上为紧凑存储，含中文的String按UTF-16存储
+     */
+    @Test
+    public void savedBytes() {
+        boolean compact = !System.getProperty("java.specification.version").startsWith("1.");
+        StringDedup dedup = new StringDedup();
+        String value = "abcdefghij";
+        dedup.dedup("status", value);
+        dedup.dedup("status", new String(value));
+        // String 24字节，数组对象头16字节加内容后按8字节对齐
+        assertEquals(compact ? 24 + 32 : 24 + 40, dedup.stats().getSavedBytes());
+
+        dedup = new StringDedup();
+        value = "已支付已支付已支付已";
+        dedup.dedup("status", value);
+        dedup.dedup("status", new String(value));
+        assertEquals(24 + 40, dedup.stats().getSavedBytes());
+    }
+
+    @Test
+    public void invalidArguments() {
+        try {
+            new StringDedup(0, 32);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+        try {
+            new StringDedup(16, 32, (String[]) null);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+    }
+
+    private static JSONArray parse(Engine engine, StringDedup dedup, String text) {
+        StringDedup previous = JSON.getStringDedup();
+        JSON.setStringDedup(dedup);
+        try {
+            return engine.parseArray(text.getBytes(StandardCharsets.UTF_8), Concurrency.NONE, null);
+        } finally {
+            JSON.setStringDedup(previous);
+        }
+    }
+}
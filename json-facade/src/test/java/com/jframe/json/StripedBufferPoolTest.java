@@ -0,0 +1,160 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * 分段缓冲区池的命中、未命中、归还与丢弃统计，以及并发下同一缓冲区不会同时分配给两个线程
+ * @author jiangjian45
+ * Created at 2026/10/24 19:00
+ */
+public class StripedBufferPoolTest {
+
+    @Test
+    public void hitsAndMisses() {
+        StripedBufferPool pool = new StripedBufferPool(1, 2, 1024);
+        assertNull(pool.allocBytes(0, 100));
+        byte[] bytes = new byte[512];
+        pool.releaseBytes(0, bytes);
+        // 长度不够或slot不同时不命中
+        assertNull(pool.allocBytes(0, 1000));
+        assertNull(pool.allocBytes(1, 100));
+        assertSame(bytes, pool.allocBytes(0, 512));
+        assertNull(pool.allocBytes(0, 100));
+
+        char[] chars = new char[256];
+        pool.releaseChars(3, chars);
+        assertNull(pool.allocChars(2, 10));
+        assertSame(chars, pool.allocChars(3, 10));
+
+        BufferPoolStats stats = pool.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(5, stats.getMisses());
+        assertEquals(2, stats.getReleases());
+        assertEquals(0, stats.getDrops());
+        assertEquals(2D / 7, stats.getHitRate(), 0D);
+    }
+
+    @Test
+    public void drops() {
+        StripedBufferPool pool = new StripedBufferPool(1, 2, 1024);
+        // 每个slot最多保留2个
+        pool.releaseBytes(0, new byte[16]);
+        pool.releaseBytes(0, new byte[16]);
+        pool.releaseBytes(0, new byte[16]);
+        // 超过maxBufferSize、越界的slot与null不回收
+        pool.releaseBytes(1, new byte[1025]);
+        pool.releaseChars(1, new char[2048]);
+        pool.releaseBytes(8, new byte[16]);
+        pool.releaseChars(-1, new char[16]);
+        pool.releaseBytes(0, null);
+        assertEquals(2, pool.stats().getReleases());
+        assertEquals(6, pool.stats().getDrops());
+        assertNull(pool.allocBytes(1, 1));
+        assertNull(pool.allocBytes(8, 1));
+        assertEquals(2, pool.stats().getMisses());
+        assertEquals(0, pool.stats().getHits());
+    }
+
+    @Test
+    public void invalidArguments() {
+        for (int[] args : new int[][]{{0, 1, 1}, {1, 0, 1}, {1, 1, 0}, {-1, 2, 1024}}) {
+            try {
+                new StripedBufferPool(args[0], args[1], args[2]);
+                fail();
+            } catch (IllegalArgumentException expected) {
+                // 预期的失败
+            }
+        }
+    }
+
+    /**
+     * 多个线程反复取出、归还，同一个缓冲区在归还前不会再次分配
+     */
+    @Test
+    public void exclusiveOwnership() throws Exception {
+        final StripedBufferPool pool = new StripedBufferPool(2, 2, 1024);
+        final Set<Object> inUse = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+        final AtomicBoolean shared = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int i = 0; i < 20000; i++) {
+                            byte[] buffer = pool.allocBytes(0, 64);
+                            if (buffer == null) {
+                                buffer = new byte[64];
+                            }
+                            if (!inUse.add(buffer)) {
+                                shared.set(true);
+                            }
+                            inUse.remove(buffer);
+                            pool.releaseBytes(0, buffer);
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(shared.get());
+        BufferPoolStats stats = pool.stats();
+        assertEquals(8 * 20000, stats.getHits() + stats.getMisses());
+        assertEquals(8 * 20000, stats.getReleases() + stats.getDrops());
+        assertTrue(stats.toString(), stats.getHits() > 0);
+    }
+
+    /**
+     * 替换为新的池后，解析与序列化从池中复用缓冲区
+     */
+    @Test
+    public void usedByJSON() {
+        BufferPool previous = JSON.getBufferPool();
+        StripedBufferPool pool = new StripedBufferPool(1, 2, 64 * 1024);
+        JSON.setBufferPool(pool);
+        try {
+            assertSame(pool, JSON.getBufferPool());
+            String text = "{\"a\":[1,2,3],\"b\":\"x\"}";
+            for (int i = 0; i < 10; i++) {
+                assertEquals(JSON.parseObject(text), JSON.parseObject(JSON.toJSONString(JSON.parseObject(text))));
+            }
+            BufferPoolStats stats = pool.stats();
+            assertTrue(stats.toString(), stats.getHits() > 0);
+            assertTrue(stats.toString(), stats.getReleases() > 0);
+        } finally {
+            JSON.setBufferPool(previous);
+        }
+    }
+}
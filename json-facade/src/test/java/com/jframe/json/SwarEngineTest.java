@@ -0,0 +1,180 @@
+package com.jframe.json;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * SWAR内核与jackson内核的差分测试，结果与异常信息必须一致
+ * @author jiangjian45
+ * Created at 2026/10/21 17:00
+ */
+public class SwarEngineTest {
+    private static final String[] STRINGS = {
+            "", "a", "abcdefgh", "abcdefghi", "中文", "😀 emoji", "tab\there", "quote\\\"inside", "back\\\\slash",
+            "slash\\/", "\\u4e2d\\u6587", "\\ud83d\\ude00", "\\b\\f\\n\\r\\t", "{[:,]}", "\\\\\\\"", "\u0001raw"
+    };
+
+    private static final String[] NUMBERS = {
+            "0", "-0", "1", "-1", "2147483647", "2147483648", "-2147483648", "-2147483649", "9223372036854775807",
+            "9223372036854775808", "-9223372036854775808", "123456789012345678901234567890", "0.5", "-0.0", "12.50",
+            "1e5", "1E-5", "-1.25e+10", "3.141592653589793238462643383279"
+    };
+
+    @Test
+    public void randomDocuments() {
+        Random random = new Random(20261021L);
+        for (int i = 0; i < 3000; i++) {
+            String object = randomObject(random, 0);
+            assertSameObject(object);
+            assertSameArray("[" + object + "," + randomValue(random, 1) + "]");
+        }
+    }
+
+    @Test
+    public void escapesAcrossWordBoundaries() {
+        String[] escapes = {"\\\"", "\\\\", "\\u0041", "\\n", "中", "\\\\\\\""};
+        for (String escape : escapes) {
+            for (int prefix = 0; prefix < 20; prefix++) {
+                StringBuilder sb = new StringBuilder("{\"");
+                for (int k = 0; k < prefix; k++) {
+                    sb.append('x');
+                }
+                sb.append(escape).append("\":\"").append(escape).append(",}]\",\"k\":[1,{\"a\":\"\\\\\"}]}");
+                assertSameObject(sb.toString());
+            }
+        }
+    }
+
+    @Test
+    public void lenientAndInvalidInput() {
+        String[] inputs = {
+                "{'a':1}", "{a:1}", "{\"a\":01}", "{\"a\":1,}", "{\"a\" 1}", "{\"a\":tru}", "{\"a\":nul}", "{\"a\":1.}",
+                "{\"a\":.5}", "{\"a\":-}", "{\"a\":\"\\x\"}", "{\"a\":\"unterminated}", "{\"a\":[1,2}", "{\"a\":1}tail",
+                "{\"a\":1} {\"b\":2}", "null", "[]", "  {}  ", "{ }", "{\"a\":NaN}", "{\"a\":1 2}", "{\"a\":/*c*/1}",
+                "\ufeff{\"a\":1}", "{\"a\":\"\\u12\"}", "{\"a\":[,]}", "{\"a\":{\"b\":}}", "{,}", "", "   ", "{\"\":\"\"}"
+        };
+        for (String input : inputs) {
+            assertSameOutcome(input, true);
+            assertSameOutcome(input, false);
+        }
+    }
+
+    @Test
+    public void lazyNumberAndConcurrency() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 500; i++) {
+            String text = randomObject(random, 0);
+            Feature[] lazy = {Feature.LAZY_NUMBER};
+            assertEquals(JSON.toJSONString(Engine.JACKSON.parseObject(text, Concurrency.NONE, lazy)),
+                    JSON.toJSONString(Engine.SWAR.parseObject(text, Concurrency.NONE, lazy)));
+            assertEquals(Engine.JACKSON.parseObject(text, Concurrency.CONCURRENT, null),
+                    Engine.SWAR.parseObject(text, Concurrency.CONCURRENT, null));
+        }
+    }
+
+    @Test
+    public void globalEngine() {
+        String text = "{\"a\":[1,2.5,\"x\"],\"b\":{\"c\":null}}";
+        Engine previous = JSON.getEngine();
+        try {
+            JSON.setEngine(Engine.SWAR);
+            assertEquals(Engine.JACKSON.parseObject(text, Concurrency.NONE, null), JSON.parseObject(text));
+            assertEquals(Engine.JACKSON.parseObject(text, Concurrency.NONE, null),
+                    JSON.parseObject(text.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            JSON.setEngine(previous);
+        }
+    }
+
+    private static void assertSameObject(String text) {
+        JSONObject expected = Engine.JACKSON.parseObject(text, Concurrency.NONE, null);
+        assertEquals(text, expected, Engine.SWAR.parseObject(text, Concurrency.NONE, null));
+        assertEquals(text, expected, Engine.SWAR.parseObject(text.getBytes(StandardCharsets.UTF_8), Concurrency.NONE, null));
+    }
+
+    private static void assertSameArray(String text) {
+        JSONArray expected = Engine.JACKSON.parseArray(text, Concurrency.NONE, null);
+        assertEquals(text, expected, Engine.SWAR.parseArray(text, Concurrency.NONE, null));
+        assertEquals(text, expected, Engine.SWAR.parseArray(text.getBytes(StandardCharsets.UTF_8), Concurrency.NONE, null));
+    }
+
+    private static void assertSameOutcome(String text, boolean object) {
+        Object expected;
+        try {
+            expected = object ? Engine.JACKSON.parseObject(text, Concurrency.NONE, null)
+                    : Engine.JACKSON.parseArray(text, Concurrency.NONE, null);
+        } catch (RuntimeException e) {
+            try {
+                Object actual = object ? Engine.SWAR.parseObject(text, Concurrency.NONE, null)
+                        : Engine.SWAR.parseArray(text, Concurrency.NONE, null);
+                fail(text + " should fail with " + e.getMessage() + " but was " + actual);
+            } catch (RuntimeException actual) {
+                assertEquals(text, e.getMessage(), actual.getMessage());
+            }
+            return;
+        }
+        Object actual = object ? Engine.SWAR.parseObject(text, Concurrency.NONE, null)
+                : Engine.SWAR.parseArray(text, Concurrency.NONE, null);
+        assertEquals(text, expected, actual);
+    }
+
+    private static String randomObject(Random random, int depth) {
+        StringBuilder sb = new StringBuilder("{");
+        int size = random.nextInt(depth == 0 ? 8 : 4);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(space(random)).append('"').append(STRINGS[random.nextInt(STRINGS.length)]).append(i).append('"')
+                    .append(space(random)).append(':').append(space(random)).append(randomValue(random, depth + 1))
+                    .append(space(random));
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String randomValue(Random random, int depth) {
+        int type = random.nextInt(depth > 4 ? 5 : 7);
+        switch (type) {
+            case 0:
+                return '"' + STRINGS[random.nextInt(STRINGS.length)] + '"';
+            case 1:
+                return NUMBERS[random.nextInt(NUMBERS.length)];
+            case 2:
+                return random.nextBoolean() ? "true" : "false";
+            case 3:
+                return "null";
+            case 4:
+                return String.valueOf(random.nextLong());
+            case 5:
+                return randomObject(random, depth);
+            default:
+                StringBuilder sb = new StringBuilder("[").append(space(random));
+                int size = random.nextInt(5);
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        sb.append(',').append(space(random));
+                    }
+                    sb.append(randomValue(random, depth + 1));
+                }
+                return sb.append(space(random)).append(']').toString();
+        }
+    }
+
+    private static String space(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return " ";
+            case 1:
+                return "\n\t";
+            case 2:
+                return "  \r\n ";
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.jframe.json;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * TypeUtils.cast及getObject、toJavaObject、toJavaList的直接转换：JavaBean、泛型集合、枚举、数组与大小写不敏感的key
+ * @author jiangjian45
+ * Created at 2026/10/24 10:00
+ */
+public class TypeUtilsTest {
+
+    @Test
+    public void bean() {
+        JSONObject object = JSON.parseObject("{\"id\":\"7\",\"name\":\"apple\",\"price\":1.5,\"color\":\"RED\","
+                + "\"tags\":[\"a\",\"b\"],\"scores\":[1,\"2\"],\"created\":\"2024-01-02 03:04:05\","
+                + "\"sizes\":{\"s\":1,\"m\":\"2\"},\"parts\":[{\"id\":1},{\"id\":2,\"name\":\"core\"}],\"unknown\":1}");
+        Item item = object.toJavaObject(Item.class);
+        assertEquals(7, item.id);
+        assertEquals("apple", item.getName());
+        assertEquals(new BigDecimal("1.5"), item.price);
+        assertEquals(Color.RED, item.color);
+        assertEquals(Arrays.asList("a", "b"), item.tags);
+        assertArrayEquals(new int[]{1, 2}, item.scores);
+        assertEquals(TypeUtils.castToDate("2024-01-02 03:04:05"), item.created);
+        Map<String, Integer> sizes = new LinkedHashMap<String, Integer>();
+        sizes.put("s", 1);
+        sizes.put("m", 2);
+        assertEquals(sizes, item.sizes);
+        assertEquals(2, item.parts.size());
+        assertEquals(2, item.parts.get(1).id);
+        assertEquals("core", item.parts.get(1).getName());
+
+        // 与jackson转换的结果一致
+        Item expected = JSON.parseObject(object.toJSONString(), Item.class);
+        assertEquals(JSON.toJSONString(expected), JSON.toJSONString(item));
+
+        JSONObject holder = new JSONObject();
+        holder.put("item", object);
+        assertEquals(JSON.toJSONString(expected), JSON.toJSONString(holder.getObject("item", Item.class)));
+        assertEquals(JSON.toJSONString(expected), JSON.toJSONString(TypeUtils.cast(object, Item.class)));
+    }
+
+    @Test
+    public void caseInsensitiveKeys() {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("ID", 3);
+        map.put("Name", "pear");
+        map.put("COLOR", "GREEN");
+        Item item = TypeUtils.cast(map, Item.class);
+        assertEquals(3, item.id);
+        assertEquals("pear", item.getName());
+        assertEquals(Color.GREEN, item.color);
+
+        // 字符串形式的数组只有直接绑定支持，用来确认没有回退到jackson
+        map.put("PARTS", "[{\"id\":4}]");
+        assertEquals(4, TypeUtils.cast(map, Item.class).parts.get(0).id);
+
+        // 土耳其语下"ID".toLowerCase()为"ıd"，属性名按Locale.ROOT转为小写
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            item = TypeUtils.cast(map, Item.class);
+            assertEquals(3, item.id);
+            assertEquals("pear", item.getName());
+            assertEquals(4, item.parts.get(0).id);
+            assertEquals("t", TypeUtils.cast(Collections.singletonMap("TITLE", "t"), Titled.class).title);
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void genericCollections() {
+        JSONArray array = JSON.parseArray("[{\"id\":1},{\"id\":\"2\"}]");
+        List<Item> items = array.toJavaList(Item.class);
+        assertEquals(2, items.size());
+        assertEquals(2, items.get(1).id);
+
+        List<Long> longs = TypeUtils.cast(JSON.parseArray("[1,\"2\",3.0]"), new TypeReference<List<Long>>() {
+        }.getType());
+        assertEquals(Arrays.asList(1L, 2L, 3L), longs);
+
+        Set<Color> colors = TypeUtils.cast(Arrays.asList("RED", 1, "RED"), new TypeReference<Set<Color>>() {
+        }.getType());
+        assertTrue(colors instanceof LinkedHashSet);
+        assertEquals(new LinkedHashSet<Color>(Arrays.asList(Color.RED, Color.GREEN)), colors);
+
+        JSONObject object = JSON.parseObject("{\"groups\":{\"b\":[{\"id\":1}],\"a\":[]}}");
+        Map<String, List<Item>> groups = object.getObject("groups", new TypeReference<TreeMap<String, List<Item>>>() {
+        });
+        assertEquals(Arrays.asList("a", "b"), Arrays.asList(groups.keySet().toArray()));
+        assertEquals(1, groups.get("b").get(0).id);
+        assertEquals(Collections.emptyList(), groups.get("a"));
+
+        Map<Integer, Date> dates = TypeUtils.cast(JSON.parseObject("{\"1\":0}"), new TypeReference<Map<Integer, Date>>() {
+        }.getType());
+        assertEquals(new Date(0), dates.get(1));
+
+        // JSONArray的元素转换为JSON类型时返回原对象
+        JSONArray nested = JSON.parseArray("[[1],{\"a\":1}]");
+        assertSame(nested.get(0), nested.getObject(0, JSONArray.class));
+        assertSame(nested.get(1), nested.getObject(1, JSONObject.class));
+    }
+
+    @Test
+    public void enums() {
+        assertEquals(Color.GREEN, TypeUtils.cast("GREEN", Color.class));
+        assertEquals(Color.GREEN, TypeUtils.cast(1, Color.class));
+        assertNull(TypeUtils.cast("", Color.class));
+        // 带@JsonProperty的枚举按jackson的写法转换
+        assertEquals(Size.LARGE, TypeUtils.cast("L", Size.class));
+        try {
+            TypeUtils.cast("BLUE", Color.class);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // 预期的失败
+        }
+    }
+
+    @Test
+    public void arrays() {
+        assertArrayEquals(new int[]{1, 2, 0}, TypeUtils.cast(Arrays.asList(1, "2", null), int[].class));
+        assertArrayEquals(new String[]{"a", "1"}, TypeUtils.cast(JSON.parseArray("[\"a\",1]"), String[].class));
+        assertArrayEquals(new long[]{5}, TypeUtils.cast(5, long[].class));
+        assertArrayEquals(new Integer[]{1, 2}, TypeUtils.cast("[1,2]", Integer[].class));
+        Color[][] colors = TypeUtils.cast(JSON.parseArray("[[\"RED\"],[0,1]]"), Color[][].class);
+        assertArrayEquals(new Color[][]{{Color.RED}, {Color.RED, Color.GREEN}}, colors);
+        List<Item>[] lists = TypeUtils.cast(JSON.parseArray("[[{\"id\":1}]]"), new TypeReference<List<Item>[]>() {
+        }.getType());
+        assertEquals(1, lists[0].get(0).id);
+    }
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    public enum Size {
+        @JsonProperty("S")
+        SMALL,
+        @JsonProperty("L")
+        LARGE
+    }
+
+    public static class Item {
+        public int id;
+        private String name;
+        public BigDecimal price;
+        public Color color;
+        public List<String> tags;
+        public int[] scores;
+        public Date created;
+        public Map<String, Integer> sizes;
+        public List<Item> parts;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Titled {
+        public String title;
+    }
+}